@@ -0,0 +1,60 @@
+package com.tjg_project.candy.benchmark;
+
+import com.tjg_project.candy.domain.excel.dto.ConversionExcelRow;
+import com.tjg_project.candy.domain.excel.dto.ForecastExcelRow;
+import com.tjg_project.candy.domain.excel.service.ExcelExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엑셀 생성 (/excel/conversion, /excel/forecast) — 행 수별 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExcelExportBenchmark {
+
+	@Param({"10", "1000", "10000"})
+	int rows;
+
+	private final ExcelExportService excelExportService = new ExcelExportService();
+
+	private List<ConversionExcelRow> conversionRows;
+	private List<ForecastExcelRow> forecastRows;
+
+	@Setup
+	public void setUp() {
+		conversionRows = new ArrayList<>(rows);
+		forecastRows = new ArrayList<>(rows);
+		LocalDate day = LocalDate.of(2025, 1, 1);
+		for (int i = 0; i < rows; i++) {
+			ConversionExcelRow c = new ConversionExcelRow();
+			c.setProductName("상품" + i);
+			c.setClicks(100 + i % 900);
+			c.setOrders(i % 100);
+			c.setConversionRate((i % 100) * 100.0 / (100 + i % 900));
+			conversionRows.add(c);
+
+			ForecastExcelRow f = new ForecastExcelRow();
+			f.setType(i % 2 == 0 ? "실제" : "예측");
+			f.setDate(day.plusDays(i).toString());
+			f.setValue(i % 50);
+			forecastRows.add(f);
+		}
+	}
+
+	@Benchmark
+	public byte[] conversionWorkbook() throws IOException {
+		return excelExportService.conversionWorkbook(conversionRows);
+	}
+
+	@Benchmark
+	public byte[] forecastWorkbook() throws IOException {
+		return excelExportService.forecastWorkbook(forecastRows);
+	}
+}
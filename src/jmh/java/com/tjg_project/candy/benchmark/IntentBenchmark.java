@@ -0,0 +1,31 @@
+package com.tjg_project.candy.benchmark;
+
+import com.tjg_project.candy.domain.chatBot.service.IntentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 챗봇 의도 분류 (메시지 1건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntentBenchmark {
+
+	@Param({
+			"내 주문 조회해줘",
+			"배송 언제 도착해요?",
+			"반품하고 싶어요",
+			"간식 추천해줘",
+			"안녕하세요 오늘 날씨가 좋네요 그냥 이야기하고 싶어서요"
+	})
+	String message;
+
+	private final IntentService intentService = new IntentService();
+
+	@Benchmark
+	public String classify() {
+		return intentService.classify(message);
+	}
+}
@@ -0,0 +1,57 @@
+package com.tjg_project.candy.benchmark;
+
+import com.tjg_project.candy.global.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 / 사용자 id 추출 (요청마다 JwtFilter 에서 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+	private JwtUtil jwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil("MySuperSecretkeyForJwtGeneration123456");
+		token = jwtUtil.generateAccessToken(12345L);
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return jwtUtil.generateAccessToken(12345L);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtUtil.validateToken(token);
+	}
+
+	@Benchmark
+	public Long extractUserId() {
+		return jwtUtil.extractUserId(token);
+	}
+
+	// 예전 JwtFilter 흐름 (검증 후 id 추출 → 파싱 2번)
+	@Benchmark
+	public Long validateThenExtract() {
+		return jwtUtil.validateToken(token) ? jwtUtil.extractUserId(token) : null;
+	}
+
+	// 파싱 1번
+	@Benchmark
+	public Object parseAndValidate() {
+		return jwtUtil.parseAndValidate(token).get("id", Long.class);
+	}
+
+	// 현재 JwtFilter 흐름 (같은 토큰 반복 → 검증 캐시 적중)
+	@Benchmark
+	public Long authenticateCached() {
+		return jwtUtil.authenticate(token);
+	}
+}
@@ -0,0 +1,74 @@
+package com.tjg_project.candy.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tjg_project.candy.domain.order.entity.DeliveryStatus;
+import com.tjg_project.candy.domain.order.entity.Order;
+import com.tjg_project.candy.domain.order.entity.OrderDetail;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 JSON 직렬화 (/order 응답: Order + orderDetails)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderJsonBenchmark {
+
+	@Param({"1", "20"})
+	int orders;
+
+	@Param({"1", "10"})
+	int linesPerOrder;
+
+	private ObjectMapper objectMapper;
+	private List<Order> payload;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper()
+				.registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+		payload = new ArrayList<>(orders);
+		for (int o = 0; o < orders; o++) {
+			Order order = Order.builder()
+					.id((long) o)
+					.orderCode("order-" + o)
+					.upk(1L)
+					.totalAmount(10_000 * linesPerOrder)
+					.shippingFee(3_000)
+					.receiverName("홍길동")
+					.receiverPhone("010-0000-0000")
+					.zipcode("12345")
+					.address1("서울시 어딘가")
+					.address2("101호")
+					.odate(LocalDateTime.of(2025, 1, 1, 12, 0))
+					.deliveryStatus(DeliveryStatus.READY)
+					.tid("T" + o)
+					.build();
+			for (int l = 0; l < linesPerOrder; l++) {
+				order.addOrderDetail(OrderDetail.builder()
+						.id((long) (o * 100 + l))
+						.ppk((long) l)
+						.productName("상품" + l)
+						.qty(1 + l % 3)
+						.price(10_000)
+						.build());
+			}
+			payload.add(order);
+		}
+	}
+
+	@Benchmark
+	public String serializeOrders() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(payload);
+	}
+}
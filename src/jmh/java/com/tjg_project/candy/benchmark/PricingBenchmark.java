@@ -0,0 +1,46 @@
+package com.tjg_project.candy.benchmark;
+
+import com.tjg_project.candy.domain.analytics.dto.ProductPricingStatsDto;
+import com.tjg_project.candy.domain.analytics.service.PricingCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 탄력성 계산 (PricingAnalyticsService 전체 상품 분석의 상품당 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PricingBenchmark {
+
+	@Param({"1000", "10000"})
+	int products;
+
+	private int[] prices;
+	private long[] clicks;
+	private long[] orders;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		prices = new int[products];
+		clicks = new long[products];
+		orders = new long[products];
+		for (int i = 0; i < products; i++) {
+			prices[i] = 1_000 + random.nextInt(50_000);
+			clicks[i] = random.nextInt(10_000);
+			orders[i] = clicks[i] == 0 ? 0 : random.nextLong(clicks[i] + 1);
+		}
+	}
+
+	@Benchmark
+	public void calculateAll(Blackhole bh) {
+		for (int i = 0; i < products; i++) {
+			ProductPricingStatsDto dto = PricingCalculator.calculate((long) i, "상품" + i, prices[i], clicks[i], orders[i]);
+			bh.consume(dto);
+		}
+	}
+}
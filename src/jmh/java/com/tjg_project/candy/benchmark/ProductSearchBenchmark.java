@@ -0,0 +1,64 @@
+package com.tjg_project.candy.benchmark;
+
+import com.tjg_project.candy.domain.product.dto.ProductSearchDocument;
+import com.tjg_project.candy.domain.product.dto.ProductSearchFilter;
+import com.tjg_project.candy.domain.product.service.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 검색 색인 (/product/search 한 번의 비용, 상품 10만 개 기준)
+ * - SampleTime 으로 p99 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+	private static final String[] BRANDS = {"오리온", "롯데", "농심", "해태", "크라운", "빙그레", "오뚜기"};
+	private static final String[] WORDS = {"초코", "딸기", "바닐라", "아몬드", "새우", "감자", "고구마", "허니", "버터",
+			"치즈", "카라멜", "녹차", "쿠키", "파이", "칩", "스낵", "젤리", "캔디", "웨하스", "크림"};
+	private static final String[] CATEGORIES = {"과자", "스낵", "파이", "초콜릿", "젤리", "사탕"};
+	private static final String[] QUERIES = {"초코파이", "ㅊㅋ", "쵸코", "허니버터칩", "딸기 젤리", "아몬드", "롯데 쿠키"};
+
+	@Param({"100000"})
+	int products;
+
+	private ProductSearchIndex index;
+	private ProductSearchFilter hotDeal;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		List<ProductSearchDocument> docs = new ArrayList<>(products);
+		for (int i = 1; i <= products; i++) {
+			String name = WORDS[random.nextInt(WORDS.length)] + WORDS[random.nextInt(WORDS.length)] + " " + i;
+			String description = WORDS[random.nextInt(WORDS.length)] + " 맛이 나는 " + WORDS[random.nextInt(WORDS.length)]
+					+ " 과자입니다. 간식으로 좋아요";
+			int dc = random.nextInt(4) == 0 ? 10 + random.nextInt(40) : 0;
+			docs.add(new ProductSearchDocument((long) i, "P" + i, null, BRANDS[random.nextInt(BRANDS.length)], name,
+					1_000 + random.nextInt(20_000), dc, 100, dc > 0, false, LocalDate.of(2025, 1, 1),
+					(long) random.nextInt(CATEGORIES.length), description, CATEGORIES[random.nextInt(CATEGORIES.length)]));
+		}
+		index = new ProductSearchIndex(300);
+		index.upsertAll(docs);
+		hotDeal = new ProductSearchFilter(null, null, null, true, null, null);
+	}
+
+	@Benchmark
+	public void search(Blackhole bh) {
+		bh.consume(index.search(QUERIES[next++ % QUERIES.length], null, 0, 20));
+	}
+
+	@Benchmark
+	public void searchHotDeal(Blackhole bh) {
+		bh.consume(index.search(QUERIES[next++ % QUERIES.length], hotDeal, 0, 20));
+	}
+}
@@ -14,6 +14,7 @@ public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
 
+    // 상품별 조회수(재조회 포함) 대비 구매 수량
     @GetMapping("/conversion")
     public List<ConversionRateDto> getConversionRates() {
         return analyticsService.getConversionRates();
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -23,10 +24,11 @@ public class PricingAnalyticsController {
         return pricingAnalyticsService.getStats(ppk);
     }
 
-    // ⭐ 전체 상품 분석 추가
+    // ⭐ 전체 상품 분석 추가 (parallel=true 면 계산을 병렬로)
     @GetMapping("/all")
-    public List<ProductPricingStatsDto> getAllProductStats() {
-        return pricingAnalyticsService.getAllStats();
+    public List<ProductPricingStatsDto> getAllProductStats(
+            @RequestParam(value = "parallel", defaultValue = "false") boolean parallel) {
+        return pricingAnalyticsService.getAllStats(parallel);
     }
 }
 
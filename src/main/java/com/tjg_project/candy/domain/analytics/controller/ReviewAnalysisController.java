@@ -2,21 +2,46 @@ package com.tjg_project.candy.domain.analytics.controller;
 
 import com.tjg_project.candy.domain.analytics.dto.ReviewAnalysisDto;
 import com.tjg_project.candy.domain.analytics.service.ReviewAnalysisService;
+import com.tjg_project.candy.domain.analytics.service.ReviewSentimentIndexer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/admin/reviews")
 @RequiredArgsConstructor
 public class ReviewAnalysisController {
 
     private final ReviewAnalysisService reviewAnalysisService;
+    private final ReviewSentimentIndexer reviewSentimentIndexer;
 
     @GetMapping("/analysis/{ppk}")
     public ReviewAnalysisDto analyze(@PathVariable Long ppk) {
         return reviewAnalysisService.analyzeReviews(ppk);
     }
+
+    // ✅ 증분 분석 진행 상황 (마지막 리뷰 id, 분석 / LLM 보강 건수)
+    @GetMapping("/analysis/index")
+    public Map<String, Object> indexStatus() {
+        return reviewSentimentIndexer.stats();
+    }
+
+    // ✅ 전체 재분석 (사전 변경, 리뷰 수정·삭제 반영), 관리자 전용
+    // 백그라운드 실행 → 바로 202, 진행 상황은 /analysis/index (실행 중이면 409)
+    @PostMapping("/analysis/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        try {
+            reviewSentimentIndexer.startRebuild();
+            return ResponseEntity.accepted().body(reviewSentimentIndexer.stats());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("status", "fail", "message", e.getMessage()));
+        }
+    }
 }
@@ -3,13 +3,18 @@ package com.tjg_project.candy.domain.analytics.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+/**
+ * 상품별 전환율 = 구매 수량 / 조회수 × 100
+ * clicks 는 상품 상세 조회수 합계 (같은 사용자가 다시 본 것도 포함, 가격 분석의 clicks 와 같은 기준)
+ * → 이전에는 상품을 본 사용자 수였으므로 같은 상품이라도 값이 더 크고 전환율은 더 낮게 나온다.
+ */
 @Data
 @AllArgsConstructor
 public class ConversionRateDto {
 
     private Long ppk;            // 상품 PK
     private String productName;  // 상품명
-    private long clicks;         // 클릭 수
+    private long clicks;         // 조회수 (재조회 포함)
     private long orders;         // 구매 수
     private double conversionRate;
 
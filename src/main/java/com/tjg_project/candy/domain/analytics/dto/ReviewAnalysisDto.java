@@ -2,6 +2,7 @@ package com.tjg_project.candy.domain.analytics.dto;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -14,5 +15,7 @@ public class ReviewAnalysisDto {
     private List<String> qualityIssues;   // 품질 관련 문제
     private int positiveCount;            // 긍정 개수
     private int negativeCount;            // 부정 개수
+    private int neutralCount;             // 중립 개수
+    private int reviewCount;              // 분석된 리뷰 수
+    private LocalDateTime updatedAt;      // 마지막으로 집계에 반영된 시각
 }
-
@@ -0,0 +1,30 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 작업별 진행 위치 (마지막으로 처리한 원본 id)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "metrics_watermark")
+public class MetricsWatermark {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    private Long lastId;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일별 집계 (조회수 / 판매수량 / 매출)
+ * - views: 상품 조회 시 바로 누적
+ * - units, revenue: ProductMetricsRollupService 가 order_detail 신규 행만 주기적으로 누적
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProductDailyMetricsId.class)
+@Table(name = "product_daily_metrics")
+public class ProductDailyMetrics {
+
+    @Id
+    private Long ppk;
+
+    @Id
+    private LocalDate day;
+
+    private long views;     // 조회수
+
+    private long units;     // 판매수량
+
+    private long revenue;   // 매출 (수량 * 단가)
+}
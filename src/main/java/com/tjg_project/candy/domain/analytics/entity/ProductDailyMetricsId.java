@@ -0,0 +1,17 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// product_daily_metrics 복합키 (ppk, day)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDailyMetricsId implements Serializable {
+    private Long ppk;
+    private LocalDate day;
+}
@@ -0,0 +1,32 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 키워드 언급 수 (키워드를 말한 리뷰 수)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProductReviewKeywordId.class)
+@Table(name = "product_review_keyword")
+public class ProductReviewKeyword {
+
+    @Id
+    private Long ppk;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ReviewKeywordKind kind;
+
+    @Id
+    @Column(length = 50)
+    private String keyword;
+
+    private long mentions;
+}
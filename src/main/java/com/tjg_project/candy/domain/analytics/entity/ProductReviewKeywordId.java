@@ -0,0 +1,17 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// product_review_keyword 복합키 (ppk, kind, keyword)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReviewKeywordId implements Serializable {
+    private Long ppk;
+    private ReviewKeywordKind kind;
+    private String keyword;
+}
@@ -0,0 +1,35 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 리뷰 감성 집계 (리뷰가 분석될 때마다 증분 누적)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "product_review_stats")
+public class ProductReviewStats {
+
+    @Id
+    private Long ppk;
+
+    @Column(length = 200)
+    private String productName;
+
+    private long reviewCount;
+
+    private long positiveCount;
+
+    private long negativeCount;
+
+    private long neutralCount;
+
+    private LocalDateTime updatedAt;
+}
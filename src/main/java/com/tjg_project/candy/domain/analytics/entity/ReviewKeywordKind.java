@@ -0,0 +1,7 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+public enum ReviewKeywordKind {
+    TASTE,      // 맛 키워드
+    POINT,      // 고객이 좋아한 포인트
+    ISSUE       // 품질 문제
+}
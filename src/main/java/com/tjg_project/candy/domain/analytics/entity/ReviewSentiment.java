@@ -0,0 +1,46 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 한 건 분석 결과 (ReviewSentimentIndexer 가 리뷰마다 한 번만 계산)
+ * - 키워드는 "달콤함,바삭함" 형식 문자열
+ * - source: lexicon (사전) | llm (사전으로 판단 못 한 리뷰를 GPT 로 보강)
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "review_sentiment", indexes = @Index(name = "idx_review_sentiment_ppk", columnList = "ppk"))
+public class ReviewSentiment {
+
+    @Id
+    private Long reviewId;
+
+    private Long ppk;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Sentiment sentiment;
+
+    private int score;              // 긍정 표 - 부정 표
+
+    @Column(columnDefinition = "text")
+    private String tasteKeywords;
+
+    @Column(columnDefinition = "text")
+    private String positivePoints;
+
+    @Column(columnDefinition = "text")
+    private String qualityIssues;
+
+    @Column(length = 10)
+    private String source;
+
+    private LocalDateTime analyzedAt;
+}
@@ -0,0 +1,7 @@
+package com.tjg_project.candy.domain.analytics.entity;
+
+public enum Sentiment {
+    POSITIVE,   // 긍정
+    NEGATIVE,   // 부정
+    NEUTRAL     // 중립 / 판단 불가
+}
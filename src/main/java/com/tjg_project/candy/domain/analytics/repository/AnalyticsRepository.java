@@ -4,21 +4,49 @@ import com.tjg_project.candy.domain.analytics.dto.ConversionRateDto;
 import com.tjg_project.candy.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface AnalyticsRepository extends JpaRepository<Product, Long> {
 
+    // ✅ 상품별 조회수 / 판매수량 (일별 집계 테이블 기준, 조회수는 재조회 포함 합계 → 가격 분석과 같은 기준)
     @Query("""
         SELECT new com.tjg_project.candy.domain.analytics.dto.ConversionRateDto(
             p.id,
             p.productName,
-            (SELECT COUNT(v) FROM UserViewLog v WHERE v.ppk = p.id),
-            (SELECT COALESCE(SUM(od.qty),0)
-               FROM OrderDetail od
-               WHERE od.ppk = p.id)
+            COALESCE(SUM(m.views), 0L),
+            COALESCE(SUM(m.units), 0L)
         )
         FROM Product p
+        LEFT JOIN ProductDailyMetrics m ON m.ppk = p.id
+        GROUP BY p.id, p.productName
+        ORDER BY p.id
     """)
     List<ConversionRateDto> getConversionRates();
+
+    // ✅ 가격 분석용 상품별 (ppk, product_name, price, clicks, orders) - 일별 집계 테이블 기준
+    @Query(value = """
+        SELECT p.id, p.product_name, p.price,
+               COALESCE(m.views, 0) AS clicks,
+               COALESCE(m.units, 0) AS orders
+        FROM product p
+        LEFT JOIN (
+            SELECT ppk, SUM(views) AS views, SUM(units) AS units
+            FROM product_daily_metrics
+            GROUP BY ppk
+        ) m ON m.ppk = p.id
+        ORDER BY p.id
+        """, nativeQuery = true)
+    List<Object[]> findAllPricingInputs();
+
+    // ✅ 단일 상품 (ppk, product_name, price, clicks, orders)
+    @Query(value = """
+        SELECT p.id, p.product_name, p.price,
+               (SELECT COALESCE(SUM(m.views), 0) FROM product_daily_metrics m WHERE m.ppk = p.id) AS clicks,
+               (SELECT COALESCE(SUM(m.units), 0) FROM product_daily_metrics m WHERE m.ppk = p.id) AS orders
+        FROM product p
+        WHERE p.id = :ppk
+        """, nativeQuery = true)
+    List<Object[]> findPricingInputs(@Param("ppk") Long ppk);
 }
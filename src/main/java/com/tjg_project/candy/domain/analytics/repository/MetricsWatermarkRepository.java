@@ -0,0 +1,18 @@
+package com.tjg_project.candy.domain.analytics.repository;
+
+import com.tjg_project.candy.domain.analytics.entity.MetricsWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MetricsWatermarkRepository extends JpaRepository<MetricsWatermark, String> {
+
+    // ✅ 서버가 여러 대여도 같은 구간을 두 번 집계하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM MetricsWatermark w WHERE w.name = :name")
+    Optional<MetricsWatermark> findForUpdate(@Param("name") String name);
+}
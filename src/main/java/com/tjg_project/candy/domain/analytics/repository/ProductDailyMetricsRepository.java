@@ -0,0 +1,22 @@
+package com.tjg_project.candy.domain.analytics.repository;
+
+import com.tjg_project.candy.domain.analytics.entity.ProductDailyMetrics;
+import com.tjg_project.candy.domain.analytics.entity.ProductDailyMetricsId;
+import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductDailyMetricsRepository extends JpaRepository<ProductDailyMetrics, ProductDailyMetricsId> {
+
+    // ✅ 상품별 일별 판매수량 (판매 없는 날 제외)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.order.dto.DailySalesDto(m.day, m.units)
+        FROM ProductDailyMetrics m
+        WHERE m.ppk = :ppk AND m.units > 0
+        ORDER BY m.day
+    """)
+    List<DailySalesDto> findDailySales(@Param("ppk") Long ppk);
+}
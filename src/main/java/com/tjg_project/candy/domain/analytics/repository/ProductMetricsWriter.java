@@ -0,0 +1,74 @@
+package com.tjg_project.candy.domain.analytics.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * product_daily_metrics 누적 (INSERT ... ON CONFLICT DO UPDATE)
+ * JdbcTemplate 이므로 호출 측 트랜잭션이 있으면 같이 묶인다.
+ */
+@Repository
+public class ProductMetricsWriter {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductMetricsWriter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 상품 조회수 누적 (ppk → 조회수, 일괄)
+    public void addViews(Map<Long, Long> viewsByPpk, LocalDate day) {
+        if (viewsByPpk.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO product_daily_metrics(ppk, day, views, units, revenue) VALUES (?, ?, ?, 0, 0) "
+                + "ON CONFLICT (ppk, day) DO UPDATE SET views = product_daily_metrics.views + EXCLUDED.views";
+        List<Object[]> args = new ArrayList<>(viewsByPpk.size());
+        viewsByPpk.forEach((ppk, views) -> args.add(new Object[]{ppk, Date.valueOf(day), views}));
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 기준 시각 이전에 생성된 주문의 마지막 order_detail id (커밋이 늦은 행을 건너뛰지 않도록 여유를 둠)
+    public Long findMaxOrderDetailIdBefore(LocalDateTime cutoff) {
+        String sql = "SELECT MAX(od.id) FROM order_detail od JOIN orders o ON o.id = od.order_id WHERE o.odate < ?";
+        return jdbcTemplate.queryForObject(sql, Long.class, Timestamp.valueOf(cutoff));
+    }
+
+    // (fromId, toId] 구간 order_detail 을 상품/주문일 기준으로 판매수량, 매출 누적
+    public int rollupOrderDetails(long fromId, long toId) {
+        String sql = """
+                INSERT INTO product_daily_metrics(ppk, day, views, units, revenue)
+                SELECT od.ppk, CAST(o.odate AS date), 0, SUM(od.qty), SUM(CAST(od.qty AS BIGINT) * od.price)
+                FROM order_detail od
+                JOIN orders o ON o.id = od.order_id
+                WHERE od.id > ? AND od.id <= ? AND od.ppk IS NOT NULL
+                GROUP BY od.ppk, CAST(o.odate AS date)
+                ON CONFLICT (ppk, day) DO UPDATE
+                SET units = product_daily_metrics.units + EXCLUDED.units,
+                    revenue = product_daily_metrics.revenue + EXCLUDED.revenue
+                """;
+        return jdbcTemplate.update(sql, fromId, toId);
+    }
+
+    // 기존 user_view_log 조회수를 마지막 조회일 기준으로 한 번 옮겨 담기
+    public int backfillViews() {
+        String sql = """
+                INSERT INTO product_daily_metrics(ppk, day, views, units, revenue)
+                SELECT ppk, CAST(viewed_at AS date), SUM(qty), 0, 0
+                FROM user_view_log
+                WHERE ppk IS NOT NULL AND viewed_at IS NOT NULL
+                GROUP BY ppk, CAST(viewed_at AS date)
+                ON CONFLICT (ppk, day) DO UPDATE
+                SET views = GREATEST(product_daily_metrics.views, EXCLUDED.views)
+                """;
+        return jdbcTemplate.update(sql);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tjg_project.candy.domain.analytics.repository;
+
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewKeyword;
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewKeywordId;
+import com.tjg_project.candy.domain.analytics.entity.ReviewKeywordKind;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ProductReviewKeywordRepository extends JpaRepository<ProductReviewKeyword, ProductReviewKeywordId> {
+
+    // 상품 + 종류별 많이 언급된 순 상위 N개 (LLM 보강 키워드로 행이 계속 늘어나므로 LIMIT)
+    List<ProductReviewKeyword> findByPpkAndKindOrderByMentionsDescKeywordAsc(Long ppk, ReviewKeywordKind kind,
+                                                                             Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.tjg_project.candy.domain.analytics.repository;
+
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductReviewStatsRepository extends JpaRepository<ProductReviewStats, Long> {
+}
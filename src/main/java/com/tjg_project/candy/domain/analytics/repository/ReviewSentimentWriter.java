@@ -0,0 +1,105 @@
+package com.tjg_project.candy.domain.analytics.repository;
+
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewKeyword;
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewStats;
+import com.tjg_project.candy.domain.analytics.entity.ReviewSentiment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 리뷰 감성 분석 결과 저장 + 상품별 집계 누적 (INSERT ... ON CONFLICT DO UPDATE)
+ * JdbcTemplate 이므로 호출 측 트랜잭션이 있으면 같이 묶인다.
+ */
+@Repository
+public class ReviewSentimentWriter {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewSentimentWriter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 이미 분석 결과가 저장된 리뷰 id (겹쳐 읽은 구간을 두 번 누적하지 않도록)
+    public Set<Long> findAnalyzedIds(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Set.of();
+        }
+        String in = String.join(",", Collections.nCopies(reviewIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT review_id FROM review_sentiment WHERE review_id IN (" + in + ")",
+                Long.class, reviewIds.toArray()));
+    }
+
+    public void insertSentiments(Collection<ReviewSentiment> sentiments) {
+        if (sentiments.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO review_sentiment(review_id, ppk, sentiment, score, taste_keywords, positive_points,
+                                             quality_issues, source, analyzed_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (review_id) DO NOTHING
+                """;
+        List<Object[]> args = new ArrayList<>(sentiments.size());
+        for (ReviewSentiment s : sentiments) {
+            args.add(new Object[]{s.getReviewId(), s.getPpk(), s.getSentiment().name(), s.getScore(),
+                    s.getTasteKeywords(), s.getPositivePoints(), s.getQualityIssues(), s.getSource(),
+                    Timestamp.valueOf(s.getAnalyzedAt())});
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 상품별 리뷰 수 / 긍정 / 부정 / 중립 누적 (delta 값으로 더함)
+    public void addStats(Collection<ProductReviewStats> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO product_review_stats(ppk, product_name, review_count, positive_count, negative_count,
+                                                 neutral_count, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (ppk) DO UPDATE
+                SET product_name = COALESCE(EXCLUDED.product_name, product_review_stats.product_name),
+                    review_count = product_review_stats.review_count + EXCLUDED.review_count,
+                    positive_count = product_review_stats.positive_count + EXCLUDED.positive_count,
+                    negative_count = product_review_stats.negative_count + EXCLUDED.negative_count,
+                    neutral_count = product_review_stats.neutral_count + EXCLUDED.neutral_count,
+                    updated_at = EXCLUDED.updated_at
+                """;
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (ProductReviewStats d : deltas) {
+            args.add(new Object[]{d.getPpk(), d.getProductName(), d.getReviewCount(), d.getPositiveCount(),
+                    d.getNegativeCount(), d.getNeutralCount(), Timestamp.valueOf(d.getUpdatedAt())});
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 키워드 언급 수 누적 (delta 값으로 더함)
+    public void addKeywords(Collection<ProductReviewKeyword> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO product_review_keyword(ppk, kind, keyword, mentions) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT (ppk, kind, keyword) DO UPDATE SET mentions = product_review_keyword.mentions + EXCLUDED.mentions";
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (ProductReviewKeyword d : deltas) {
+            args.add(new Object[]{d.getPpk(), d.getKind().name(), d.getKeyword(), d.getMentions()});
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 전체 재분석 전 초기화 (사전이 바뀌었을 때 / 리뷰가 수정·삭제됐을 때)
+    public void clearAll() {
+        jdbcTemplate.update("DELETE FROM product_review_keyword");
+        jdbcTemplate.update("DELETE FROM product_review_stats");
+        jdbcTemplate.update("DELETE FROM review_sentiment");
+    }
+}
@@ -0,0 +1,79 @@
+package com.tjg_project.candy.domain.analytics.service;
+
+import com.tjg_project.candy.domain.analytics.dto.ProductPricingStatsDto;
+
+/**
+ * 가격 분석 계산 (DB 조회 없는 순수 계산)
+ * 단일 상품 / 전체 상품 분석에서 같이 사용한다.
+ */
+public final class PricingCalculator {
+
+    // AI 추천 가격 할인율 (5%)
+    private static final double DISCOUNT_RATE = 0.05;
+
+    private PricingCalculator() {
+    }
+
+    public static ProductPricingStatsDto calculate(Long ppk, String productName, int currentPrice,
+                                                   long clicks, long orders) {
+
+        double conversionRate = (clicks == 0) ? 0 : (orders * 100.0 / clicks);
+
+        // 1) 가격 민감도
+        double priceSensitivity = conversionRate / currentPrice;
+
+        // 2) AI 추천 가격(5% 할인)
+        int aiLowerPrice = (int) (currentPrice * (1 - DISCOUNT_RATE));
+
+        // 3) 할인 시 예측 전환율
+        double predictedConversionRate =
+                conversionRate * (1 + priceSensitivity * DISCOUNT_RATE * 1000);
+
+        // 4) 클릭률 증가율
+        double aiClickRate =
+                predictedConversionRate + (clicks * priceSensitivity * 0.1);
+
+        // 5) 예측 구매수
+        double predictedOrders = clicks * (predictedConversionRate / 100.0);
+
+        // 6) 현재 매출
+        double currentRevenue = orders * currentPrice;
+
+        // 7) 예측 매출
+        double predictedRevenue = predictedOrders * aiLowerPrice;
+
+        // 8) 매출 증가량
+        double revenueGain = predictedRevenue - currentRevenue;
+
+        // 9) 매출 증가율
+        double revenueGainPercent = currentRevenue == 0 ? 0 :
+                (revenueGain / currentRevenue) * 100;
+
+        // 10) 가격 탄력성 PED
+        double PED = priceSensitivity * 100;
+
+        // 11) 최적 가격 (매출 최대점)
+        double optimalPrice = (PED == -1) ? currentPrice :
+                (PED / (PED + 1)) * currentPrice;
+
+        return new ProductPricingStatsDto(
+                ppk,
+                productName,
+                currentPrice,
+                clicks,
+                orders,
+                conversionRate,
+                aiLowerPrice,
+                predictedConversionRate,
+                aiClickRate,
+                priceSensitivity,
+                predictedOrders,
+                currentRevenue,
+                predictedRevenue,
+                revenueGain,
+                revenueGainPercent,
+                PED,
+                optimalPrice
+        );
+    }
+}
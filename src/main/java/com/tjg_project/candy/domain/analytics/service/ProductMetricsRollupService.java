@@ -0,0 +1,90 @@
+package com.tjg_project.candy.domain.analytics.service;
+
+import com.tjg_project.candy.domain.analytics.entity.MetricsWatermark;
+import com.tjg_project.candy.domain.analytics.repository.MetricsWatermarkRepository;
+import com.tjg_project.candy.domain.analytics.repository.ProductMetricsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * product_daily_metrics 증분 집계
+ * - order_detail 은 마지막으로 처리한 id(워터마크) 이후 행만 batch-size 단위로 누적
+ * - 구간 누적과 워터마크 갱신은 같은 트랜잭션 → 중간에 실패해도 중복 / 누락 없음
+ * - 조회수는 조회 시점에 바로 누적되고, 기존 user_view_log 는 최초 1회만 옮겨 담는다
+ */
+@Service
+public class ProductMetricsRollupService {
+
+    private static final String ORDER_DETAIL_WATERMARK = "order_detail";
+    private static final String VIEWS_BACKFILL_WATERMARK = "user_view_log_backfill";
+
+    private final ProductMetricsWriter productMetricsWriter;
+    private final MetricsWatermarkRepository metricsWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long lagSeconds;
+
+    public ProductMetricsRollupService(
+            ProductMetricsWriter productMetricsWriter,
+            MetricsWatermarkRepository metricsWatermarkRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${analytics.rollup.batch-size:5000}") int batchSize,
+            @Value("${analytics.rollup.lag-seconds:60}") long lagSeconds) {
+        this.productMetricsWriter = productMetricsWriter;
+        this.metricsWatermarkRepository = metricsWatermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lagSeconds = lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval-ms:300000}")
+    public void rollup() {
+        transactionTemplate.executeWithoutResult(status -> backfillViewsOnce());
+
+        // 방금 저장 중인 주문(아직 커밋 전)의 id 를 건너뛰지 않도록 lag 만큼 이전 주문까지만 처리
+        Long maxId = productMetricsWriter.findMaxOrderDetailIdBefore(LocalDateTime.now().minusSeconds(lagSeconds));
+        if (maxId == null) {
+            return;
+        }
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> rollupNextBatch(maxId)))) {
+            // 다음 구간
+        }
+    }
+
+    // @return 남은 구간이 있으면 true
+    private boolean rollupNextBatch(long maxId) {
+        MetricsWatermark watermark = lockWatermark(ORDER_DETAIL_WATERMARK);
+        long fromId = watermark.getLastId();
+        if (fromId >= maxId) {
+            return false;
+        }
+
+        long toId = Math.min(fromId + batchSize, maxId);
+        productMetricsWriter.rollupOrderDetails(fromId, toId);
+
+        watermark.setLastId(toId);
+        watermark.setUpdatedAt(LocalDateTime.now());
+        metricsWatermarkRepository.save(watermark);
+        return toId < maxId;
+    }
+
+    private void backfillViewsOnce() {
+        MetricsWatermark watermark = lockWatermark(VIEWS_BACKFILL_WATERMARK);
+        if (watermark.getUpdatedAt() != null) {
+            return;
+        }
+        productMetricsWriter.backfillViews();
+        watermark.setUpdatedAt(LocalDateTime.now());
+        metricsWatermarkRepository.save(watermark);
+    }
+
+    private MetricsWatermark lockWatermark(String name) {
+        return metricsWatermarkRepository.findForUpdate(name).orElseGet(() ->
+                metricsWatermarkRepository.saveAndFlush(new MetricsWatermark(name, 0L, null)));
+    }
+}
@@ -1,78 +1,55 @@
 package com.tjg_project.candy.domain.analytics.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tjg_project.candy.domain.analytics.dto.ReviewAnalysisDto;
-import com.tjg_project.candy.domain.openai.service.OpenAiService;
-import com.tjg_project.candy.domain.product.entity.ProductReview;
-import com.tjg_project.candy.domain.product.repository.ProductReviewRepository;
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewKeyword;
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewStats;
+import com.tjg_project.candy.domain.analytics.entity.ReviewKeywordKind;
+import com.tjg_project.candy.domain.analytics.repository.ProductReviewKeywordRepository;
+import com.tjg_project.candy.domain.analytics.repository.ProductReviewStatsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * 상품 리뷰 분석 조회
+ * - ReviewSentimentIndexer 가 리뷰마다 한 번 분석해서 누적한 집계를 읽기만 한다
+ *   (집계 1번 + 키워드 종류별 상위 N개씩, 리뷰 / 키워드 수와 무관)
+ */
 @Service
 @RequiredArgsConstructor
 public class ReviewAnalysisService {
 
-    private final ProductReviewRepository reviewRepository;
-    private final OpenAiService openAiService;
-    private final ObjectMapper mapper = new ObjectMapper();
+    private static final int TOP_KEYWORDS = 5;
 
-    public ReviewAnalysisDto analyzeReviews(Long ppk) {
-        List<ProductReview> reviews = reviewRepository.findByPpk(ppk);
-
-        if (reviews.isEmpty()) {
-            throw new RuntimeException("리뷰가 없습니다.");
-        }
-
-        String productName = reviews.get(0).getProductName();
-
-        // 리뷰 텍스트 모으기
-        StringBuilder sb = new StringBuilder();
-        for (ProductReview r : reviews) {
-            sb.append("- ").append(r.getContent()).append("\n");
-        }
-
-        // GPT 프롬프트
-        String prompt = """
-        아래는 특정 상품의 리뷰 목록이다.
-
-        ⚠️ 반드시 아래 JSON 형식만 출력해라. 설명 문장 절대 포함하지 마라.
-        JSON 결과 외의 텍스트는 절대 넣지 마라.
-
-        {
-          "tasteKeywords": ["string"],
-          "positivePoints": ["string"],
-          "qualityIssues": ["string"],
-          "positiveCount": 0,
-          "negativeCount": 0
-        }
-
-        분석 기준:
-        - 맛 관련 키워드 3~5개
-        - 고객들이 좋아하는 포인트 3~5개
-        - 품질 문제(상함, 파손, 양 적음 등) 3개
-        - 긍정/부정 리뷰 개수 계산
-        - 한국어 키워드 사용
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+    private final ProductReviewKeywordRepository productReviewKeywordRepository;
 
-        리뷰 목록:
-        """ + sb;
-
-        String raw = openAiService.ask(prompt);
-
-        System.out.println("GPT 응답(JSON): " + raw);
-
-        ReviewAnalysisDto dto;
-
-        try {
-            dto = mapper.readValue(raw, ReviewAnalysisDto.class);
-        } catch (Exception e) {
-            throw new RuntimeException("GPT JSON 파싱 실패: " + raw);
-        }
+    public ReviewAnalysisDto analyzeReviews(Long ppk) {
+        ProductReviewStats stats = productReviewStatsRepository.findById(ppk)
+                .orElseThrow(() -> new RuntimeException("리뷰가 없습니다."));
 
+        ReviewAnalysisDto dto = new ReviewAnalysisDto();
         dto.setPpk(ppk);
-        dto.setProductName(productName);
-
+        dto.setProductName(stats.getProductName());
+        dto.setTasteKeywords(topKeywords(ppk, ReviewKeywordKind.TASTE));
+        dto.setPositivePoints(topKeywords(ppk, ReviewKeywordKind.POINT));
+        dto.setQualityIssues(topKeywords(ppk, ReviewKeywordKind.ISSUE));
+        dto.setPositiveCount((int) stats.getPositiveCount());
+        dto.setNegativeCount((int) stats.getNegativeCount());
+        dto.setNeutralCount((int) stats.getNeutralCount());
+        dto.setReviewCount((int) stats.getReviewCount());
+        dto.setUpdatedAt(stats.getUpdatedAt());
         return dto;
     }
+
+    // 언급 많은 순 TOP_KEYWORDS 개 (DB 에서 LIMIT)
+    private List<String> topKeywords(Long ppk, ReviewKeywordKind kind) {
+        return productReviewKeywordRepository
+                .findByPpkAndKindOrderByMentionsDescKeywordAsc(ppk, kind, PageRequest.of(0, TOP_KEYWORDS))
+                .stream()
+                .map(ProductReviewKeyword::getKeyword)
+                .toList();
+    }
 }
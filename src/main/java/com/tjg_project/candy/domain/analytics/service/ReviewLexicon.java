@@ -0,0 +1,208 @@
+package com.tjg_project.candy.domain.analytics.service;
+
+import com.tjg_project.candy.domain.analytics.entity.Sentiment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리뷰 한 건 감성 / 키워드 추출 (사전 기반, DB / 외부 호출 없는 순수 계산)
+ * - 공백을 지운 본문에서 어간을 찾는다 ("맛 있어요" = "맛있어요")
+ * - 어간 바로 앞 "안/못" 또는 뒤 몇 글자 안에 "지 않/지 못" 이면 부정 (긍정 어간 → 부정 한 표, 부정 어간 → 긍정 한 표)
+ * - 부정 어간과 겹치는 긍정 어간은 세지 않는다 ("비추천" 의 "추천")
+ * - 품질 문제는 뒤에 "없"이 붙으면 ("파손 없이") 제외, 있으면 부정 한 표
+ * - 같은 키워드는 리뷰당 한 번만 (상품 집계 = 그 키워드를 말한 리뷰 수)
+ */
+public final class ReviewLexicon {
+
+    // 어간 → 표시 이름
+    private static final Map<String, String> TASTE = labels(
+            "달콤", "달콤함", "달달", "달콤함", "단맛", "달콤함",
+            "매콤", "매콤함", "매운", "매콤함", "맵", "매콤함",
+            "짭짤", "짭짤함", "고소", "고소함", "새콤", "새콤함", "상큼", "상큼함",
+            "쫄깃", "쫄깃함", "쫀득", "쫄깃함", "바삭", "바삭함",
+            "부드러", "부드러움", "부드럽", "부드러움", "촉촉", "촉촉함",
+            "담백", "담백함", "느끼", "느끼함", "진한맛", "진한 맛", "깔끔", "깔끔한 맛", "시원", "시원함");
+
+    private static final Map<String, String> POINTS = labels(
+            "가성비", "가성비", "저렴", "가성비",
+            "재구매", "재구매 의사", "또사", "재구매 의사", "또시킬", "재구매 의사",
+            "신선", "신선함", "배송빠", "빠른 배송", "빨리왔", "빠른 배송", "빠른배송", "빠른 배송",
+            "양많", "넉넉한 양", "양도많", "넉넉한 양", "넉넉", "넉넉한 양",
+            "포장꼼꼼", "꼼꼼한 포장", "꼼꼼하게포장", "꼼꼼한 포장",
+            "간식", "간식용", "선물", "선물용", "아이들", "아이 간식");
+
+    private static final Map<String, String> ISSUES = labels(
+            "상했", "상함", "상한", "상함", "곰팡", "곰팡이",
+            "파손", "파손", "깨져", "파손", "깨진", "파손", "부서져", "파손", "부서진", "파손", "찌그러", "파손",
+            "터져", "포장 불량", "터진", "포장 불량",
+            "유통기한", "유통기한", "녹아", "녹음 / 변형", "녹은", "녹음 / 변형",
+            "눅눅", "눅눅함", "딱딱", "딱딱함",
+            "양이적", "양 적음", "양적", "양 적음", "양이너무적", "양 적음",
+            "이물질", "이물질", "머리카락", "이물질",
+            "배송늦", "배송 지연", "늦게왔", "배송 지연", "늦게도착", "배송 지연",
+            "누락", "누락", "빠져있", "누락");
+
+    private static final List<String> POSITIVE = List.of(
+            "맛있", "맛나", "존맛", "꿀맛", "좋",
+            "최고", "만족", "추천", "재구매", "훌륭", "대박", "완벽", "굿", "짱", "감사", "행복");
+
+    private static final List<String> NEGATIVE = List.of(
+            "별로", "실망", "맛없", "최악", "아쉽", "아쉬", "불만", "환불", "비싸", "후회",
+            "짜증", "버렸", "다신", "비추", "그저그렇", "그냥그래");
+
+    private static final List<String> NEGATION_PREFIXES = List.of("안", "못");
+    private static final int NEGATION_WINDOW = 3;
+    private static final List<String> NEGATION_SUFFIXES = List.of("지않", "지는않", "진않", "지도않", "지못", "지는못");
+
+    private ReviewLexicon() {
+    }
+
+    // ✅ 리뷰 한 건 분석 (title, content, tags 를 이어 붙인 문자열)
+    public static Result analyze(String text) {
+        String s = normalize(text);
+        int positive = 0;
+        int negative = 0;
+
+        boolean[] taken = new boolean[s.length()];
+        for (String stem : NEGATIVE) {
+            for (int at : occurrences(s, stem)) {
+                Arrays.fill(taken, at, at + stem.length(), true);
+                if (negated(s, at, stem)) {
+                    positive++;
+                } else {
+                    negative++;
+                }
+            }
+        }
+        for (String stem : POSITIVE) {
+            for (int at : occurrences(s, stem)) {
+                if (overlaps(taken, at, stem.length())) {
+                    continue;
+                }
+                if (negated(s, at, stem)) {
+                    negative++;
+                } else {
+                    positive++;
+                }
+            }
+        }
+
+        Set<String> issues = new LinkedHashSet<>();
+        for (Map.Entry<String, String> e : ISSUES.entrySet()) {
+            for (int at : occurrences(s, e.getKey())) {
+                if (!s.startsWith("없", at + e.getKey().length()) && !negated(s, at, e.getKey())) {
+                    issues.add(e.getValue());
+                }
+            }
+        }
+        negative += issues.size();
+
+        Sentiment sentiment = positive > negative ? Sentiment.POSITIVE
+                : negative > positive ? Sentiment.NEGATIVE
+                : Sentiment.NEUTRAL;
+        return new Result(sentiment, positive - negative,
+                find(s, TASTE), find(s, POINTS), new ArrayList<>(issues));
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> find(String s, Map<String, String> dictionary) {
+        Set<String> found = new LinkedHashSet<>();
+        for (Map.Entry<String, String> e : dictionary.entrySet()) {
+            if (s.contains(e.getKey())) {
+                found.add(e.getValue());
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    private static List<Integer> occurrences(String s, String stem) {
+        List<Integer> list = new ArrayList<>(1);
+        for (int i = s.indexOf(stem); i >= 0; i = s.indexOf(stem, i + stem.length())) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static boolean overlaps(boolean[] taken, int at, int length) {
+        for (int i = at; i < at + length; i++) {
+            if (taken[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean negated(String s, int at, String stem) {
+        for (String p : NEGATION_PREFIXES) {
+            if (at >= p.length() && s.startsWith(p, at - p.length())) {
+                return true;
+            }
+        }
+        int end = at + stem.length();
+        // "좋지 않아요", "만족스럽지 않아요" → 어간 뒤 어미 몇 글자 안에서
+        for (int gap = 0; gap <= NEGATION_WINDOW; gap++) {
+            for (String suffix : NEGATION_SUFFIXES) {
+                if (s.startsWith(suffix, end + gap)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> labels(String... pairs) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            map.put(pairs[i], pairs[i + 1]);
+        }
+        return map;
+    }
+
+    public static final class Result {
+        private final Sentiment sentiment;
+        private final int score;                  // 긍정 표 - 부정 표
+        private final List<String> tasteKeywords;
+        private final List<String> positivePoints;
+        private final List<String> qualityIssues;
+
+        public Result(Sentiment sentiment, int score, List<String> tasteKeywords,
+                      List<String> positivePoints, List<String> qualityIssues) {
+            this.sentiment = sentiment;
+            this.score = score;
+            this.tasteKeywords = tasteKeywords;
+            this.positivePoints = positivePoints;
+            this.qualityIssues = qualityIssues;
+        }
+
+        public Sentiment getSentiment() { return sentiment; }
+        public int getScore() { return score; }
+        public List<String> getTasteKeywords() { return tasteKeywords; }
+        public List<String> getPositivePoints() { return positivePoints; }
+        public List<String> getQualityIssues() { return qualityIssues; }
+
+        // 사전에서 아무것도 못 찾음 → LLM 보강 대상
+        public boolean isEmpty() {
+            return score == 0 && sentiment == Sentiment.NEUTRAL && tasteKeywords.isEmpty()
+                    && positivePoints.isEmpty() && qualityIssues.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.tjg_project.candy.domain.analytics.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjg_project.candy.domain.analytics.entity.MetricsWatermark;
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewKeyword;
+import com.tjg_project.candy.domain.analytics.entity.ProductReviewStats;
+import com.tjg_project.candy.domain.analytics.entity.ReviewKeywordKind;
+import com.tjg_project.candy.domain.analytics.entity.ReviewSentiment;
+import com.tjg_project.candy.domain.analytics.entity.Sentiment;
+import com.tjg_project.candy.domain.analytics.repository.MetricsWatermarkRepository;
+import com.tjg_project.candy.domain.analytics.repository.ReviewSentimentWriter;
+import com.tjg_project.candy.domain.openai.service.OpenAiService;
+import com.tjg_project.candy.domain.product.entity.ProductReview;
+import com.tjg_project.candy.domain.product.repository.ProductReviewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리뷰 감성 증분 분석 (GPT 에 상품 리뷰 전체를 매번 보내지 않도록)
+ * - 마지막으로 분석한 리뷰 id(워터마크) - overlap-ids 이후 중 아직 분석 안 된 리뷰만 batch-size 단위로 ReviewLexicon 분석
+ *   (id 는 커밋 순서와 다를 수 있어서, 워터마크보다 작은 id 가 늦게 커밋돼도 겹쳐 읽는 구간 안이면 놓치지 않는다)
+ * - review_sentiment 에 이미 있는 리뷰는 저장 트랜잭션 안에서 한 번 더 걸러 집계를 두 번 누적하지 않는다
+ * - 사전으로 아무것도 못 찾은 리뷰는 llm-enrich 가 켜져 있으면 리뷰 한 건만 GPT 로 보강 (응답 캐시됨)
+ * - 분석은 트랜잭션 밖에서 하고, 저장 + 상품 집계 누적 + 워터마크 갱신만 한 트랜잭션
+ *   (그 사이 다른 서버가 같은 구간을 처리했으면 워터마크가 달라져 있으므로 버린다)
+ * - 전체 재분석(startRebuild)은 백그라운드 스레드에서, 동시에 하나만
+ */
+@Slf4j
+@Service
+public class ReviewSentimentIndexer {
+
+    private static final String WATERMARK = "review_sentiment";
+    private static final String SOURCE_LEXICON = "lexicon";
+    private static final String SOURCE_LLM = "llm";
+    private static final int MAX_LLM_KEYWORDS = 3;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    private final ProductReviewRepository productReviewRepository;
+    private final ReviewSentimentWriter reviewSentimentWriter;
+    private final MetricsWatermarkRepository metricsWatermarkRepository;
+    private final OpenAiService openAiService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long overlapIds;
+    private final boolean llmEnrich;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuilder =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("review-rebuild").factory());
+
+    private final LongAdder analyzed = new LongAdder();
+    private final LongAdder enriched = new LongAdder();
+    private final LongAdder enrichFailures = new LongAdder();
+    private final LongAdder discardedBatches = new LongAdder();
+
+    public ReviewSentimentIndexer(
+            ProductReviewRepository productReviewRepository,
+            ReviewSentimentWriter reviewSentimentWriter,
+            MetricsWatermarkRepository metricsWatermarkRepository,
+            OpenAiService openAiService,
+            PlatformTransactionManager transactionManager,
+            @Value("${analytics.reviews.batch-size:500}") int batchSize,
+            @Value("${analytics.reviews.overlap-ids:1000}") long overlapIds,
+            @Value("${analytics.reviews.llm-enrich:false}") boolean llmEnrich) {
+        this.productReviewRepository = productReviewRepository;
+        this.reviewSentimentWriter = reviewSentimentWriter;
+        this.metricsWatermarkRepository = metricsWatermarkRepository;
+        this.openAiService = openAiService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.overlapIds = overlapIds;
+        this.llmEnrich = llmEnrich;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.reviews.interval-ms:60000}")
+    public void index() {
+        while (indexNextBatch()) {
+            // 다음 구간
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // ✅ 전체 재분석을 백그라운드로 시작만 하고 바로 반환 (이미 실행 중이면 IllegalStateException)
+    public void startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("리뷰 재분석이 이미 실행 중입니다.");
+        }
+        try {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("리뷰 재분석 실패: {}", e.toString());
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            throw e;
+        }
+    }
+
+    // ✅ 처음부터 다시 분석 (사전 변경 / 리뷰 수정·삭제 반영)
+    private void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            MetricsWatermark watermark = lockWatermark();
+            reviewSentimentWriter.clearAll();
+            watermark.setLastId(0L);
+            watermark.setUpdatedAt(LocalDateTime.now());
+            metricsWatermarkRepository.save(watermark);
+        });
+        index();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("lastReviewId", metricsWatermarkRepository.findById(WATERMARK).map(MetricsWatermark::getLastId).orElse(0L));
+        res.put("rebuilding", rebuilding.get());
+        res.put("analyzed", analyzed.sum());
+        res.put("llmEnrich", llmEnrich);
+        res.put("enriched", enriched.sum());
+        res.put("enrichFailures", enrichFailures.sum());
+        res.put("discardedBatches", discardedBatches.sum());
+        return res;
+    }
+
+    // @return 남은 구간이 있으면 true
+    private boolean indexNextBatch() {
+        long fromId = metricsWatermarkRepository.findById(WATERMARK).map(MetricsWatermark::getLastId).orElse(0L);
+        List<ProductReview> reviews =
+                productReviewRepository.findUnanalyzedAfter(Math.max(0, fromId - overlapIds), batchSize);
+        if (reviews.isEmpty()) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewSentiment> sentiments = new ArrayList<>(reviews.size());
+        for (ProductReview review : reviews) {
+            sentiments.add(analyze(review, now));
+        }
+        // 겹쳐 읽은 구간의 늦게 커밋된 리뷰만 있으면 워터마크는 그대로
+        long toId = Math.max(fromId, reviews.get(reviews.size() - 1).getId());
+
+        boolean applied = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            MetricsWatermark watermark = lockWatermark();
+            if (watermark.getLastId() != fromId) {
+                return false;
+            }
+            // 읽은 뒤 다른 서버가 먼저 저장한 리뷰는 제외 (워터마크 잠금으로 저장은 한 번에 하나)
+            Set<Long> done = reviewSentimentWriter.findAnalyzedIds(
+                    reviews.stream().map(ProductReview::getId).toList());
+            List<ProductReview> newReviews = new ArrayList<>(reviews.size());
+            List<ReviewSentiment> newSentiments = new ArrayList<>(sentiments.size());
+            for (int i = 0; i < reviews.size(); i++) {
+                if (!done.contains(reviews.get(i).getId())) {
+                    newReviews.add(reviews.get(i));
+                    newSentiments.add(sentiments.get(i));
+                }
+            }
+            reviewSentimentWriter.insertSentiments(newSentiments);
+            reviewSentimentWriter.addStats(statsDeltas(newReviews, newSentiments, now));
+            reviewSentimentWriter.addKeywords(keywordDeltas(newSentiments));
+            watermark.setLastId(toId);
+            watermark.setUpdatedAt(now);
+            metricsWatermarkRepository.save(watermark);
+            return true;
+        }));
+
+        if (!applied) {
+            discardedBatches.increment();
+            return true; // 다른 서버가 처리한 구간 → 새 워터마크부터 다시
+        }
+        analyzed.add(sentiments.size());
+        return reviews.size() == batchSize;
+    }
+
+    private ReviewSentiment analyze(ProductReview review, LocalDateTime now) {
+        String text = String.join(" ", nullToEmpty(review.getTitle()), nullToEmpty(review.getContent()),
+                nullToEmpty(review.getTags()));
+        ReviewLexicon.Result result = ReviewLexicon.analyze(text);
+        String source = SOURCE_LEXICON;
+        if (llmEnrich && result.isEmpty() && review.getContent() != null && !review.getContent().isBlank()) {
+            ReviewLexicon.Result fromLlm = askLlm(review.getContent());
+            if (fromLlm != null) {
+                result = fromLlm;
+                source = SOURCE_LLM;
+            }
+        }
+        return new ReviewSentiment(review.getId(), review.getPpk(), result.getSentiment(), result.getScore(),
+                String.join(",", result.getTasteKeywords()),
+                String.join(",", result.getPositivePoints()),
+                String.join(",", result.getQualityIssues()),
+                source, now);
+    }
+
+    // 리뷰 한 건만 보내므로 토큰 수가 리뷰 길이에 비례 (상품 리뷰 수와 무관)
+    private ReviewLexicon.Result askLlm(String content) {
+        String prompt = """
+        아래 상품 리뷰 한 건을 분석해라.
+
+        ⚠️ 반드시 아래 JSON 형식만 출력해라. 설명 문장 절대 포함하지 마라.
+
+        {
+          "sentiment": "positive | negative | neutral",
+          "tasteKeywords": ["string"],
+          "positivePoints": ["string"],
+          "qualityIssues": ["string"]
+        }
+
+        분석 기준:
+        - 각 목록은 최대 3개, 없으면 빈 배열
+        - 한국어 짧은 명사형 키워드 사용
+
+        리뷰:
+        """ + content;
+        try {
+            JsonNode root = mapper.readTree(openAiService.ask(prompt));
+            Sentiment sentiment = switch (root.path("sentiment").asText("").toLowerCase(Locale.ROOT)) {
+                case "positive" -> Sentiment.POSITIVE;
+                case "negative" -> Sentiment.NEGATIVE;
+                default -> Sentiment.NEUTRAL;
+            };
+            enriched.increment();
+            return new ReviewLexicon.Result(sentiment,
+                    sentiment == Sentiment.POSITIVE ? 1 : sentiment == Sentiment.NEGATIVE ? -1 : 0,
+                    keywords(root.get("tasteKeywords")),
+                    keywords(root.get("positivePoints")),
+                    keywords(root.get("qualityIssues")));
+        } catch (Exception e) {
+            openAiService.forget(prompt); // 잘못된 응답은 캐시에 남기지 않음
+            enrichFailures.increment();
+            log.warn("리뷰 LLM 보강 실패 → 사전 결과 사용: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static List<String> keywords(JsonNode node) {
+        List<String> list = new ArrayList<>();
+        if (node != null && node.isArray()) {
+            for (JsonNode v : node) {
+                // 저장 형식이 "a,b" 라 쉼표는 뺀다
+                String keyword = v.asText("").replace(",", " ").trim();
+                if (!keyword.isEmpty() && keyword.length() <= MAX_KEYWORD_LENGTH && !list.contains(keyword)) {
+                    list.add(keyword);
+                }
+                if (list.size() == MAX_LLM_KEYWORDS) {
+                    break;
+                }
+            }
+        }
+        return list;
+    }
+
+    private static List<ProductReviewStats> statsDeltas(List<ProductReview> reviews, List<ReviewSentiment> sentiments,
+                                                        LocalDateTime now) {
+        Map<Long, ProductReviewStats> byPpk = new LinkedHashMap<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            ProductReview review = reviews.get(i);
+            ProductReviewStats d = byPpk.computeIfAbsent(review.getPpk(),
+                    ppk -> new ProductReviewStats(ppk, null, 0, 0, 0, 0, now));
+            if (review.getProductName() != null) {
+                d.setProductName(review.getProductName());
+            }
+            d.setReviewCount(d.getReviewCount() + 1);
+            switch (sentiments.get(i).getSentiment()) {
+                case POSITIVE -> d.setPositiveCount(d.getPositiveCount() + 1);
+                case NEGATIVE -> d.setNegativeCount(d.getNegativeCount() + 1);
+                case NEUTRAL -> d.setNeutralCount(d.getNeutralCount() + 1);
+            }
+        }
+        return new ArrayList<>(byPpk.values());
+    }
+
+    private static List<ProductReviewKeyword> keywordDeltas(List<ReviewSentiment> sentiments) {
+        Map<String, ProductReviewKeyword> byKey = new LinkedHashMap<>();
+        for (ReviewSentiment s : sentiments) {
+            addKeywords(byKey, s.getPpk(), ReviewKeywordKind.TASTE, s.getTasteKeywords());
+            addKeywords(byKey, s.getPpk(), ReviewKeywordKind.POINT, s.getPositivePoints());
+            addKeywords(byKey, s.getPpk(), ReviewKeywordKind.ISSUE, s.getQualityIssues());
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static void addKeywords(Map<String, ProductReviewKeyword> byKey, Long ppk, ReviewKeywordKind kind,
+                                    String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return;
+        }
+        for (String keyword : joined.split(",")) {
+            ProductReviewKeyword d = byKey.computeIfAbsent(ppk + "|" + kind + "|" + keyword,
+                    k -> new ProductReviewKeyword(ppk, kind, keyword, 0));
+            d.setMentions(d.getMentions() + 1);
+        }
+    }
+
+    private MetricsWatermark lockWatermark() {
+        return metricsWatermarkRepository.findForUpdate(WATERMARK).orElseGet(() ->
+                metricsWatermarkRepository.saveAndFlush(new MetricsWatermark(WATERMARK, 0L, null)));
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
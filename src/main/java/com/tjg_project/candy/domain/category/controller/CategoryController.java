@@ -1,6 +1,6 @@
 package com.tjg_project.candy.domain.category.controller;
 
-import com.tjg_project.candy.domain.category.entity.CategoryMain;
+import com.tjg_project.candy.domain.category.dto.CategoryMainDto;
 import com.tjg_project.candy.domain.category.service.CategoryMainService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +17,7 @@ public class CategoryController {
     private CategoryMainService categoryMainService;
 
     @GetMapping("/list")
-    public List<CategoryMain> getList() {
+    public List<CategoryMainDto> getList() {
         return categoryMainService.getList();
     }
 
@@ -0,0 +1,28 @@
+package com.tjg_project.candy.domain.category.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카테고리 메뉴 (대분류 + 중분류 목록)
+ * - 기존 JSON 구조(id, name, displayOrder, used, subCategories) 유지
+ */
+@Getter
+public class CategoryMainDto {
+
+    private final Long id;
+    private final String name;
+    private final Integer displayOrder;
+    private final boolean used;
+    private final List<CategorySubDto> subCategories = new ArrayList<>();
+
+    // ✅ JPQL 생성자 표현식용
+    public CategoryMainDto(Long id, String name, Integer displayOrder, boolean used) {
+        this.id = id;
+        this.name = name;
+        this.displayOrder = displayOrder;
+        this.used = used;
+    }
+}
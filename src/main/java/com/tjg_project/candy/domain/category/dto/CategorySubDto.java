@@ -0,0 +1,20 @@
+package com.tjg_project.candy.domain.category.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 메뉴의 중분류
+ */
+@Getter
+@AllArgsConstructor
+public class CategorySubDto {
+
+    @JsonIgnore
+    private final Long mainId;  // 대분류에 붙이기 위한 키 (응답에는 미포함)
+    private final Long id;
+    private final String name;
+    private final Integer displayOrder;
+    private final boolean used;
+}
@@ -1,7 +1,28 @@
 package com.tjg_project.candy.domain.category.repository;
 
+import com.tjg_project.candy.domain.category.dto.CategoryMainDto;
+import com.tjg_project.candy.domain.category.dto.CategorySubDto;
 import com.tjg_project.candy.domain.category.entity.CategoryMain;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface CategoryMainRepository  extends JpaRepository<CategoryMain, Long> {
+
+    // ✅ 대분류 전체 (findAll + subCategories 지연 로딩 N+1 대신)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.category.dto.CategoryMainDto(m.id, m.name, m.displayOrder, m.isUsed)
+        FROM CategoryMain m
+        ORDER BY m.id
+        """)
+    List<CategoryMainDto> findAllDtos();
+
+    // ✅ 중분류 전체 (대분류 수와 상관없이 쿼리 1회)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.category.dto.CategorySubDto(s.mainCategory.id, s.id, s.name, s.displayOrder, s.isUsed)
+        FROM CategorySub s
+        ORDER BY s.id
+        """)
+    List<CategorySubDto> findAllSubDtos();
 }
@@ -1,9 +1,9 @@
 package com.tjg_project.candy.domain.category.service;
 
-import com.tjg_project.candy.domain.category.entity.CategoryMain;
+import com.tjg_project.candy.domain.category.dto.CategoryMainDto;
 
 import java.util.List;
 
 public interface CategoryMainService {
-    List<CategoryMain> getList();
+    List<CategoryMainDto> getList();
 }
@@ -1,12 +1,16 @@
 package com.tjg_project.candy.domain.category.service;
 
 
-import com.tjg_project.candy.domain.category.entity.CategoryMain;
+import com.tjg_project.candy.domain.category.dto.CategoryMainDto;
+import com.tjg_project.candy.domain.category.dto.CategorySubDto;
 import com.tjg_project.candy.domain.category.repository.CategoryMainRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CategoryMainServiceImpl implements CategoryMainService {
@@ -15,7 +19,17 @@ public class CategoryMainServiceImpl implements CategoryMainService {
     private CategoryMainRepository categoryMainRepository;
 
     @Override
-    public List<CategoryMain> getList() {
-        return categoryMainRepository.findAll();
+    public List<CategoryMainDto> getList() {
+        // ✅ 대분류 1회 + 중분류 1회 조회 후 메모리에서 조립
+        List<CategoryMainDto> mains = categoryMainRepository.findAllDtos();
+        Map<Long, CategoryMainDto> byId = mains.stream()
+                .collect(Collectors.toMap(CategoryMainDto::getId, Function.identity()));
+        for (CategorySubDto sub : categoryMainRepository.findAllSubDtos()) {
+            CategoryMainDto main = byId.get(sub.getMainId());
+            if (main != null) {
+                main.getSubCategories().add(sub);
+            }
+        }
+        return mains;
     }
 }
@@ -3,15 +3,20 @@ package com.tjg_project.candy.domain.chatBot.controller;
 import com.tjg_project.candy.domain.chatBot.dto.ChatRequest;
 import com.tjg_project.candy.domain.chatBot.dto.ChatResponse;
 import com.tjg_project.candy.domain.chatBot.service.ChatOrderService;
+import com.tjg_project.candy.domain.chatBot.service.ChatRecommendService;
 import com.tjg_project.candy.domain.chatBot.service.IntentService;
 import com.tjg_project.candy.domain.order.entity.Order;
 import com.tjg_project.candy.domain.order.entity.DeliveryStatus;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/chatbot")
 @RequiredArgsConstructor
@@ -19,12 +24,13 @@ public class ChatBotController {
 
     private final IntentService intentService;
     private final ChatOrderService chatOrderService;
+    private final ChatRecommendService chatRecommendService;
 
     @PostMapping("/ask")
     public ChatResponse ask(@RequestBody ChatRequest req) {
 
         String intent = intentService.classify(req.getMessage());
-        System.out.println("req"+req.getUpk());
+        log.debug("챗봇 요청 upk={} intent={}", req.getUpk(), intent);
 
         switch(intent) {
 
@@ -38,7 +44,7 @@ public class ChatBotController {
                 return handleReturn(req.getUpk());
 
             case "RECOMMENDATION":
-                return new ChatResponse("고객님께 맞는 상품을 추천해드릴게요!", null);
+                return handleRecommendation(req.getUpk());
 
             default:
                 return new ChatResponse("죄송해요, 무슨 말인지 잘 이해하지 못했어요 😥", null);
@@ -92,4 +98,17 @@ public class ChatBotController {
         // 실제 반품 DB테이블 만들면 여기에 insert
         return new ChatResponse("가장 최근 주문(" + order.getOrderCode() + ")의 반품 요청이 접수되었습니다.", order);
     }
+
+    // ===============================
+    // 4) 상품 추천
+    // ===============================
+    private ChatResponse handleRecommendation(Long upk) {
+
+        List<ProductSummaryDto> products = chatRecommendService.recommend(upk, 5);
+
+        if (products.isEmpty())
+            return new ChatResponse("아직 추천해드릴 상품이 없어요. 상품을 둘러보시면 맞춤 추천을 해드릴게요!", null);
+
+        return new ChatResponse("고객님께 맞는 상품을 추천해드릴게요!", products);
+    }
 }
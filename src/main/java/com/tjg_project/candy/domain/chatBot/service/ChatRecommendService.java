@@ -0,0 +1,34 @@
+package com.tjg_project.candy.domain.chatBot.service;
+
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
+import com.tjg_project.candy.domain.product.service.BestSellerRanking;
+import com.tjg_project.candy.domain.product.service.CoPurchaseRecommender;
+import com.tjg_project.candy.domain.product.service.ProductService;
+import com.tjg_project.candy.domain.product.service.RankingWindow;
+import com.tjg_project.candy.domain.user.service.UserViewLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ChatRecommendService {
+
+    private final UserViewLogService userViewLogService;
+    private final CoPurchaseRecommender coPurchaseRecommender;
+    private final BestSellerRanking bestSellerRanking;
+    private final ProductService productService;
+
+    // 최근 본 상품 기반 추천, 없으면 최근 본 중분류(또는 전체)의 주간 베스트
+    public List<ProductSummaryDto> recommend(Long upk, int limit) {
+        List<Long> recent = upk == null ? List.of() : userViewLogService.getRecentProducts(upk);
+        List<Long> ids = coPurchaseRecommender.recommendFor(recent, limit);
+
+        if (ids.isEmpty()) {
+            Long subCategory = upk == null ? null : userViewLogService.getRecentSubCategory(upk);
+            ids = bestSellerRanking.top(RankingWindow.WEEK, subCategory, limit);
+        }
+        return productService.getProductSummaries(ids);
+    }
+}
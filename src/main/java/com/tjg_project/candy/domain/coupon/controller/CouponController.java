@@ -1,15 +1,17 @@
 package com.tjg_project.candy.domain.coupon.controller;
 
-import com.tjg_project.candy.domain.coupon.entity.UserCoupon;
+import com.tjg_project.candy.domain.coupon.dto.UserCouponDto;
 import com.tjg_project.candy.domain.coupon.repository.UserCouponRepository;
 import com.tjg_project.candy.domain.coupon.service.CouponService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/coupon")
 @RequiredArgsConstructor
@@ -42,12 +44,11 @@ public class CouponController {
         }
     }
 
-    /** 🔹 2) 마이페이지에서 쓸 전체 쿠폰 정보 (UserCoupon 전체) */
+    /** 🔹 2) 마이페이지에서 쓸 전체 쿠폰 정보 (UserCouponDto) */
     @GetMapping("/my/{userId}")
     public ResponseEntity<?> getUserCoupons(@PathVariable Long userId) {
-        System.out.println("mypage userID-------?" + userId);
-        List<UserCoupon> coupons = couponService.getUserCoupons(userId);
-        System.out.println("coupons ****************************" + coupons);
+        List<UserCouponDto> coupons = couponService.getUserCoupons(userId);
+        log.debug("마이페이지 쿠폰 조회 userId={} count={}", userId, coupons.size());
         return ResponseEntity.ok(coupons);
     }
 
@@ -56,13 +57,7 @@ public class CouponController {
     @GetMapping("/user-ids/{userId}")
     public ResponseEntity<?> getUserCouponIds(@PathVariable Long userId) {
 
-        List<UserCoupon> list = couponService.getUserCoupons(userId);
-
-        List<Long> couponIds = list.stream()
-                .map(uc -> uc.getCoupon().getCouponId())
-                .toList();
-
-        return ResponseEntity.ok(couponIds);
+        return ResponseEntity.ok(couponService.getUserCouponIds(userId));
     }
 
     /** 🔹 4) 쿠폰 삭제  */
@@ -0,0 +1,33 @@
+package com.tjg_project.candy.domain.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 마이페이지 보유 쿠폰 (UserCoupon 엔티티 대신)
+ * - 기존 JSON 구조(id, qty, isUsed, coupon.*) 유지
+ */
+@Getter
+public class UserCouponDto {
+
+    private final Long id;
+    private final int qty;
+    private final Boolean isUsed;
+    private final CouponInfo coupon;
+
+    // ✅ JPQL 생성자 표현식용
+    public UserCouponDto(Long id, int qty, Boolean isUsed, Long couponId, int couponDcRate, int couponQty) {
+        this.id = id;
+        this.qty = qty;
+        this.isUsed = isUsed;
+        this.coupon = new CouponInfo(couponId, couponDcRate, couponQty);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CouponInfo {
+        private final Long couponId;
+        private final int couponDcRate;
+        private final int couponQty;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tjg_project.candy.domain.coupon.repository;
 
+import com.tjg_project.candy.domain.coupon.dto.UserCouponDto;
 import com.tjg_project.candy.domain.coupon.entity.Coupon;
 import com.tjg_project.candy.domain.coupon.entity.UserCoupon;
 import com.tjg_project.candy.domain.user.entity.Users;
@@ -15,8 +16,21 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     Optional<UserCoupon> findByUsersAndCoupon(Users users, Coupon coupon);
 
-    @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon WHERE uc.users.id = :userId")
-    List<UserCoupon> findAllWithCouponByUserId(@Param("userId") Long userId);
+    // ✅ 마이페이지 쿠폰 목록 프로젝션 (쿼리 1회)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.coupon.dto.UserCouponDto(
+            uc.id, uc.qty, uc.isUsed, c.couponId, c.couponDcRate, c.couponQty
+        )
+        FROM UserCoupon uc
+        JOIN uc.coupon c
+        WHERE uc.users.id = :userId
+        ORDER BY uc.id
+        """)
+    List<UserCouponDto> findDtosByUserId(@Param("userId") Long userId);
+
+    // ✅ 이미 받은 쿠폰 id 만 (쿠폰 페이지 버튼 상태용)
+    @Query("SELECT uc.coupon.couponId FROM UserCoupon uc WHERE uc.users.id = :userId")
+    List<Long> findCouponIdsByUserId(@Param("userId") Long userId);
 
     @Modifying
     @Query("UPDATE UserCoupon uc SET uc.isUsed = true WHERE uc.id = :id")
@@ -1,6 +1,6 @@
 package com.tjg_project.candy.domain.coupon.service;
 
-import com.tjg_project.candy.domain.coupon.entity.UserCoupon;
+import com.tjg_project.candy.domain.coupon.dto.UserCouponDto;
 
 import java.util.List;
 
@@ -10,7 +10,9 @@ public interface CouponService {
 
     boolean deleteUserCoupon(Long userId, Long couponId);
 
-    List<UserCoupon> getUserCoupons(Long userId);
+    List<UserCouponDto> getUserCoupons(Long userId);
+
+    List<Long> getUserCouponIds(Long userId);
 
     boolean updateCoupon(Long id);
 }
@@ -1,5 +1,6 @@
 package com.tjg_project.candy.domain.coupon.service;
 
+import com.tjg_project.candy.domain.coupon.dto.UserCouponDto;
 import com.tjg_project.candy.domain.coupon.entity.Coupon;
 import com.tjg_project.candy.domain.coupon.entity.UserCoupon;
 import com.tjg_project.candy.domain.coupon.repository.CouponRepository;
@@ -9,12 +10,14 @@ import com.tjg_project.candy.domain.order.repository.OrderRepository;
 import com.tjg_project.candy.domain.user.entity.Users;
 import com.tjg_project.candy.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponServiceImpl implements CouponService {
@@ -66,16 +69,20 @@ public class CouponServiceImpl implements CouponService {
     }
 
     @Override
-    public List<UserCoupon> getUserCoupons(Long userId) {
-        System.out.println("service******************************" + userId);
-        return userCouponRepository.findAllWithCouponByUserId(userId);
+    public List<UserCouponDto> getUserCoupons(Long userId) {
+        return userCouponRepository.findDtosByUserId(userId);
+    }
+
+    @Override
+    public List<Long> getUserCouponIds(Long userId) {
+        return userCouponRepository.findCouponIdsByUserId(userId);
     }
 
     @Transactional
     @Override
     public boolean updateCoupon(Long id) {
         int rows = userCouponRepository.updateIsUsedById(id);
-        System.out.println(rows);
+        log.debug("쿠폰 사용 처리 id={} rows={}", id, rows);
         return false;
     }
 }
@@ -0,0 +1,20 @@
+package com.tjg_project.candy.domain.excel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 판매 엑셀 한 줄 (product_daily_metrics 에서 바로 읽음)
+ */
+@Getter
+@AllArgsConstructor
+public class DailySalesExcelRow {
+    private final LocalDate day;
+    private final Long ppk;
+    private final String productName;
+    private final long views;
+    private final long units;
+    private final long revenue;
+}
@@ -0,0 +1,90 @@
+package com.tjg_project.candy.domain.excel.repository;
+
+import com.tjg_project.candy.domain.analytics.dto.ConversionRateDto;
+import com.tjg_project.candy.domain.excel.dto.DailySalesExcelRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 엑셀 리포트용 조회 (JdbcTemplate + fetchSize)
+ * - forEach* 는 결과를 List 로 모으지 않고 한 줄씩 넘긴다
+ * - PostgreSQL 은 트랜잭션 안(autocommit off)에서만 fetchSize 단위 커서로 읽으므로 호출 측에서 readOnly 트랜잭션으로 감쌀 것
+ */
+@Repository
+public class ExcelReportRepository {
+
+    // 상품별 누적 조회수 / 판매수량 (일별 집계 테이블 기준)
+    private static final String CONVERSION_SQL = """
+            SELECT p.id, p.product_name, COALESCE(m.views, 0), COALESCE(m.units, 0)
+            FROM product p
+            LEFT JOIN (
+                SELECT ppk, SUM(views) AS views, SUM(units) AS units
+                FROM product_daily_metrics
+                GROUP BY ppk
+            ) m ON m.ppk = p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExcelReportRepository(DataSource dataSource,
+                                 @Value("${excel.stream.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // 전체 상품 전환율 (상품 id 순, 한 줄씩)
+    public void forEachConversion(Consumer<ConversionRateDto> consumer) {
+        jdbcTemplate.query(CONVERSION_SQL + " ORDER BY p.id",
+                (RowCallbackHandler) rs -> consumer.accept(new ConversionRateDto(
+                        rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4))));
+    }
+
+    // 조회수 상위 N개 상품 (요약 차트용)
+    public List<ConversionRateDto> findTopConversion(int limit) {
+        return jdbcTemplate.query(CONVERSION_SQL + " ORDER BY 3 DESC, p.id LIMIT ?",
+                (rs, i) -> new ConversionRateDto(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4)),
+                limit);
+    }
+
+    // 기준일 이후 상품별 / 일별 조회수, 판매수량, 매출 (날짜, 상품 순, 한 줄씩)
+    public void forEachDailySales(LocalDate from, Consumer<DailySalesExcelRow> consumer) {
+        String sql = """
+                SELECT m.day, m.ppk, p.product_name, m.views, m.units, m.revenue
+                FROM product_daily_metrics m
+                LEFT JOIN product p ON p.id = m.ppk
+                WHERE m.day >= ?
+                ORDER BY m.day, m.ppk
+                """;
+        jdbcTemplate.query(sql,
+                (RowCallbackHandler) rs -> consumer.accept(new DailySalesExcelRow(
+                        rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getString(3),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6))),
+                Date.valueOf(from));
+    }
+
+    // 기준일 이후 일별 전체 판매수량 (요약 차트용, 날짜 순)
+    public Map<LocalDate, Long> findDailyUnitTotals(LocalDate from) {
+        String sql = """
+                SELECT day, SUM(units)
+                FROM product_daily_metrics
+                WHERE day >= ?
+                GROUP BY day
+                ORDER BY day
+                """;
+        Map<LocalDate, Long> totals = new LinkedHashMap<>();
+        jdbcTemplate.query(sql,
+                (RowCallbackHandler) rs -> totals.put(rs.getDate(1).toLocalDate(), rs.getLong(2)),
+                Date.valueOf(from));
+        return totals;
+    }
+}
@@ -0,0 +1,184 @@
+package com.tjg_project.candy.domain.excel.service;
+
+import com.tjg_project.candy.domain.excel.dto.ConversionExcelRow;
+import com.tjg_project.candy.domain.excel.dto.ForecastExcelRow;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xddf.usermodel.PresetColor;
+import org.apache.poi.xddf.usermodel.XDDFColor;
+import org.apache.poi.xddf.usermodel.XDDFSolidFillProperties;
+import org.apache.poi.xddf.usermodel.chart.*;
+import org.apache.poi.xssf.usermodel.*;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 엑셀(xlsx) 생성 — 컨트롤러와 분리해서 벤치마크 / 재사용 가능하게
+ */
+@Service
+public class ExcelExportService {
+
+    // ✅ 전환율 시트 + 클릭/구매 가로 막대 차트
+    public byte[] conversionWorkbook(List<ConversionExcelRow> rows) throws IOException {
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet("Conversion");
+
+            // ---------------- Header ----------------
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("상품명");
+            header.createCell(1).setCellValue("조회수");
+            header.createCell(2).setCellValue("구매수");
+            header.createCell(3).setCellValue("전환율 (%)");
+
+            // ---------------- Body Rows ----------------
+            int rowNum = 1;
+            for (ConversionExcelRow r : rows) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(r.getProductName());
+                row.createCell(1).setCellValue(r.getClicks());
+                row.createCell(2).setCellValue(r.getOrders());
+                row.createCell(3).setCellValue(r.getConversionRate());
+            }
+
+            // ---------------- Create Chart ----------------
+            XSSFDrawing draw = sheet.createDrawingPatriarch();
+            XSSFClientAnchor anchor = new XSSFClientAnchor(
+                    0, 0, 0, 0,
+                    5, 1, 22, 25
+            );
+
+            XSSFChart chart = draw.createChart(anchor);
+            chart.setTitleText("클릭 대비 구매 전환율");
+
+            XDDFChartLegend legend = chart.getOrAddLegend();
+            legend.setPosition(LegendPosition.RIGHT);
+
+            // ---------------- Axis ----------------
+            XDDFCategoryAxis axisY = chart.createCategoryAxis(AxisPosition.LEFT);  // 상품명(Y축)
+            XDDFValueAxis axisX = chart.createValueAxis(AxisPosition.BOTTOM);     // 값(X축)
+
+            // ---------------- Data Range ----------------
+            var names = XDDFDataSourcesFactory.fromStringCellRange(
+                    sheet, new CellRangeAddress(1, rowNum - 1, 0, 0)
+            );
+            var clicks = XDDFDataSourcesFactory.fromNumericCellRange(
+                    sheet, new CellRangeAddress(1, rowNum - 1, 1, 1)
+            );
+            var orders = XDDFDataSourcesFactory.fromNumericCellRange(
+                    sheet, new CellRangeAddress(1, rowNum - 1, 2, 2)
+            );
+
+            // ---------------- Bar Chart Data ----------------
+            XDDFBarChartData barData =
+                    (XDDFBarChartData) chart.createData(ChartTypes.BAR, axisY, axisX);
+
+            // ⭐ 가로형(bar) 적용 (중요!!)
+            barData.setBarDirection(BarDirection.BAR);
+
+            // ⭐ 조회수 (파란색)
+            XDDFBarChartData.Series clicksSeries =
+                    (XDDFBarChartData.Series) barData.addSeries(names, clicks);
+            clicksSeries.setTitle("조회수", null);
+            clicksSeries.setFillProperties(
+                    new XDDFSolidFillProperties(XDDFColor.from(PresetColor.BLUE))
+            );
+
+            // ⭐ 구매수 (주황색)
+            XDDFBarChartData.Series ordersSeries =
+                    (XDDFBarChartData.Series) barData.addSeries(names, orders);
+            ordersSeries.setTitle("구매수", null);
+            ordersSeries.setFillProperties(
+                    new XDDFSolidFillProperties(XDDFColor.from(PresetColor.ORANGE))
+            );
+
+            chart.plot(barData);
+
+            return toBytes(workbook);
+        }
+    }
+
+    // ✅ 판매량 예측 시트 + 날짜별 가로 막대 차트
+    public byte[] forecastWorkbook(List<ForecastExcelRow> rows) throws IOException {
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet("Forecast");
+
+            // -------- Header --------
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("구분");
+            header.createCell(1).setCellValue("날짜");
+            header.createCell(2).setCellValue("예측값");
+
+            int rowNum = 1;
+            for (ForecastExcelRow r : rows) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(r.getType());
+                row.createCell(1).setCellValue(r.getDate());
+                row.createCell(2).setCellValue(r.getValue());
+            }
+
+            // -------- Chart Anchor --------
+            XSSFDrawing draw = sheet.createDrawingPatriarch();
+            XSSFClientAnchor anchor = new XSSFClientAnchor(
+                    0, 0, 0, 0,
+                    4, 1, 22, 25
+            );
+
+            XSSFChart chart = draw.createChart(anchor);
+            chart.setTitleText("판매량 예측");
+
+            XDDFChartLegend legend = chart.getOrAddLegend();
+            legend.setPosition(LegendPosition.RIGHT);
+
+            // -------- Axis 설정 --------
+            // 날짜(Y축)
+            XDDFCategoryAxis yAxis = chart.createCategoryAxis(AxisPosition.LEFT);
+            yAxis.setTitle("날짜");
+
+            // 예측값(X축)
+            XDDFValueAxis xAxis = chart.createValueAxis(AxisPosition.BOTTOM);
+            xAxis.setTitle("예측값");
+
+            // -------- DataRange --------
+            var dates = XDDFDataSourcesFactory.fromStringCellRange(
+                    sheet, new CellRangeAddress(1, rowNum - 1, 1, 1)
+            );
+
+            var values = XDDFDataSourcesFactory.fromNumericCellRange(
+                    sheet, new CellRangeAddress(1, rowNum - 1, 2, 2)
+            );
+
+            // -------- Bar Chart --------
+            XDDFBarChartData barData =
+                    (XDDFBarChartData) chart.createData(ChartTypes.BAR, yAxis, xAxis);
+
+            // ⭐ 바 차트를 가로형으로 설정
+            barData.setBarDirection(BarDirection.BAR);
+
+            // -------- Series --------
+            XDDFBarChartData.Series valueSeries =
+                    (XDDFBarChartData.Series) barData.addSeries(dates, values);
+
+            valueSeries.setTitle("예측값", null);
+
+            // 색 (파란색)
+            valueSeries.setFillProperties(
+                    new XDDFSolidFillProperties(XDDFColor.from(PresetColor.BLUE))
+            );
+
+            chart.plot(barData);
+
+            return toBytes(workbook);
+        }
+    }
+
+    private static byte[] toBytes(XSSFWorkbook workbook) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        workbook.write(bos);
+        return bos.toByteArray();
+    }
+}
@@ -0,0 +1,274 @@
+package com.tjg_project.candy.domain.excel.service;
+
+import com.tjg_project.candy.domain.analytics.dto.ConversionRateDto;
+import com.tjg_project.candy.domain.excel.repository.ExcelReportRepository;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xddf.usermodel.PresetColor;
+import org.apache.poi.xddf.usermodel.XDDFColor;
+import org.apache.poi.xddf.usermodel.XDDFSolidFillProperties;
+import org.apache.poi.xddf.usermodel.chart.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대용량 엑셀 리포트 (SXSSF 스트리밍)
+ * - 데이터 시트: DB 커서에서 한 줄씩 받아 SXSSF 로 기록 → 메모리에는 window-rows 줄만, 나머지는 임시파일
+ * - 차트는 SXSSF 시트에 만들 수 없어서, 작은 요약 시트를 XSSF 템플릿으로 먼저 만들고 그 위에 SXSSF 를 씌운다
+ * - DB 조회(트랜잭션)는 임시파일 기록까지만, 응답 스트림 쓰기는 커넥션 반납 후
+ * - 시트 하나는 1,048,576행이 한계라서, 넘치면 같은 헤더로 다음 시트(DailySales 2, 3 ...)에 이어 쓴다
+ */
+@Service
+public class StreamingExcelExportService {
+
+    // 엑셀 시트 최대 행 수 (헤더 포함)
+    static final int MAX_SHEET_ROWS = 1_048_576;
+
+    private final ExcelReportRepository excelReportRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final int windowRows;
+    private final int summaryTopN;
+    private final int maxDays;
+
+    public StreamingExcelExportService(ExcelReportRepository excelReportRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${excel.stream.window-rows:200}") int windowRows,
+                                       @Value("${excel.stream.summary-top-n:20}") int summaryTopN,
+                                       @Value("${excel.stream.max-days:730}") int maxDays) {
+        this.excelReportRepository = excelReportRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.windowRows = windowRows;
+        this.summaryTopN = summaryTopN;
+        this.maxDays = maxDays;
+    }
+
+    // ✅ 전체 상품 전환율 (Summary: 조회수 상위 N개 차트 / Conversion: 전체 상품)
+    public void writeConversion(OutputStream out) throws IOException {
+        write(readOnlyTx.execute(status -> buildConversion()), out);
+    }
+
+    // ✅ 최근 N일 상품별 일별 판매 (Summary: 일별 전체 판매수량 차트 / DailySales: 날짜 x 상품)
+    public void writeDailySales(int days, OutputStream out) throws IOException {
+        int clamped = Math.max(1, Math.min(days, maxDays));
+        LocalDate from = LocalDate.now().minusDays(clamped - 1L);
+        write(readOnlyTx.execute(status -> buildDailySales(from)), out);
+    }
+
+    private SXSSFWorkbook buildConversion() {
+        // ---------------- Summary (XSSF, 차트 포함) ----------------
+        XSSFWorkbook template = new XSSFWorkbook();
+        XSSFSheet summary = template.createSheet("Summary");
+        header(summary, "상품명", "조회수", "구매수", "전환율 (%)");
+        List<ConversionRateDto> top = excelReportRepository.findTopConversion(summaryTopN);
+        int rowNum = 1;
+        for (ConversionRateDto r : top) {
+            Row row = summary.createRow(rowNum++);
+            row.createCell(0).setCellValue(r.getProductName());
+            row.createCell(1).setCellValue(r.getClicks());
+            row.createCell(2).setCellValue(r.getOrders());
+            row.createCell(3).setCellValue(r.getConversionRate());
+        }
+        if (!top.isEmpty()) {
+            conversionChart(summary, rowNum - 1);
+        }
+
+        // ---------------- Conversion (SXSSF, 전체 상품) ----------------
+        SXSSFWorkbook workbook = streaming(template);
+        try {
+            RollingSheet sheet = new RollingSheet(workbook, "Conversion",
+                    "상품 ID", "상품명", "조회수", "구매수", "전환율 (%)");
+            excelReportRepository.forEachConversion(r -> {
+                Row row = sheet.nextRow();
+                row.createCell(0).setCellValue(r.getPpk());
+                row.createCell(1).setCellValue(r.getProductName());
+                row.createCell(2).setCellValue(r.getClicks());
+                row.createCell(3).setCellValue(r.getOrders());
+                row.createCell(4).setCellValue(r.getConversionRate());
+            });
+            return workbook;
+        } catch (RuntimeException e) {
+            discard(workbook);
+            throw e;
+        }
+    }
+
+    private SXSSFWorkbook buildDailySales(LocalDate from) {
+        // ---------------- Summary (XSSF, 차트 포함) ----------------
+        XSSFWorkbook template = new XSSFWorkbook();
+        XSSFSheet summary = template.createSheet("Summary");
+        header(summary, "날짜", "판매수량");
+        Map<LocalDate, Long> totals = excelReportRepository.findDailyUnitTotals(from);
+        int rowNum = 1;
+        for (Map.Entry<LocalDate, Long> e : totals.entrySet()) {
+            Row row = summary.createRow(rowNum++);
+            row.createCell(0).setCellValue(e.getKey().toString()); // 차트 카테고리용 문자열
+            row.createCell(1).setCellValue(e.getValue());
+        }
+        if (!totals.isEmpty()) {
+            dailySalesChart(summary, rowNum - 1);
+        }
+
+        // ---------------- DailySales (SXSSF, 날짜 x 상품) ----------------
+        SXSSFWorkbook workbook = streaming(template);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+
+            RollingSheet sheet = new RollingSheet(workbook, "DailySales",
+                    "날짜", "상품 ID", "상품명", "조회수", "판매수량", "매출");
+            excelReportRepository.forEachDailySales(from, r -> {
+                Row row = sheet.nextRow();
+                Cell day = row.createCell(0);
+                day.setCellValue(r.getDay());
+                day.setCellStyle(dateStyle);
+                row.createCell(1).setCellValue(r.getPpk());
+                row.createCell(2).setCellValue(r.getProductName());
+                row.createCell(3).setCellValue(r.getViews());
+                row.createCell(4).setCellValue(r.getUnits());
+                row.createCell(5).setCellValue(r.getRevenue());
+            });
+            return workbook;
+        } catch (RuntimeException e) {
+            discard(workbook);
+            throw e;
+        }
+    }
+
+    // XSSF 템플릿(요약 시트) 위에 새 시트만 스트리밍으로
+    private SXSSFWorkbook streaming(XSSFWorkbook template) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(template, windowRows);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    private static void write(SXSSFWorkbook workbook, OutputStream out) throws IOException {
+        try {
+            workbook.write(out);
+        } finally {
+            discard(workbook);
+        }
+    }
+
+    // 임시파일 삭제 + 닫기
+    private static void discard(SXSSFWorkbook workbook) {
+        try {
+            workbook.dispose();
+            workbook.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 행 한도(MAX_SHEET_ROWS)에 닿으면 같은 헤더로 새 시트를 만들어 이어 쓰는 데이터 시트
+     */
+    static final class RollingSheet {
+        private final SXSSFWorkbook workbook;
+        private final String name;
+        private final String[] titles;
+        private final int maxRows;
+        private Sheet sheet;
+        private int sheets;
+        private int next;
+
+        RollingSheet(SXSSFWorkbook workbook, String name, String... titles) {
+            this(workbook, MAX_SHEET_ROWS, name, titles);
+        }
+
+        RollingSheet(SXSSFWorkbook workbook, int maxRows, String name, String... titles) {
+            this.workbook = workbook;
+            this.maxRows = maxRows;
+            this.name = name;
+            this.titles = titles;
+            roll();
+        }
+
+        Row nextRow() {
+            if (next >= maxRows) {
+                roll();
+            }
+            return sheet.createRow(next++);
+        }
+
+        private void roll() {
+            sheets++;
+            sheet = workbook.createSheet(sheets == 1 ? name : name + " " + sheets);
+            header(sheet, titles);
+            next = 1;
+        }
+    }
+
+    private static void header(Sheet sheet, String... titles) {
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < titles.length; i++) {
+            header.createCell(i).setCellValue(titles[i]);
+        }
+    }
+
+    // 상위 N개 상품 조회/구매 가로 막대 차트
+    private static void conversionChart(XSSFSheet sheet, int lastRow) {
+        XSSFDrawing draw = sheet.createDrawingPatriarch();
+        XSSFChart chart = draw.createChart(new XSSFClientAnchor(0, 0, 0, 0, 5, 1, 22, 25));
+        chart.setTitleText("조회 대비 구매 전환율 (조회수 상위)");
+        chart.getOrAddLegend().setPosition(LegendPosition.RIGHT);
+
+        XDDFCategoryAxis axisY = chart.createCategoryAxis(AxisPosition.LEFT);
+        XDDFValueAxis axisX = chart.createValueAxis(AxisPosition.BOTTOM);
+
+        var names = XDDFDataSourcesFactory.fromStringCellRange(sheet, new CellRangeAddress(1, lastRow, 0, 0));
+        var clicks = XDDFDataSourcesFactory.fromNumericCellRange(sheet, new CellRangeAddress(1, lastRow, 1, 1));
+        var orders = XDDFDataSourcesFactory.fromNumericCellRange(sheet, new CellRangeAddress(1, lastRow, 2, 2));
+
+        XDDFBarChartData barData = (XDDFBarChartData) chart.createData(ChartTypes.BAR, axisY, axisX);
+        barData.setBarDirection(BarDirection.BAR);
+
+        XDDFBarChartData.Series clicksSeries = (XDDFBarChartData.Series) barData.addSeries(names, clicks);
+        clicksSeries.setTitle("조회수", null);
+        clicksSeries.setFillProperties(new XDDFSolidFillProperties(XDDFColor.from(PresetColor.BLUE)));
+
+        XDDFBarChartData.Series ordersSeries = (XDDFBarChartData.Series) barData.addSeries(names, orders);
+        ordersSeries.setTitle("구매수", null);
+        ordersSeries.setFillProperties(new XDDFSolidFillProperties(XDDFColor.from(PresetColor.ORANGE)));
+
+        chart.plot(barData);
+    }
+
+    // 일별 전체 판매수량 꺾은선 차트
+    private static void dailySalesChart(XSSFSheet sheet, int lastRow) {
+        XSSFDrawing draw = sheet.createDrawingPatriarch();
+        XSSFChart chart = draw.createChart(new XSSFClientAnchor(0, 0, 0, 0, 3, 1, 20, 25));
+        chart.setTitleText("일별 판매수량");
+        chart.getOrAddLegend().setPosition(LegendPosition.RIGHT);
+
+        XDDFCategoryAxis axisX = chart.createCategoryAxis(AxisPosition.BOTTOM);
+        axisX.setTitle("날짜");
+        XDDFValueAxis axisY = chart.createValueAxis(AxisPosition.LEFT);
+        axisY.setTitle("판매수량");
+
+        var days = XDDFDataSourcesFactory.fromStringCellRange(sheet, new CellRangeAddress(1, lastRow, 0, 0));
+        var units = XDDFDataSourcesFactory.fromNumericCellRange(sheet, new CellRangeAddress(1, lastRow, 1, 1));
+
+        XDDFLineChartData lineData = (XDDFLineChartData) chart.createData(ChartTypes.LINE, axisX, axisY);
+        XDDFLineChartData.Series series = (XDDFLineChartData.Series) lineData.addSeries(days, units);
+        series.setTitle("판매수량", null);
+        series.setSmooth(false);
+        series.setMarkerStyle(MarkerStyle.NONE);
+
+        chart.plot(lineData);
+    }
+}
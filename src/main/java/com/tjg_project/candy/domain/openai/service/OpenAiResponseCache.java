@@ -0,0 +1,199 @@
+package com.tjg_project.candy.domain.openai.service;
+
+import com.tjg_project.candy.global.cache.CacheStats;
+import com.tjg_project.candy.global.cache.LocalCache;
+import com.tjg_project.candy.global.cache.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * OpenAI 응답 캐시 (키 = sha256(model + prompt))
+ * - 프롬프트에 판매량 / 리뷰 원문이 그대로 들어가므로 데이터가 바뀌면 키도 바뀐다 → 별도 무효화 불필요
+ * - 메모리(LRU + TTL) → 디스크(선택) → OpenAI 순서로 조회
+ * - 같은 키 동시 요청은 single-flight 로 OpenAI 호출 1번만
+ * - dir 을 지정하면 응답을 파일로도 저장해서 재시작 후에도 TTL 안에서는 재사용 (파일 수정시각 + TTL 기준 만료)
+ */
+@Slf4j
+@Component
+public class OpenAiResponseCache {
+
+    private static final String SUFFIX = ".txt";
+
+    private final LocalCache<String, String> memory;
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final Path dir; // null → 디스크 저장 안 함
+    private final long ttlMillis;
+    private final int diskMaxFiles;
+
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+
+    public OpenAiResponseCache(
+            @Value("${openai.cache.max-size:500}") int maxSize,
+            @Value("${openai.cache.ttl-seconds:21600}") long ttlSeconds,
+            @Value("${openai.cache.dir:}") String dir,
+            @Value("${openai.cache.disk-max-files:5000}") int diskMaxFiles) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.memory = new LocalCache<>("openai.response", maxSize, ttlMillis);
+        this.diskMaxFiles = diskMaxFiles;
+        this.dir = dir == null || dir.isBlank() ? null : Path.of(dir);
+        if (this.dir != null) {
+            try {
+                Files.createDirectories(this.dir);
+            } catch (IOException e) {
+                throw new IllegalStateException("OpenAI 캐시 디렉터리 생성 실패: " + dir, e);
+            }
+        }
+    }
+
+    public String get(String model, String prompt, Supplier<String> upstream) {
+        String key = key(model, prompt);
+        String cached = memory.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlight.run(key, () -> {
+            // 앞선 요청이 방금 채웠을 수 있음
+            String again = memory.get(key);
+            if (again != null) {
+                return again;
+            }
+            String fromDisk = readDisk(key);
+            if (fromDisk != null) {
+                return fromDisk;
+            }
+            upstreamCalls.increment();
+            String value = upstream.get();
+            if (value != null) {
+                memory.put(key, value);
+                writeDisk(key, value);
+            }
+            return value;
+        });
+    }
+
+    // 응답은 왔지만 쓸 수 없는 경우 (JSON 파싱 실패 등) 다음 요청에서 다시 받도록
+    public void invalidate(String model, String prompt) {
+        String key = key(model, prompt);
+        memory.invalidate(key);
+        if (dir != null) {
+            deleteQuietly(dir.resolve(key + SUFFIX));
+        }
+    }
+
+    static String key(String model, String prompt) {
+        return DigestUtils.sha256Hex(model + "\n" + prompt);
+    }
+
+    // ✅ 만료 항목 정리 (메모리 + 디스크), 디스크는 disk-max-files 초과분을 오래된 순으로 삭제
+    @Scheduled(fixedDelayString = "${openai.cache.cleanup-ms:600000}")
+    public void cleanUp() {
+        memory.cleanUp();
+        if (dir == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> alive = files
+                    .filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+                    .filter(p -> {
+                        if (modifiedAt(p) <= cutoff) {
+                            deleteQuietly(p);
+                            return false;
+                        }
+                        return true;
+                    })
+                    .sorted(Comparator.comparingLong(OpenAiResponseCache::modifiedAt))
+                    .toList();
+            for (int i = 0; i < alive.size() - diskMaxFiles; i++) {
+                deleteQuietly(alive.get(i));
+            }
+        } catch (IOException e) {
+            log.warn("OpenAI 캐시 디렉터리 정리 실패: {}", e.toString());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = memory.stats();
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("memory", stats);
+        res.put("diskEnabled", dir != null);
+        res.put("diskHits", diskHits.sum());
+        res.put("upstreamCalls", upstreamCalls.sum());
+        res.put("coalesced", singleFlight.shared());
+        res.put("inFlight", singleFlight.inFlight());
+        return res;
+    }
+
+    private String readDisk(String key) {
+        if (dir == null) {
+            return null;
+        }
+        Path file = dir.resolve(key + SUFFIX);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        long expiresAt = modifiedAt(file) + ttlMillis;
+        if (expiresAt <= System.currentTimeMillis()) {
+            deleteQuietly(file);
+            return null;
+        }
+        try {
+            String value = Files.readString(file, StandardCharsets.UTF_8);
+            memory.put(key, value, expiresAt);
+            diskHits.increment();
+            return value;
+        } catch (IOException e) {
+            log.warn("OpenAI 캐시 파일 읽기 실패 {}: {}", file, e.toString());
+            return null;
+        }
+    }
+
+    // 임시 파일에 쓰고 이름 변경 (읽는 쪽이 반쯤 쓰인 파일을 보지 않도록)
+    private void writeDisk(String key, String value) {
+        if (dir == null) {
+            return;
+        }
+        Path tmp = dir.resolve(key + ".tmp");
+        try {
+            Files.writeString(tmp, value, StandardCharsets.UTF_8);
+            Files.move(tmp, dir.resolve(key + SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("OpenAI 캐시 파일 저장 실패 {}: {}", key, e.toString());
+            deleteQuietly(tmp);
+        }
+    }
+
+    private static long modifiedAt(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("OpenAI 캐시 파일 삭제 실패 {}: {}", file, e.toString());
+        }
+    }
+}
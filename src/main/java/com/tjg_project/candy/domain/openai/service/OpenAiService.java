@@ -2,7 +2,7 @@ package com.tjg_project.candy.domain.openai.service;
 
 import com.tjg_project.candy.domain.openai.dto.OpenAiRequest;
 import com.tjg_project.candy.domain.openai.dto.OpenAiResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -11,20 +11,42 @@ import org.springframework.http.*;
 import java.util.Collections;
 
 @Service
-@RequiredArgsConstructor
 public class OpenAiService {
 
-    @Value("${openai.api-key}")
-    private String apiKey;
+    private final RestTemplate restTemplate;
+    private final OpenAiResponseCache responseCache;
+    private final String apiKey;
+    private final String baseUrl;
+    private final String model;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    public OpenAiService(@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                         OpenAiResponseCache responseCache,
+                         @Value("${openai.api-key}") String apiKey,
+                         @Value("${openai.base-url:https://api.openai.com}") String baseUrl,
+                         @Value("${openai.model:gpt-4o-mini}") String model) {
+        this.restTemplate = restTemplate;
+        this.responseCache = responseCache;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.model = model;
+    }
 
+    // ✅ 같은 모델 + 같은 프롬프트는 캐시된 응답 (동시 요청은 한 번만 호출)
     public String ask(String question) {
+        return responseCache.get(model, question, () -> call(question));
+    }
+
+    // 캐시된 응답이 쓸모없을 때 (형식 오류 등) 버리기
+    public void forget(String question) {
+        responseCache.invalidate(model, question);
+    }
+
+    private String call(String question) {
 
-        String url = "https://api.openai.com/v1/chat/completions";
+        String url = baseUrl + "/v1/chat/completions";
 
         OpenAiRequest request = new OpenAiRequest(
-                "gpt-4o-mini",
+                model,
                 Collections.singletonList(new OpenAiRequest.Message("user", question))
         );
 
@@ -39,4 +61,4 @@ public class OpenAiService {
 
         return response.getBody().getChoices().get(0).getMessage().getContent();
     }
-}
\ No newline at end of file
+}
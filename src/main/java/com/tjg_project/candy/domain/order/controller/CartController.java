@@ -1,5 +1,7 @@
 package com.tjg_project.candy.domain.order.controller;
 
+import lombok.extern.slf4j.Slf4j;
+import com.tjg_project.candy.domain.order.dto.CartItemDto;
 import com.tjg_project.candy.domain.order.entity.Cart;
 import com.tjg_project.candy.domain.order.service.CartService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/cart")
 public class CartController {
@@ -25,10 +28,9 @@ public class CartController {
 
     // 장바구니 가져오기
     @PostMapping("/cartList")
-    public List<Cart> cartList(@RequestBody Cart cart) {
+    public List<CartItemDto> cartList(@RequestBody Cart cart) {
 
-        System.out.println("cartopen");
-        System.out.println(cart.getUser().getId());
+        log.debug("장바구니 조회 upk={}", cart.getUser().getId());
         return cartService.cartList(cart.getUser().getId());
     }
 
@@ -2,12 +2,17 @@ package com.tjg_project.candy.domain.order.controller;
 
 
 import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.dto.ForecastBacktestDto;
 import com.tjg_project.candy.domain.order.dto.ForecastResponseDto;
+import com.tjg_project.candy.domain.order.service.ForecastBatchService;
 import com.tjg_project.candy.domain.order.service.ForecastService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,18 +20,49 @@ import java.util.List;
 public class ForecastController {
 
     private final ForecastService forecastService;
+    private final ForecastBatchService forecastBatchService;
 
     @GetMapping("/sales/{ppk}")
     public List<DailySalesDto> getSales(@PathVariable Long ppk) {
         return forecastService.getDailySales(ppk);
     }
 
+    // engine 없으면 야간 배치 결과 (computedAt = 계산 시각), 없는 상품만 즉시 local 계산
+    // engine = local (통계, 즉시) | llm (GPT, 실패 시 local 로 대체) 이면 항상 즉시 계산
     @GetMapping("/predict/{ppk}")
-    public ForecastResponseDto runForecast(@PathVariable Long ppk) {
+    public ForecastResponseDto runForecast(@PathVariable Long ppk,
+                                           @RequestParam(required = false) String engine) {
+        return forecastService.getForecast(ppk, engine);
+    }
+
+    // ✅ 미리 계산된 전체 상품 예측 (ppk → 예측)
+    @GetMapping("/predict/all")
+    public Map<Long, ForecastResponseDto> runForecastAll() {
+        return forecastService.findAllPrecomputed();
+    }
+
+    // ✅ 예측 배치 백그라운드 실행 (관리자 전용, 바로 202 → GET /batch 로 결과 확인, 실행 중이면 409)
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> runBatch() {
         try {
-            return forecastService.runForecast(ppk);
-        } catch (Exception e) {
-            throw new RuntimeException("AI 예측 실패: " + e.getMessage());
+            forecastBatchService.start();
+            return ResponseEntity.accepted().body(Map.of("status", "started"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("status", "fail", "message", e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    // 마지막 배치 결과 (관리자 전용)
+    @GetMapping("/batch")
+    public Map<String, Object> batchStatus() {
+        return Map.of("running", forecastBatchService.isRunning(), "lastRun", forecastBatchService.lastRun());
+    }
+
+    // ✅ 예측 엔진 오차 비교 (최근 holdout 일씩 folds 번)
+    @GetMapping("/backtest/{ppk}")
+    public ForecastBacktestDto backtest(@PathVariable Long ppk,
+                                        @RequestParam(defaultValue = "28") int holdout,
+                                        @RequestParam(defaultValue = "3") int folds) {
+        return forecastService.backtest(ppk, holdout, folds);
+    }
+}
@@ -1,47 +1,44 @@
 package com.tjg_project.candy.domain.order.controller;
 
-import com.tjg_project.candy.domain.coupon.service.CouponService;
-import com.tjg_project.candy.domain.order.dto.KakaoApproveResponse;
+import lombok.extern.slf4j.Slf4j;
 import com.tjg_project.candy.domain.order.dto.KakaoReadyResponse;
 import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
 import com.tjg_project.candy.domain.order.service.KakaoPayService;
-import com.tjg_project.candy.domain.order.service.OrderService;
-import com.tjg_project.candy.domain.product.service.ProductService;
+import com.tjg_project.candy.domain.order.service.OrderFinalizationService;
+import com.tjg_project.candy.domain.order.service.PaymentSessionService;
+import com.tjg_project.candy.domain.product.service.InventoryReservationLedger;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @RestController
 @RequestMapping("/payment")
 public class KakaoPayController {
 
     private final KakaoPayService kakaoPayService;
-    private final OrderService orderService;
-    private final CouponService couponService;
-    private final ProductService productService;
-
-    /** 🔥 전역 payInfo 제거 → orderId 기반 저장 */
-    private final Map<String, KakaoPay> payStore = new ConcurrentHashMap<>();
+    private final OrderFinalizationService orderFinalizationService;
+    private final InventoryReservationLedger inventoryReservationLedger;
+    /** 🔥 orderId 기반 결제 세션 (TTL 만료, 서버 여러 대에서 공유 가능) */
+    private final PaymentSessionService paymentSessionService;
 
     @Autowired
     public KakaoPayController(
             KakaoPayService kakaoPayService,
-            OrderService orderService,
-            CouponService couponService,
-            ProductService productService
+            OrderFinalizationService orderFinalizationService,
+            InventoryReservationLedger inventoryReservationLedger,
+            PaymentSessionService paymentSessionService
     ) {
         this.kakaoPayService = kakaoPayService;
-        this.orderService = orderService;
-        this.couponService = couponService;
-        this.productService = productService;
+        this.orderFinalizationService = orderFinalizationService;
+        this.inventoryReservationLedger = inventoryReservationLedger;
+        this.paymentSessionService = paymentSessionService;
     }
 
     /** ✅ 결제 준비 */
@@ -51,40 +48,35 @@ public class KakaoPayController {
         String orderId = UUID.randomUUID().toString();
         kakaoPay.setOrderId(orderId);
 
-        // 🔥 Controller 전역변수 대신 안전한 Map 저장
-        payStore.put(orderId, kakaoPay);
+        // ✅ 핫딜 상품 재고 예약 (부족하면 결제창을 띄우지 않음)
+        if (!inventoryReservationLedger.reserve(orderId, kakaoPay.getProductInfo())) {
+            throw new IllegalStateException("재고가 부족한 상품이 있습니다.");
+        }
 
-        return kakaoPayService.ready(kakaoPay);
+        try {
+            paymentSessionService.open(orderId, PaymentSession.KAKAO, kakaoPay);
+            return kakaoPayService.ready(kakaoPay);
+        } catch (RuntimeException e) {
+            paymentSessionService.close(orderId);
+            inventoryReservationLedger.release(orderId);
+            throw e;
+        }
     }
 
-    /** ✅ 성공 콜백 — 트랜잭션으로 묶고 커넥션 누수 완전 제거 */
-    @Transactional
+    /** ✅ 성공 콜백 — 승인 + 주문 확정은 OrderFinalizationService (중복 / 재시도 안전) */
     @GetMapping("/qr/success")
     public ResponseEntity<Void> success(@RequestParam String orderId, @RequestParam("pg_token") String pgToken) {
 
-        /** 🔥 중복 호출 방지 — remove 하면 두 번째 호출은 null */
-        KakaoPay payInfo = payStore.remove(orderId);
-        if (payInfo == null) {
-            System.out.println("⚠ 이미 처리된 orderId: " + orderId);
+        OrderFinalizationService.Result result = orderFinalizationService.finalizeKakao(orderId, pgToken);
+        if (result == OrderFinalizationService.Result.NOT_FOUND || result == OrderFinalizationService.Result.IN_PROGRESS) {
+            log.warn("⚠ 처리 중이거나 만료된 orderId: {} ({})", orderId, result);
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
 
-        // 1) 카카오 승인 요청
-        KakaoApproveResponse approve = kakaoPayService.approve(orderId, pgToken);
-
-        // 2) 주문 저장
-        orderService.saveOrder(approve, payInfo);
-
-        // 3) 쿠폰 소모
-        couponService.updateCoupon(payInfo.getCouponId());
-
-        // 4) 재고 업데이트
-        List<KakaoPay.ProductInfo> productInfo = payInfo.getProductInfo();
-        productService.updateCount(productInfo);
-
-        // 5) 리다이렉트
+        // 완료 / 이미 완료 → 결과 페이지로 리다이렉트 (재고 부족 등으로 결제를 취소했으면 fail)
+        String status = result == OrderFinalizationService.Result.CANCELLED ? "fail" : "success";
         URI redirect = URI.create("https://candy-site.vercel.app/payResult?orderId="
-                + orderId + "&status=success");
+                + orderId + "&status=" + status);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setLocation(redirect);
@@ -94,11 +86,15 @@ public class KakaoPayController {
 
     @GetMapping("/qr/cancel")
     public ResponseEntity<?> cancel(@RequestParam String orderId) {
+        paymentSessionService.close(orderId);
+        inventoryReservationLedger.release(orderId);
         return ResponseEntity.ok(Map.of("status", "CANCEL", "orderId", orderId));
     }
 
     @GetMapping("/qr/fail")
     public ResponseEntity<?> fail(@RequestParam String orderId) {
+        paymentSessionService.close(orderId);
+        inventoryReservationLedger.release(orderId);
         return ResponseEntity.ok(Map.of("status", "FAIL", "orderId", orderId));
     }
 }
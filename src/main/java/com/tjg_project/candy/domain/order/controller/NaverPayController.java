@@ -1,12 +1,12 @@
 package com.tjg_project.candy.domain.order.controller;
 
-import com.tjg_project.candy.domain.coupon.service.CouponService;
-import com.tjg_project.candy.domain.order.dto.NaverApproveResponse;
-import com.tjg_project.candy.domain.order.entity.KakaoPay;
 import com.tjg_project.candy.domain.order.entity.NaverPay;
-import com.tjg_project.candy.domain.order.service.OrderService;
-import com.tjg_project.candy.domain.product.service.ProductService;
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+import com.tjg_project.candy.domain.order.service.OrderFinalizationService;
+import com.tjg_project.candy.domain.order.service.PaymentSessionService;
+import com.tjg_project.candy.domain.product.service.InventoryReservationLedger;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,46 +15,55 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.*;
 
+@Slf4j
 @RestController
 @RequestMapping("/payment/naver")
 @RequiredArgsConstructor
 public class NaverPayController {
-    private final OrderService orderService;
-    private final CouponService couponService;
-    private final ProductService productService;
-    private NaverPay payInfo = null;
+    private final OrderFinalizationService orderFinalizationService;
+    private final InventoryReservationLedger inventoryReservationLedger;
+    private final PaymentSessionService paymentSessionService;
 
     /** ✅ 프론트에서 주문 생성 요청 시 merchantPayKey 발급 */
     @PostMapping("/order")
     public Map<String, String> createOrder(@RequestBody NaverPay naverPay) {
-        System.out.println("naver" + naverPay);
         String merchantPayKey = UUID.randomUUID().toString();
-        System.out.println("🧾 네이버페이 주문 생성 완료 - merchantPayKey: " + merchantPayKey);
-        System.out.println("📦 받은 주문 정보: " + naverPay);
-        payInfo = naverPay;
+        log.info("🧾 네이버페이 주문 생성 - merchantPayKey: {}, upk: {}", merchantPayKey, naverPay.getId());
+
+        // ✅ 핫딜 상품 재고 예약 (merchantPayKey 기준)
+        if (!inventoryReservationLedger.reserve(merchantPayKey, naverPay.getProductInfo())) {
+            throw new IllegalStateException("재고가 부족한 상품이 있습니다.");
+        }
+
+        // 🔥 유저 간 공유되던 전역 payInfo 대신 merchantPayKey 기준 결제 세션에 저장
+        naverPay.setOrderId(merchantPayKey);
+        try {
+            paymentSessionService.open(merchantPayKey, PaymentSession.NAVER, naverPay);
+        } catch (RuntimeException e) {
+            inventoryReservationLedger.release(merchantPayKey);
+            throw e;
+        }
         Map<String, String> res = new HashMap<>();
         res.put("merchantPayKey", merchantPayKey);
         return res;
     }
 
-    /** ✅ 결제 완료 후 콜백 URL */
+    /** ✅ 결제 완료 후 콜백 URL — 주문 확정은 OrderFinalizationService (중복 / 재시도 안전) */
     @GetMapping("/return")
     public ResponseEntity<Void> naverPayReturn(@RequestParam Map<String, String> params) {
-        String tid = "N" + UUID.randomUUID().toString().replace("-", "").substring(0, 18);
-        String orderId = UUID.randomUUID().toString();
-        NaverApproveResponse approve = new NaverApproveResponse();
-        approve.setTid(tid);
-        payInfo.setOrderId(orderId);
-        orderService.saveOrder(approve, payInfo);
+        // 예약 / 결제 세션과 같은 키(merchantPayKey)로 주문 저장
+        String orderId = params.get("merchantPayKey");
+        if (orderId == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        OrderFinalizationService.Result result = orderFinalizationService.finalizeNaver(orderId);
+        if (result == OrderFinalizationService.Result.NOT_FOUND || result == OrderFinalizationService.Result.IN_PROGRESS) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
 //        return "<h2>✅ 네이버페이 테스트 결제 완료!</h2><p>주문번호: " + params.get("merchantPayKey") + "</p>";
 
-        couponService.updateCoupon(payInfo.getCouponId());
-
-        List<KakaoPay.ProductInfo> productInfo = payInfo.getProductInfo();
-
-        productService.updateCount(productInfo);
-
-        URI redirect = URI.create("https://candy-site.vercel.app/payResult?orderId=" + orderId + "&status=success");
+        String status = result == OrderFinalizationService.Result.CANCELLED ? "fail" : "success";
+        URI redirect = URI.create("https://candy-site.vercel.app/payResult?orderId=" + orderId + "&status=" + status);
         HttpHeaders headers = new HttpHeaders();
         headers.setLocation(redirect);
         return new ResponseEntity<>(headers, HttpStatus.FOUND);
@@ -1,6 +1,6 @@
 package com.tjg_project.candy.domain.order.controller;
 
-import com.tjg_project.candy.domain.order.entity.Order;
+import com.tjg_project.candy.domain.order.dto.OrderSummaryDto;
 import com.tjg_project.candy.domain.order.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +16,8 @@ public class OrderController {
     private  OrderService orderService;
 
     @GetMapping("/my/{id}")
-    public ResponseEntity<List<Order>> getMyOrders(@PathVariable Long id) {
-        List<Order> orders = orderService.getOrdersByUser(id);
+    public ResponseEntity<List<OrderSummaryDto>> getMyOrders(@PathVariable Long id) {
+        List<OrderSummaryDto> orders = orderService.getOrdersByUser(id);
         return ResponseEntity.ok(orders);
     }
     /** 🔹 5) 주문내역 삭제  */
@@ -0,0 +1,46 @@
+package com.tjg_project.candy.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니 목록 응답 (Cart 엔티티 대신 화면에 필요한 컬럼만)
+ * - 기존 JSON 구조(cid, qty, addedAt, product.*)는 그대로 유지
+ * - users 엔티티(비밀번호 포함)는 더 이상 내려가지 않음
+ */
+@Getter
+public class CartItemDto {
+
+    private final Long cid;
+    private final int qty;
+    private final LocalDateTime addedAt;
+    private final ProductInfo product;
+
+    // ✅ JPQL 생성자 표현식용 (평탄한 컬럼 → 중첩 구조)
+    public CartItemDto(Long cid, int qty, LocalDateTime addedAt,
+                       Long productId, String pid, String imageUrl, String brandName, String productName,
+                       int price, int dc, int count, boolean isHotDeal, boolean isMemberSpecial) {
+        this.cid = cid;
+        this.qty = qty;
+        this.addedAt = addedAt;
+        this.product = new ProductInfo(productId, pid, imageUrl, brandName, productName,
+                price, dc, count, isHotDeal, isMemberSpecial);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ProductInfo {
+        private final Long id;
+        private final String pid;
+        private final String imageUrl;
+        private final String brandName;
+        private final String productName;
+        private final int price;
+        private final int dc;
+        private final int count;            // 재고 수량
+        private final boolean isHotDeal;
+        private final boolean isMemberSpecial;
+    }
+}
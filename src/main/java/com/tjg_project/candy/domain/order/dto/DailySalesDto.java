@@ -1,5 +1,6 @@
 package com.tjg_project.candy.domain.order.dto;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public class DailySalesDto {
@@ -12,6 +13,11 @@ public class DailySalesDto {
         this.qty = qty;
     }
 
+    // 일별 집계(product_daily_metrics)용 - 해당 날짜 0시
+    public DailySalesDto(LocalDate day, Long qty) {
+        this(day.atStartOfDay(), qty);
+    }
+
     public LocalDateTime getDateTime() {
         return dateTime;
     }
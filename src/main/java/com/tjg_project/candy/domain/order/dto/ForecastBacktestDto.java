@@ -0,0 +1,30 @@
+package com.tjg_project.candy.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 예측 엔진 백테스트 결과 (끝에서부터 holdout 일씩 folds 번 잘라 예측 → 실제와 비교)
+ */
+@Getter
+@AllArgsConstructor
+public class ForecastBacktestDto {
+
+    private Long ppk;
+    private int historyDays;    // 사용한 과거 일 수
+    private int holdout;        // fold 당 예측 일 수
+    private List<Score> scores; // 엔진별 오차
+
+    @Getter
+    @AllArgsConstructor
+    public static class Score {
+        private String engine;
+        private int folds;      // 실제 계산된 fold 수 (데이터가 짧으면 요청보다 적음)
+        private double mae;     // 평균 절대오차 (개)
+        private double rmse;
+        private double smape;   // 대칭 MAPE (%), 판매 0인 날이 많아 MAPE 대신
+        private double mase;    // seasonal naive 대비 (1 미만이면 기준선보다 나음)
+    }
+}
@@ -1,5 +1,7 @@
 package com.tjg_project.candy.domain.order.dto;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class ForecastResponseDto {
@@ -8,21 +10,42 @@ public class ForecastResponseDto {
     private List<Integer> next30Days;
     private List<Integer> next12Months;
     private List<Integer> next365Days;
+    private String engine;              // local | llm
+    private LocalDate startDate;        // 예측 첫날 (next7Days[0])
+    private LocalDateTime computedAt;   // 계산 시각 (야간 배치 결과면 배치 시각)
 
     public ForecastResponseDto(
             List<Integer> next7Days,
             List<Integer> next30Days,
             List<Integer> next12Months,
             List<Integer> next365Days
+    ) {
+        this(next7Days, next30Days, next12Months, next365Days, "llm", LocalDate.now(), LocalDateTime.now());
+    }
+
+    public ForecastResponseDto(
+            List<Integer> next7Days,
+            List<Integer> next30Days,
+            List<Integer> next12Months,
+            List<Integer> next365Days,
+            String engine,
+            LocalDate startDate,
+            LocalDateTime computedAt
     ) {
         this.next7Days = next7Days;
         this.next30Days = next30Days;
         this.next12Months = next12Months;
         this.next365Days = next365Days;
+        this.engine = engine;
+        this.startDate = startDate;
+        this.computedAt = computedAt;
     }
 
     public List<Integer> getNext7Days() { return next7Days; }
     public List<Integer> getNext30Days() { return next30Days; }
     public List<Integer> getNext12Months() { return next12Months; }
     public List<Integer> getNext365Days() { return next365Days; }
+    public String getEngine() { return engine; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDateTime getComputedAt() { return computedAt; }
 }
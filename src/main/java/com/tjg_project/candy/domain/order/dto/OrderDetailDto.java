@@ -0,0 +1,48 @@
+package com.tjg_project.candy.domain.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 상세 한 줄 (OrderDetail 엔티티 대신)
+ * - product 는 썸네일 표시에 필요한 컬럼만, 상품이 삭제된 경우 null
+ */
+@Getter
+public class OrderDetailDto {
+
+    @JsonIgnore
+    private final Long orderId;     // 주문별 그룹핑용 (응답에는 미포함)
+    private final Long id;
+    private final Long ppk;
+    private final String productName;
+    private final int qty;
+    private final int price;
+    private final ProductInfo product;
+
+    // ✅ JPQL 생성자 표현식용 (LEFT JOIN 이라 상품 컬럼은 null 가능 → wrapper 타입)
+    public OrderDetailDto(Long orderId, Long id, Long ppk, String productName, int qty, int price,
+                          Long productId, String imageUrl, String brandName, String currentName,
+                          Integer currentPrice, Integer dc) {
+        this.orderId = orderId;
+        this.id = id;
+        this.ppk = ppk;
+        this.productName = productName;
+        this.qty = qty;
+        this.price = price;
+        this.product = productId == null ? null
+                : new ProductInfo(productId, imageUrl, brandName, currentName,
+                        currentPrice == null ? 0 : currentPrice, dc == null ? 0 : dc);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ProductInfo {
+        private final Long id;
+        private final String imageUrl;
+        private final String brandName;
+        private final String productName;
+        private final int price;
+        private final int dc;
+    }
+}
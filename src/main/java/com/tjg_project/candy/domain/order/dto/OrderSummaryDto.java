@@ -0,0 +1,62 @@
+package com.tjg_project.candy.domain.order.dto;
+
+import com.tjg_project.candy.domain.order.entity.DeliveryStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마이페이지 주문 내역 (Order 엔티티 대신)
+ * - 기존 JSON 키(orderCode, totalAmount, orderDetails ...)는 그대로 유지
+ * - 결제 TID 는 내려가지 않음
+ */
+@Getter
+public class OrderSummaryDto {
+
+    private final Long id;
+    private final String orderCode;
+    private final Long upk;
+    private final int totalAmount;
+    private final int shippingFee;
+    private final int discountAmount;
+    private final String receiverName;
+    private final String receiverPhone;
+    private final String zipcode;
+    private final String address1;
+    private final String address2;
+    private final String memo;
+    private final LocalDateTime odate;
+    private final LocalDateTime shippingAt;
+    private final LocalDateTime deliveredAt;
+    private final LocalDateTime eta;
+    private final DeliveryStatus deliveryStatus;
+    private final List<OrderDetailDto> orderDetails = new ArrayList<>();
+
+    // ✅ JPQL 생성자 표현식용
+    public OrderSummaryDto(Long id, String orderCode, Long upk,
+                           int totalAmount, int shippingFee, int discountAmount,
+                           String receiverName, String receiverPhone, String zipcode,
+                           String address1, String address2, String memo,
+                           LocalDateTime odate, LocalDateTime shippingAt, LocalDateTime deliveredAt,
+                           LocalDateTime eta, DeliveryStatus deliveryStatus) {
+        this.id = id;
+        this.orderCode = orderCode;
+        this.upk = upk;
+        this.totalAmount = totalAmount;
+        this.shippingFee = shippingFee;
+        this.discountAmount = discountAmount;
+        this.receiverName = receiverName;
+        this.receiverPhone = receiverPhone;
+        this.zipcode = zipcode;
+        this.address1 = address1;
+        this.address2 = address2;
+        this.memo = memo;
+        this.odate = odate;
+        this.shippingAt = shippingAt;
+        this.deliveredAt = deliveredAt;
+        this.eta = eta;
+        this.deliveryStatus = deliveryStatus;
+    }
+}
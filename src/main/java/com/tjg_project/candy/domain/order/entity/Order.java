@@ -15,7 +15,10 @@ import java.util.List;
 @Table(name = "orders")
 public class Order {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // ✅ 시퀀스 (pooled, 50개씩 미리 할당) → INSERT 전에 id 를 알 수 있어 JDBC 배치 가능
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "order_code", nullable = false, unique = true, length = 50)
@@ -42,8 +45,8 @@ public class Order {
     @Column(name = "delivery_status", length = 20)
     private DeliveryStatus deliveryStatus;   // null 허용
 
-    @Column(length = 50)
-    private String tid; // 카카오 TID
+    @Column(length = 50, unique = true)
+    private String tid; // 카카오 TID (같은 결제 승인으로 주문이 두 번 생기지 않도록 unique)
 
     // ✅ 주문 상세 리스트
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
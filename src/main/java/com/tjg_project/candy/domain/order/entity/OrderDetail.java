@@ -11,7 +11,10 @@ import lombok.*;
 @Table(name = "order_detail")
 public class OrderDetail {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // ✅ 시퀀스 (pooled) → 주문 상세 여러 줄을 INSERT 한 번의 배치로
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_detail_seq")
+    @SequenceGenerator(name = "order_detail_seq", sequenceName = "order_detail_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,51 @@
+package com.tjg_project.candy.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 진행 중 주문 정보 (결제 준비 ~ 승인 콜백 사이)
+ * payload 는 KakaoPay / NaverPay 요청을 JSON 으로 저장
+ * 주문이 커밋될 때까지 남겨 두고, 승인 결과(approval)와 처리 중 표시(claimedUntil)를 함께 기록한다
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "payment_session",
+        indexes = @Index(name = "idx_payment_session_expires_at", columnList = "expires_at"))
+public class PaymentSession {
+
+    public static final String KAKAO = "KAKAO";
+    public static final String NAVER = "NAVER";
+
+    @Id
+    @Column(name = "order_id", length = 64)
+    private String orderId;
+
+    @Column(length = 10, nullable = false)
+    private String provider;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;
+
+    @Column(length = 50)
+    private String tid; // 카카오 TID (결제 준비 응답 후 저장)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(columnDefinition = "text")
+    private String approval; // 결제 승인 응답 JSON (승인 후 주문 저장이 실패해도 재시도 때 다시 승인하지 않도록)
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil; // 승인 콜백 처리 중 표시 (이 시각까지 다른 콜백은 대기)
+
+    public PaymentSession(String orderId, String provider, String payload, String tid, LocalDateTime expiresAt) {
+        this(orderId, provider, payload, tid, expiresAt, null, null);
+    }
+}
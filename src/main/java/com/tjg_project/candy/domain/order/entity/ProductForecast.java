@@ -0,0 +1,49 @@
+package com.tjg_project.candy.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 판매량 예측 결과 (ForecastBatchService 가 매일 밤 전체 상품을 다시 계산해서 저장)
+ * - 예측 배열은 "3,0,5,..." 형식 문자열
+ * - 조회 시 computedAt 으로 결과가 얼마나 최신인지 함께 내려준다
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "product_forecast")
+public class ProductForecast {
+
+    @Id
+    private Long ppk;
+
+    @Column(length = 20)
+    private String engine;
+
+    private LocalDate startDate;        // 예측 첫날
+
+    @Column(columnDefinition = "text")
+    private String next7Days;
+
+    @Column(columnDefinition = "text")
+    private String next30Days;
+
+    @Column(columnDefinition = "text")
+    private String next12Months;
+
+    @Column(columnDefinition = "text")
+    private String next365Days;
+
+    private int historyDays;            // 학습에 쓴 과거 일 수
+
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,29 @@
+package com.tjg_project.candy.domain.order.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 저장 완료 이벤트 (커밋 이후 판매 집계 갱신용)
+ * 주문 트랜잭션에서 outbox 로 기록되고 OutboxRelay 가 JSON 에서 복원해 발행한다.
+ */
+@Getter
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class OrderCompletedEvent {
+
+    private final String orderCode;
+    private final LocalDateTime orderedAt;
+    private final List<SoldItem> items;
+
+    @Getter
+    @AllArgsConstructor(onConstructor_ = @JsonCreator)
+    public static class SoldItem {
+        private final Long ppk;           // 상품 PK
+        private final Long categorySubId; // 카테고리 중분류 (없으면 null)
+        private final int qty;            // 판매 수량
+    }
+}
@@ -1,7 +1,9 @@
 package com.tjg_project.candy.domain.order.repository;
 
+import com.tjg_project.candy.domain.order.dto.CartItemDto;
 import com.tjg_project.candy.domain.order.entity.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,9 +24,28 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     // ✅ 특정 사용자(upk)의 장바구니 조회
     List<Cart> findByUser_Id(Long upk);
 
+    // ✅ 장바구니 화면용 프로젝션 (cart + product 필요한 컬럼만, 쿼리 1회)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.order.dto.CartItemDto(
+            c.cid, c.qty, c.addedAt,
+            p.id, p.pid, p.imageUrl, p.brandName, p.productName,
+            p.price, p.dc, p.count, p.isHotDeal, p.isMemberSpecial
+        )
+        FROM Cart c
+        JOIN c.product p
+        WHERE c.user.id = :upk
+        ORDER BY c.cid
+        """)
+    List<CartItemDto> findItemsByUpk(@Param("upk") Long upk);
+
     // ✅ 결제 완료 후 장바구니 비우기
     void deleteByUser_Id(Long upk);
 
+    // ✅ 결제한 장바구니 항목 삭제 (DELETE ... WHERE cid IN (...) 한 문장)
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.cid IN :cidList")
+    int deleteByCidIn(@Param("cidList") List<Long> cidList);
+
     // 장바구니에 존재 유무 확인
     Optional<Cart> findByUser_IdAndProduct_Id(Long uid, Long pid);
 }
@@ -0,0 +1,83 @@
+package com.tjg_project.candy.domain.order.repository;
+
+import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.entity.ProductForecast;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 야간 예측 배치용 조회 / 저장 (JdbcTemplate)
+ * - forEachDailySales 는 fetchSize 단위 커서로 한 줄씩 넘기므로 호출 측에서 readOnly 트랜잭션으로 감쌀 것
+ * - 저장은 INSERT ... ON CONFLICT DO UPDATE 일괄 (JPA saveAll 은 id 가 있는 엔티티마다 SELECT 부터 한다)
+ */
+@Repository
+public class ForecastBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ForecastBatchRepository(DataSource dataSource,
+                                   @Value("${forecast.batch.fetch-size:5000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // 기준일 이후 전체 상품 일별 판매수량 (상품, 날짜 순, 판매 없는 날 제외)
+    public void forEachDailySales(LocalDate from, BiConsumer<Long, DailySalesDto> consumer) {
+        String sql = """
+                SELECT ppk, day, units
+                FROM product_daily_metrics
+                WHERE day >= ? AND units > 0
+                ORDER BY ppk, day
+                """;
+        jdbcTemplate.query(sql,
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1),
+                        new DailySalesDto(rs.getDate(2).toLocalDate(), rs.getLong(3))),
+                Date.valueOf(from));
+    }
+
+    public void upsert(List<ProductForecast> forecasts) {
+        if (forecasts.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO product_forecast(ppk, engine, start_date, next7days, next30days, next12months,
+                                             next365days, history_days, computed_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (ppk) DO UPDATE
+                SET engine = EXCLUDED.engine, start_date = EXCLUDED.start_date,
+                    next7days = EXCLUDED.next7days, next30days = EXCLUDED.next30days,
+                    next12months = EXCLUDED.next12months, next365days = EXCLUDED.next365days,
+                    history_days = EXCLUDED.history_days, computed_at = EXCLUDED.computed_at
+                """;
+        List<Object[]> args = new ArrayList<>(forecasts.size());
+        for (ProductForecast f : forecasts) {
+            args.add(new Object[]{f.getPpk(), f.getEngine(), Date.valueOf(f.getStartDate()),
+                    f.getNext7Days(), f.getNext30Days(), f.getNext12Months(), f.getNext365Days(),
+                    f.getHistoryDays(), Timestamp.valueOf(f.getComputedAt())});
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 이번 배치 전에 계산됐고 기준일 이후 판매가 없는 상품 결과 삭제 → 조회 시 즉시 계산으로
+    // (판매가 있는데 다시 계산되지 않은 = 계산 실패한 상품은 예전 결과 유지)
+    public int deleteWithoutSalesSince(LocalDate from, LocalDateTime cutoff) {
+        String sql = """
+                DELETE FROM product_forecast f
+                WHERE f.computed_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM product_daily_metrics m
+                                  WHERE m.ppk = f.ppk AND m.day >= ? AND m.units > 0)
+                """;
+        return jdbcTemplate.update(sql, Timestamp.valueOf(cutoff), Date.valueOf(from));
+    }
+}
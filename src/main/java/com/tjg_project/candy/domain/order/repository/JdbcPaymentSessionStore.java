@@ -0,0 +1,157 @@
+package com.tjg_project.candy.domain.order.repository;
+
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+import com.tjg_project.candy.domain.order.service.PaymentSessionStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 결제 세션 저장소 (payment_session 테이블, 서버 여러 대에서 공유)
+ * take 는 DELETE ... RETURNING 한 문장이라 승인 콜백이 동시에 와도 한 곳만 세션을 가져간다.
+ */
+@Repository
+@ConditionalOnProperty(name = "payment.session.store", havingValue = "jdbc")
+public class JdbcPaymentSessionStore implements PaymentSessionStore {
+    private static final String COLUMNS = "order_id, provider, payload, tid, expires_at, approval, claimed_until";
+
+    private static final RowMapper<PaymentSession> ROW_MAPPER = (rs, rowNum) -> new PaymentSession(
+            rs.getString("order_id"),
+            rs.getString("provider"),
+            rs.getString("payload"),
+            rs.getString("tid"),
+            rs.getTimestamp("expires_at").toLocalDateTime(),
+            rs.getString("approval"),
+            toLocalDateTime(rs.getTimestamp("claimed_until")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder claims = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    public JdbcPaymentSessionStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void save(PaymentSession session) {
+        String sql = "INSERT INTO payment_session(order_id, provider, payload, tid, expires_at) VALUES (?, ?, ?, ?, ?) "
+                + "ON CONFLICT (order_id) DO UPDATE SET provider = EXCLUDED.provider, payload = EXCLUDED.payload, "
+                + "tid = EXCLUDED.tid, expires_at = EXCLUDED.expires_at, approval = NULL, claimed_until = NULL";
+        jdbcTemplate.update(sql, session.getOrderId(), session.getProvider(), session.getPayload(),
+                session.getTid(), Timestamp.valueOf(session.getExpiresAt()));
+        saved.increment();
+    }
+
+    @Override
+    public Optional<PaymentSession> find(String orderId) {
+        String sql = "SELECT " + COLUMNS + " FROM payment_session WHERE order_id = ? AND expires_at > ?";
+        List<PaymentSession> rows = jdbcTemplate.query(sql, ROW_MAPPER, orderId, now());
+        if (rows.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        return Optional.of(rows.get(0));
+    }
+
+    @Override
+    public Optional<PaymentSession> take(String orderId, String provider) {
+        String sql = "DELETE FROM payment_session WHERE order_id = ? AND provider = ? AND expires_at > ? RETURNING " + COLUMNS;
+        List<PaymentSession> rows = jdbcTemplate.query(sql, ROW_MAPPER, orderId, provider, now());
+        if (rows.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        taken.increment();
+        return Optional.of(rows.get(0));
+    }
+
+    @Override
+    public void updateTid(String orderId, String tid) {
+        jdbcTemplate.update("UPDATE payment_session SET tid = ? WHERE order_id = ?", tid, orderId);
+    }
+
+    @Override
+    public Optional<PaymentSession> claim(String orderId, String provider, LocalDateTime claimUntil) {
+        // 조건부 UPDATE 한 문장 → 동시에 들어온 콜백 중 한 곳만 처리권을 얻는다
+        String sql = "UPDATE payment_session SET claimed_until = ? "
+                + "WHERE order_id = ? AND provider = ? AND expires_at > ? "
+                + "AND (claimed_until IS NULL OR claimed_until <= ?) RETURNING " + COLUMNS;
+        Timestamp now = now();
+        List<PaymentSession> rows = jdbcTemplate.query(sql, ROW_MAPPER,
+                Timestamp.valueOf(claimUntil), orderId, provider, now, now);
+        if (rows.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        claims.increment();
+        return Optional.of(rows.get(0));
+    }
+
+    @Override
+    public void releaseClaim(String orderId) {
+        jdbcTemplate.update("UPDATE payment_session SET claimed_until = NULL WHERE order_id = ?", orderId);
+    }
+
+    @Override
+    public void saveApproval(String orderId, String approval) {
+        jdbcTemplate.update("UPDATE payment_session SET approval = ? WHERE order_id = ?", approval, orderId);
+    }
+
+    @Override
+    public void remove(String orderId) {
+        jdbcTemplate.update("DELETE FROM payment_session WHERE order_id = ?", orderId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${payment.session.purge-ms:60000}")
+    public int purgeExpired() {
+        // 승인된 세션은 결제 취소(OrderFinalizationService.cancelAbandonedApprovals) 후 삭제
+        int purged = jdbcTemplate.update("DELETE FROM payment_session WHERE expires_at <= ? AND approval IS NULL", now());
+        expired.add(purged);
+        return purged;
+    }
+
+    @Override
+    public List<PaymentSession> findExpiredApproved(int limit) {
+        String sql = "SELECT " + COLUMNS + " FROM payment_session "
+                + "WHERE expires_at <= ? AND approval IS NOT NULL AND (claimed_until IS NULL OR claimed_until <= ?) "
+                + "ORDER BY expires_at LIMIT ?";
+        Timestamp now = now();
+        return jdbcTemplate.query(sql, ROW_MAPPER, now, now, limit);
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("store", "jdbc");
+        stats.put("saved", saved.sum());
+        stats.put("taken", taken.sum());
+        stats.put("claims", claims.sum());
+        stats.put("misses", misses.sum());
+        stats.put("expired", expired.sum());
+        return stats;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
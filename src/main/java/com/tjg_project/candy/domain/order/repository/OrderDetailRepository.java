@@ -1,42 +1,61 @@
 package com.tjg_project.candy.domain.order.repository;
 
-import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.dto.OrderDetailDto;
 import com.tjg_project.candy.domain.order.entity.OrderDetail;
-import com.tjg_project.candy.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long> {
-    // ✅ 많이 팔린 상품 순서로 Product 리스트 가져오기
+    // ✅ 상품별 누적 판매수량 (ppk, category_sub_id, qty) - 베스트 랭킹 재구성용
     @Query(value = """
-        SELECT p.* 
-        FROM product p
-        JOIN (
-            SELECT ppk, SUM(qty) AS total_qty
-            FROM order_detail
-            GROUP BY ppk
-            ORDER BY total_qty DESC
-        ) od_sum
-        ON p.id = od_sum.ppk
+        SELECT od.ppk, p.category_sub_id, SUM(od.qty)
+        FROM order_detail od
+        LEFT JOIN product p ON p.id = od.ppk
+        WHERE od.ppk IS NOT NULL
+        GROUP BY od.ppk, p.category_sub_id
         """, nativeQuery = true)
-    List<Product> findBestSellingProducts();
+    List<Object[]> sumQtyByProduct();
 
+    // ✅ 기준 시각 이후 상품별 / 시간별 판매수량 (ppk, category_sub_id, hour, qty)
+    @Query(value = """
+        SELECT od.ppk, p.category_sub_id, date_trunc('hour', o.odate) AS hour, SUM(od.qty)
+        FROM order_detail od
+        JOIN orders o ON o.id = od.order_id
+        LEFT JOIN product p ON p.id = od.ppk
+        WHERE od.ppk IS NOT NULL
+          AND o.odate >= :since
+        GROUP BY od.ppk, p.category_sub_id, date_trunc('hour', o.odate)
+        """, nativeQuery = true)
+    List<Object[]> sumQtyByProductAndHourSince(@Param("since") LocalDateTime since);
+
+    // ✅ 여러 주문의 상세 + 상품 썸네일 정보 (주문 수와 상관없이 쿼리 1회)
     @Query("""
-        SELECT new com.tjg_project.candy.domain.order.dto.DailySalesDto(
-                                          o.odate,
-                                          SUM(od.qty)
-                                      )
-                                      FROM OrderDetail od
-                                      JOIN od.order o
-                                      WHERE od.ppk = :ppk
-                                      GROUP BY o.odate
-                                      ORDER BY o.odate
-    """)
-    List<DailySalesDto> findDailySalesByProduct(Long ppk);
+        SELECT new com.tjg_project.candy.domain.order.dto.OrderDetailDto(
+            od.order.id, od.id, od.ppk, od.productName, od.qty, od.price,
+            p.id, p.imageUrl, p.brandName, p.productName, p.price, p.dc
+        )
+        FROM OrderDetail od
+        LEFT JOIN od.product p
+        WHERE od.order.id IN :orderIds
+        ORDER BY od.id
+        """)
+    List<OrderDetailDto> findDetailsByOrderIds(@Param("orderIds") List<Long> orderIds);
 
-    @Query("SELECT SUM(od.qty) FROM OrderDetail od WHERE od.ppk = :ppk")
-    Long countOrdersByProduct(@Param("ppk") Long ppk);
+    // ✅ 기준 시각 이전 주문 중 마지막 주문 id (연관 추천 증분 갱신용)
+    @Query(value = "SELECT MAX(o.id) FROM orders o WHERE o.odate < :cutoff", nativeQuery = true)
+    Long findMaxOrderIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // ✅ (afterId, toId] 구간 주문의 (order_id, ppk) - 주문 id 순
+    @Query(value = """
+        SELECT od.order_id, od.ppk
+        FROM order_detail od
+        WHERE od.order_id > :afterId AND od.order_id <= :toId
+          AND od.ppk IS NOT NULL
+        ORDER BY od.order_id
+        """, nativeQuery = true)
+    List<Object[]> findOrderItemsBetween(@Param("afterId") long afterId, @Param("toId") long toId);
 }
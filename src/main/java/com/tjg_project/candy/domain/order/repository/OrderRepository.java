@@ -1,5 +1,6 @@
 package com.tjg_project.candy.domain.order.repository;
 
+import com.tjg_project.candy.domain.order.dto.OrderSummaryDto;
 import com.tjg_project.candy.domain.order.entity.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,9 +15,24 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUpk(Long upk);
     // 주문 내역에서 삭제
     Optional<Order> findByOrderCode(String orderCode);
+    // 결제 콜백 중복 처리 확인
+    boolean existsByOrderCode(String orderCode);
     Order findTop1ByUpk(Long upk);
-    // ✅ 주문 + 상세(OrderDetail) 함께 조회 (지연 로딩 방지)
-    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderDetails WHERE o.upk = :upk ORDER BY o.odate DESC")
-    List<Order> findAllWithDetailsByUpk(@Param("upk") Long upk);
     Order findTop1ByUpkOrderByOdateDesc(Long upk);
+
+    // ✅ 마이페이지 주문 내역 (주문 헤더만, 상세는 OrderDetailRepository.findDetailsByOrderIds 로 한 번에)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.order.dto.OrderSummaryDto(
+            o.id, o.orderCode, o.upk,
+            o.totalAmount, o.shippingFee, o.discountAmount,
+            o.receiverName, o.receiverPhone, o.zipcode,
+            o.address1, o.address2, o.memo,
+            o.odate, o.shippingAt, o.deliveredAt,
+            o.eta, o.deliveryStatus
+        )
+        FROM Order o
+        WHERE o.upk = :upk
+        ORDER BY o.odate DESC
+        """)
+    List<OrderSummaryDto> findSummariesByUpk(@Param("upk") Long upk);
 }
@@ -0,0 +1,41 @@
+package com.tjg_project.candy.domain.order.repository;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * orders / order_detail 이 IDENTITY → 시퀀스로 바뀌면서 새로 생긴 시퀀스를 기존 최대 id 뒤로 맞춘다.
+ * - pooled optimizer 는 nextval 값을 할당 구간의 끝으로 쓰므로 setval(max(id)) 이면 max+1 부터 사용
+ * - 이미 더 앞서 있으면 되돌리지 않는다 (GREATEST)
+ * - @DependsOn("entityManagerFactory") → ddl-auto 로 시퀀스가 만들어진 뒤에 실행
+ *
+ * pooled 시퀀스는 인스턴스마다 50개씩 구간을 가져가므로 id 증가 순서는 인스턴스 안에서만 보장된다.
+ * (order / order_detail id 워터마크를 쓰는 일별 집계, 연관 추천 갱신은 단일 인스턴스 기준)
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class OrderSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderSequenceInitializer(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        align("orders_seq", "orders");
+        align("order_detail_seq", "order_detail");
+    }
+
+    private void align(String sequence, String table) {
+        String sql = "SELECT setval('" + sequence + "', GREATEST("
+                + "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), "
+                + "(SELECT last_value FROM " + sequence + "), 1))";
+        jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
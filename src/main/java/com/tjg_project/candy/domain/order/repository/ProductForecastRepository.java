@@ -0,0 +1,7 @@
+package com.tjg_project.candy.domain.order.repository;
+
+import com.tjg_project.candy.domain.order.entity.ProductForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductForecastRepository extends JpaRepository<ProductForecast, Long> {
+}
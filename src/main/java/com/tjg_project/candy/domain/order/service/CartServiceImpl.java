@@ -1,6 +1,7 @@
 package com.tjg_project.candy.domain.order.service;
 
 
+import com.tjg_project.candy.domain.order.dto.CartItemDto;
 import com.tjg_project.candy.domain.order.entity.Cart;
 import com.tjg_project.candy.domain.order.repository.CartRepository;
 import jakarta.transaction.Transactional;
@@ -47,8 +48,9 @@ public class CartServiceImpl  implements CartService {
     }
 
     @Override
-    public List<Cart> cartList (Long upk) {
-        return cartRepository.findByUser_Id(upk);
+    public List<CartItemDto> cartList (Long upk) {
+        // ✅ 엔티티 대신 프로젝션 (lazy 프록시 직렬화로 인한 N+1 방지)
+        return cartRepository.findItemsByUpk(upk);
     }
 
     @Override
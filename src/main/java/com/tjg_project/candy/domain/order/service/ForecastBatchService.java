@@ -0,0 +1,251 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.dto.ForecastResponseDto;
+import com.tjg_project.candy.domain.order.entity.ProductForecast;
+import com.tjg_project.candy.domain.order.repository.ForecastBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 상품 판매량 예측 야간 배치 → product_forecast
+ * - product_daily_metrics 를 상품, 날짜 순으로 한 번만 읽으면서 상품이 바뀔 때마다 그 상품의 예측을 fork-join 풀에 넘긴다
+ *   (읽기와 계산이 겹치고, 끝난 작업은 바로 꺼내 버리므로 메모리에는 계산 중인 상품 판매 기록만 남는다)
+ * - 계산 중인 상품이 parallelism * 4 를 넘으면 가장 오래된 작업을 기다린다 (읽기가 계산보다 앞서 쌓이지 않게)
+ * - 엔진은 local (Holt-Winters), 상품 수만큼 LLM 을 부르지 않는다
+ * - 결과는 write-batch-size 단위로 읽는 도중에 upsert (커서와 별도 트랜잭션 = 커넥션 1개 더)
+ * - 기간 내 판매가 없어진 상품의 예전 결과만 삭제, 계산이 실패한 상품은 예전 결과를 남겨 둔다
+ * - 스케줄 또는 관리자 요청(start)으로 백그라운드 실행, 동시에 하나만
+ */
+@Slf4j
+@Service
+public class ForecastBatchService {
+
+    private final ForecastBatchRepository forecastBatchRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate writeTx;
+    private final ForkJoinPool pool;
+    private final int historyDays;
+    private final int writeBatchSize;
+    private final int maxInFlight;
+    private final ExecutorService launcher =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("forecast-batch").factory());
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    public ForecastBatchService(
+            ForecastBatchRepository forecastBatchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${forecast.history-days:730}") int historyDays,
+            @Value("${forecast.batch.parallelism:0}") int parallelism,
+            @Value("${forecast.batch.write-batch-size:500}") int writeBatchSize) {
+        this.forecastBatchRepository = forecastBatchRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(transactionManager);
+        // 읽기 커서 트랜잭션 안에서도 따로 커밋
+        this.writeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.historyDays = historyDays;
+        this.writeBatchSize = writeBatchSize;
+        // 0 → CPU 코어 수
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxInFlight = pool.getParallelism() * 4;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        launcher.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    @Scheduled(cron = "${forecast.batch.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (IllegalStateException e) {
+            log.info("예측 배치 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    // ✅ 백그라운드로 시작만 하고 바로 반환 (이미 실행 중이면 IllegalStateException), 결과는 lastRun()
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("예측 배치가 이미 실행 중입니다.");
+        }
+        try {
+            launcher.execute(() -> {
+                try {
+                    runOnce();
+                } catch (RuntimeException e) {
+                    log.warn("예측 배치 실패: {}", e.toString());
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    // ✅ 전체 상품 예측 다시 계산 (이미 실행 중이면 IllegalStateException)
+    public Map<String, Object> run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("예측 배치가 이미 실행 중입니다.");
+        }
+        try {
+            return runOnce();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Map<String, Object> lastRun() {
+        return lastRun;
+    }
+
+    private Map<String, Object> runOnce() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDate today = startedAt.toLocalDate();
+        LocalDate from = today.minusDays(historyDays);
+        Progress progress = new Progress();
+
+        // 상품, 날짜 순으로 읽으므로 ppk 가 바뀌면 앞 상품 기록은 끝난 것
+        readOnlyTx.executeWithoutResult(status -> {
+            Partition current = new Partition();
+            forecastBatchRepository.forEachDailySales(from, (ppk, sale) -> {
+                if (!ppk.equals(current.ppk)) {
+                    submit(progress, current, today, startedAt);
+                    current.ppk = ppk;
+                    current.sales = new ArrayList<>();
+                }
+                current.sales.add(sale);
+            });
+            submit(progress, current, today, startedAt);
+        });
+        progress.readMs = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+
+        while (!progress.inFlight.isEmpty()) {
+            collect(progress, progress.inFlight.poll().join());
+        }
+        progress.saved += write(progress.batch);
+
+        // 기간 내 판매가 없는 상품만 (실패한 상품은 판매가 있으므로 예전 결과 유지)
+        int removed = writeTx.execute(status -> forecastBatchRepository.deleteWithoutSalesSince(from, startedAt));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAt", startedAt);
+        result.put("products", progress.products);
+        result.put("saved", progress.saved);
+        result.put("failed", progress.failures.get());
+        result.put("removed", removed);
+        result.put("readMs", progress.readMs);
+        result.put("totalMs", Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        result.put("parallelism", pool.getParallelism());
+        lastRun = result;
+        log.info("예측 배치 완료 {}", result.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(" ")));
+        return result;
+    }
+
+    private void submit(Progress progress, Partition partition, LocalDate today, LocalDateTime computedAt) {
+        if (partition.ppk == null) {
+            return;
+        }
+        Long ppk = partition.ppk;
+        List<DailySalesDto> sales = partition.sales;
+        AtomicInteger failures = progress.failures;
+        progress.products++;
+        progress.inFlight.add(pool.submit(() -> {
+            try {
+                double[] history = LocalForecastEngine.history(sales, today, historyDays);
+                return toEntity(ppk, LocalForecastEngine.forecast(history, today), history.length, computedAt);
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                log.warn("예측 실패 ppk={}: {}", ppk, e.toString());
+                return null;
+            }
+        }));
+
+        // 끝난 작업은 (판매 기록과 함께) 바로 꺼내고, 너무 많이 쌓였으면 가장 오래된 것을 기다림
+        Deque<ForkJoinTask<ProductForecast>> inFlight = progress.inFlight;
+        while (!inFlight.isEmpty() && (inFlight.peek().isDone() || inFlight.size() > maxInFlight)) {
+            collect(progress, inFlight.poll().join());
+        }
+    }
+
+    private void collect(Progress progress, ProductForecast forecast) {
+        if (forecast == null) {
+            return;
+        }
+        progress.batch.add(forecast);
+        if (progress.batch.size() >= writeBatchSize) {
+            progress.saved += write(progress.batch);
+        }
+    }
+
+    private int write(List<ProductForecast> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            writeTx.executeWithoutResult(status -> forecastBatchRepository.upsert(batch));
+            batch.clear();
+        }
+        return size;
+    }
+
+    private static ProductForecast toEntity(Long ppk, ForecastResponseDto dto, int historyDays,
+                                            LocalDateTime computedAt) {
+        return new ProductForecast(ppk, dto.getEngine(), dto.getStartDate(),
+                join(dto.getNext7Days()), join(dto.getNext30Days()),
+                join(dto.getNext12Months()), join(dto.getNext365Days()),
+                historyDays, computedAt);
+    }
+
+    static String join(List<Integer> values) {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    // 배치 1회 진행 상황 (읽기 스레드만 다룸, failures 는 계산 스레드도 증가)
+    private final class Progress {
+        private final Deque<ForkJoinTask<ProductForecast>> inFlight = new ArrayDeque<>();
+        private final List<ProductForecast> batch = new ArrayList<>(writeBatchSize);
+        private final AtomicInteger failures = new AtomicInteger();
+        private int products;
+        private int saved;
+        private long readMs;
+    }
+
+    // 읽는 중인 상품 (ppk + 지금까지 읽은 일별 판매)
+    private static final class Partition {
+        private Long ppk;
+        private List<DailySalesDto> sales = new ArrayList<>();
+    }
+}
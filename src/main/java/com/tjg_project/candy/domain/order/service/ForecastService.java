@@ -2,28 +2,122 @@ package com.tjg_project.candy.domain.order.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjg_project.candy.domain.analytics.repository.ProductDailyMetricsRepository;
 import com.tjg_project.candy.domain.openai.service.OpenAiService;
 import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.dto.ForecastBacktestDto;
 import com.tjg_project.candy.domain.order.dto.ForecastResponseDto;
-import com.tjg_project.candy.domain.order.repository.OrderDetailRepository;
+import com.tjg_project.candy.domain.order.entity.ProductForecast;
+import com.tjg_project.candy.domain.order.repository.ProductForecastRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ForecastService {
 
-    private final OrderDetailRepository orderDetailRepository;
+    public static final String ENGINE_LOCAL = "local";
+    public static final String ENGINE_LLM = "llm";
+
+    private final ProductDailyMetricsRepository productDailyMetricsRepository;
     private final OpenAiService openAiService;
+    private final ProductForecastRepository productForecastRepository;
+
+    // engine 파라미터가 없을 때 (llm 실패 시에는 항상 local 로 대체)
+    @Value("${forecast.default-engine:llm}")
+    private String defaultEngine;
 
+    // local 예측에 쓰는 최근 일 수
+    @Value("${forecast.history-days:730}")
+    private int historyDays;
+
+    // 일별 판매수량 (일별 집계 테이블 기준)
     public List<DailySalesDto> getDailySales(Long ppk) {
-        return orderDetailRepository.findDailySalesByProduct(ppk);
+        return productDailyMetricsRepository.findDailySales(ppk);
+    }
+
+    public ForecastResponseDto runForecast(Long ppk) {
+        return runForecast(ppk, null);
     }
 
-    public ForecastResponseDto runForecast(Long ppk) throws Exception {
+    // ✅ engine 지정 없으면 야간 배치 결과
+    // 없으면 (새 상품 / 기간 내 판매 없음) LLM 을 부르지 않고 local 로 즉시 계산 (수 ms, 판매 기록이 없으면 0)
+    public ForecastResponseDto getForecast(Long ppk, String engine) {
+        if (engine == null || engine.isBlank()) {
+            Optional<ProductForecast> precomputed = productForecastRepository.findById(ppk);
+            return precomputed.map(ForecastService::toDto).orElseGet(() -> localForecast(ppk));
+        }
+        return runForecast(ppk, engine);
+    }
+
+    // ✅ 즉시 계산, engine = local | llm (없으면 기본값)
+    public ForecastResponseDto runForecast(Long ppk, String engine) {
+        String selected = engine == null || engine.isBlank() ? defaultEngine : engine.toLowerCase();
+        if (ENGINE_LOCAL.equals(selected)) {
+            return localForecast(ppk);
+        }
+        if (!ENGINE_LLM.equals(selected)) {
+            throw new IllegalArgumentException("알 수 없는 예측 엔진: " + engine);
+        }
+        try {
+            return llmForecast(ppk);
+        } catch (Exception e) {
+            log.warn("AI 예측 실패 → local 예측으로 대체 ppk={}: {}", ppk, e.toString());
+            return localForecast(ppk);
+        }
+    }
+
+    // ✅ 통계 예측 (Holt-Winters, 수 ms)
+    public ForecastResponseDto localForecast(Long ppk) {
+        LocalDate today = LocalDate.now();
+        return LocalForecastEngine.forecast(LocalForecastEngine.history(getDailySales(ppk), today, historyDays), today);
+    }
+
+    // ✅ 야간 배치로 미리 계산된 전체 상품 예측 (ppk → 예측)
+    public Map<Long, ForecastResponseDto> findAllPrecomputed() {
+        Map<Long, ForecastResponseDto> result = new TreeMap<>();
+        for (ProductForecast f : productForecastRepository.findAll()) {
+            result.put(f.getPpk(), toDto(f));
+        }
+        return result;
+    }
+
+    // ✅ 엔진별 백테스트 (holt-winters vs seasonal naive)
+    public ForecastBacktestDto backtest(Long ppk, int holdout, int folds) {
+        if (holdout < 1 || folds < 1) {
+            throw new IllegalArgumentException("holdout, folds 는 1 이상이어야 합니다.");
+        }
+        double[] y = LocalForecastEngine.history(getDailySales(ppk), LocalDate.now(), historyDays);
+        return new ForecastBacktestDto(ppk, y.length, holdout, LocalForecastEngine.backtest(y, holdout, folds));
+    }
+
+    private static ForecastResponseDto toDto(ProductForecast f) {
+        return new ForecastResponseDto(split(f.getNext7Days()), split(f.getNext30Days()),
+                split(f.getNext12Months()), split(f.getNext365Days()),
+                f.getEngine(), f.getStartDate(), f.getComputedAt());
+    }
+
+    private static List<Integer> split(String values) {
+        List<Integer> list = new ArrayList<>();
+        if (values != null && !values.isEmpty()) {
+            for (String v : values.split(",")) {
+                list.add(Integer.parseInt(v));
+            }
+        }
+        return list;
+    }
+
+    private ForecastResponseDto llmForecast(Long ppk) throws Exception {
 
         List<DailySalesDto> sales = getDailySales(ppk);
 
@@ -46,10 +140,17 @@ public class ForecastService {
                         "모든 배열은 정확한 개수의 정수만 포함해야 한다.\n"
         );
 
-        String raw = openAiService.ask(sb.toString());
+        String prompt = sb.toString();
+        String raw = openAiService.ask(prompt);
 
         ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(raw);
+        JsonNode root;
+        try {
+            root = mapper.readTree(raw);
+        } catch (Exception e) {
+            openAiService.forget(prompt); // 잘못된 응답은 캐시에 남기지 않음
+            throw e;
+        }
 
         List<Integer> next7 = safeList(root.get("next7Days"), 7);
         List<Integer> next30 = safeList(root.get("next30Days"), 30);
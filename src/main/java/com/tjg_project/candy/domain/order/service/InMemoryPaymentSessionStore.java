@@ -0,0 +1,172 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메모리 결제 세션 저장소 (서버 1대 / 로컬 개발용)
+ * 만료 세션은 주기적으로 정리하고, 최대 개수를 넘으면 새 결제를 거절한다.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPaymentSessionStore implements PaymentSessionStore {
+
+    private final ConcurrentHashMap<String, PaymentSession> sessions = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder claims = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public InMemoryPaymentSessionStore(@Value("${payment.session.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void save(PaymentSession session) {
+        if (sessions.size() >= maxSize && !sessions.containsKey(session.getOrderId())) {
+            purgeExpired();
+            if (sessions.size() >= maxSize) {
+                rejected.increment();
+                throw new IllegalStateException("진행 중인 결제가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        sessions.put(session.getOrderId(), session);
+        saved.increment();
+    }
+
+    @Override
+    public Optional<PaymentSession> find(String orderId) {
+        PaymentSession session = sessions.get(orderId);
+        if (session == null || isExpired(session)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public Optional<PaymentSession> take(String orderId, String provider) {
+        PaymentSession[] removed = new PaymentSession[1];
+        // 결제수단이 맞을 때만 제거 (null 반환 = 삭제), 만료된 세션은 정리만 함
+        sessions.computeIfPresent(orderId, (k, session) -> {
+            if (isExpired(session)) {
+                return null;
+            }
+            if (!provider.equals(session.getProvider())) {
+                return session;
+            }
+            removed[0] = session;
+            return null;
+        });
+        if (removed[0] == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        taken.increment();
+        return Optional.of(removed[0]);
+    }
+
+    @Override
+    public void updateTid(String orderId, String tid) {
+        sessions.computeIfPresent(orderId, (k, session) -> {
+            session.setTid(tid);
+            return session;
+        });
+    }
+
+    @Override
+    public Optional<PaymentSession> claim(String orderId, String provider, LocalDateTime claimUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        PaymentSession[] claimed = new PaymentSession[1];
+        sessions.computeIfPresent(orderId, (k, session) -> {
+            boolean free = session.getClaimedUntil() == null || !session.getClaimedUntil().isAfter(now);
+            if (provider.equals(session.getProvider()) && !isExpired(session) && free) {
+                session.setClaimedUntil(claimUntil);
+                claimed[0] = session;
+            }
+            return session;
+        });
+        if (claimed[0] == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        claims.increment();
+        return Optional.of(claimed[0]);
+    }
+
+    @Override
+    public void releaseClaim(String orderId) {
+        sessions.computeIfPresent(orderId, (k, session) -> {
+            session.setClaimedUntil(null);
+            return session;
+        });
+    }
+
+    @Override
+    public void saveApproval(String orderId, String approval) {
+        sessions.computeIfPresent(orderId, (k, session) -> {
+            session.setApproval(approval);
+            return session;
+        });
+    }
+
+    @Override
+    public void remove(String orderId) {
+        sessions.remove(orderId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${payment.session.purge-ms:60000}")
+    public int purgeExpired() {
+        int before = sessions.size();
+        // 승인된 세션은 결제 취소(OrderFinalizationService.cancelAbandonedApprovals) 후 삭제
+        sessions.values().removeIf(session -> isExpired(session) && session.getApproval() == null);
+        int purged = Math.max(before - sessions.size(), 0);
+        expired.add(purged);
+        return purged;
+    }
+
+    @Override
+    public List<PaymentSession> findExpiredApproved(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return sessions.values().stream()
+                .filter(session -> isExpired(session) && session.getApproval() != null)
+                .filter(session -> session.getClaimedUntil() == null || !session.getClaimedUntil().isAfter(now))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("store", "memory");
+        stats.put("size", sessions.size());
+        stats.put("maxSize", maxSize);
+        stats.put("saved", saved.sum());
+        stats.put("taken", taken.sum());
+        stats.put("claims", claims.sum());
+        stats.put("misses", misses.sum());
+        stats.put("expired", expired.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+    private boolean isExpired(PaymentSession session) {
+        return !session.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+}
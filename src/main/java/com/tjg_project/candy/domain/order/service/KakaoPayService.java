@@ -3,6 +3,8 @@ package com.tjg_project.candy.domain.order.service;
 import com.tjg_project.candy.domain.order.dto.KakaoApproveResponse;
 import com.tjg_project.candy.domain.order.dto.KakaoReadyResponse;
 import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -10,9 +12,8 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 @Service
+@RequiredArgsConstructor
 public class KakaoPayService {
 
     @Value("${kakao.pay.host}") private String KAKAO_PAY_HOST;
@@ -20,9 +21,12 @@ public class KakaoPayService {
     @Value("${kakao.pay.cid}") private String CID;
     @Value("${kakao.pay.ready-path}") private String READY_PATH;
     @Value("${kakao.pay.approve-path}") private String APPROVE_PATH;
+    @Value("${kakao.pay.cancel-path:/payment/cancel}") private String CANCEL_PATH;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ConcurrentHashMap<String, String> tidStore = new ConcurrentHashMap<>();
+    // 커넥션 풀 / 타임아웃 / 서킷 / 지연시간 기록이 붙은 공용 클라이언트 (global.http)
+    @Qualifier("kakaoRestTemplate")
+    private final RestTemplate restTemplate;
+    private final PaymentSessionStore paymentSessionStore;
     String user_id = "test";
     private HttpHeaders getHeaders() {
         HttpHeaders headers = new HttpHeaders();
@@ -54,12 +58,12 @@ public class KakaoPayService {
         String url = KAKAO_PAY_HOST + "/v1" + READY_PATH;
         KakaoReadyResponse res = restTemplate.postForObject(url, body, KakaoReadyResponse.class);
 
-        tidStore.put(kakaoPay.getOrderId(), res.getTid());
+        // 승인 때 필요한 TID 는 결제 세션에 저장 (다른 서버가 승인 콜백을 받아도 조회 가능)
+        paymentSessionStore.updateTid(kakaoPay.getOrderId(), res.getTid());
         return res;
     }
 
-    public KakaoApproveResponse approve(String orderId, String pgToken) {
-        String tid = tidStore.get(orderId);
+    public KakaoApproveResponse approve(String orderId, String tid, String pgToken) {
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("cid", CID);
         params.add("tid", tid);
@@ -72,4 +76,18 @@ public class KakaoPayService {
 
         return restTemplate.postForObject(url, body, KakaoApproveResponse.class);
     }
+
+    // ✅ 승인 취소 (승인 후 주문을 저장하지 못했을 때 보상)
+    public void cancel(String tid, int cancelAmount) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("cid", CID);
+        params.add("tid", tid);
+        params.add("cancel_amount", String.valueOf(cancelAmount));
+        params.add("cancel_tax_free_amount", "0");
+
+        HttpEntity<MultiValueMap<String, String>> body = new HttpEntity<>(params, getHeaders());
+        String url = KAKAO_PAY_HOST + "/v1" + CANCEL_PATH;
+
+        restTemplate.postForObject(url, body, String.class);
+    }
 }
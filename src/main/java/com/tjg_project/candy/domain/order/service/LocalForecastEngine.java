@@ -0,0 +1,233 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.dto.ForecastBacktestDto;
+import com.tjg_project.candy.domain.order.dto.ForecastResponseDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 판매량 예측 (DB / 외부 호출 없는 순수 계산)
+ * - Holt-Winters (가법, 주간 계절성 7일, 감쇠 추세): 365일 앞까지 내다보므로 추세를 그대로 늘리지 않고 감쇠
+ * - 평활 계수는 작은 격자에서 1-step 오차 제곱합이 가장 작은 조합 선택
+ * - 데이터가 2주 미만이면 seasonal naive (최근 7일 반복), 7일 미만이면 평균
+ */
+public final class LocalForecastEngine {
+
+    public static final String HOLT_WINTERS = "holt-winters";
+    public static final String SEASONAL_NAIVE = "seasonal-naive";
+
+    private static final int SEASON = 7;
+    private static final double PHI = 0.98; // 추세 감쇠
+
+    private static final double[] ALPHAS = {0.1, 0.2, 0.3, 0.5, 0.7};
+    private static final double[] BETAS = {0.01, 0.05, 0.1, 0.2};
+    private static final double[] GAMMAS = {0.05, 0.1, 0.2, 0.3};
+
+    private LocalForecastEngine() {
+    }
+
+    // 판매 있는 날만 있는 목록 → from ~ to 연속 일별 배열 (없는 날 0)
+    public static double[] dailySeries(List<DailySalesDto> sales, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return new double[0];
+        }
+        double[] y = new double[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        for (DailySalesDto s : sales) {
+            LocalDate day = s.getDateTime().toLocalDate();
+            if (!day.isBefore(from) && !day.isAfter(to)) {
+                y[(int) ChronoUnit.DAYS.between(from, day)] += s.getQty();
+            }
+        }
+        return y;
+    }
+
+    // 첫 판매일(최근 historyDays 이내) ~ 어제까지 일별 배열 (오늘은 집계 중이라 제외)
+    public static double[] history(List<DailySalesDto> sales, LocalDate today, int historyDays) {
+        LocalDate from = today.minusDays(historyDays);
+        if (!sales.isEmpty()) {
+            LocalDate first = sales.get(0).getDateTime().toLocalDate();
+            if (first.isAfter(from)) {
+                from = first;
+            }
+        }
+        return dailySeries(sales, from, today.minusDays(1));
+    }
+
+    // ✅ 과거 일별 판매량 → 7일 / 30일 / 12개월 / 365일 예측 (start = 예측 첫날)
+    public static ForecastResponseDto forecast(double[] history, LocalDate start) {
+        return toResponse(holtWinters(history, horizonFor(start)), start);
+    }
+
+    // 12개월(예측 첫날이 속한 달부터 12개 달력 월)과 365일을 모두 덮는 일 수
+    public static int horizonFor(LocalDate start) {
+        LocalDate endOfMonths = YearMonth.from(start).plusMonths(11).atEndOfMonth();
+        return Math.max(365, (int) ChronoUnit.DAYS.between(start, endOfMonths) + 1);
+    }
+
+    public static ForecastResponseDto toResponse(double[] daily, LocalDate start) {
+        List<Integer> months = new ArrayList<>(12);
+        YearMonth first = YearMonth.from(start);
+        double[] monthSums = new double[12];
+        for (int i = 0; i < daily.length; i++) {
+            long m = ChronoUnit.MONTHS.between(first, YearMonth.from(start.plusDays(i)));
+            if (m < 12) {
+                monthSums[(int) m] += daily[i];
+            }
+        }
+        for (double v : monthSums) {
+            months.add((int) Math.round(v));
+        }
+        return new ForecastResponseDto(rounded(daily, 7), rounded(daily, 30), months, rounded(daily, 365),
+                "local", start, LocalDateTime.now());
+    }
+
+    // ✅ Holt-Winters (데이터가 부족하면 seasonal naive)
+    public static double[] holtWinters(double[] y, int horizon) {
+        if (y.length < 2 * SEASON) {
+            return seasonalNaive(y, horizon);
+        }
+        Fit best = null;
+        for (double a : ALPHAS) {
+            for (double b : BETAS) {
+                for (double g : GAMMAS) {
+                    Fit fit = fit(y, a, b, g);
+                    if (best == null || fit.sse < best.sse) {
+                        best = fit;
+                    }
+                }
+            }
+        }
+        double[] out = new double[horizon];
+        double damp = 0;
+        for (int h = 1; h <= horizon; h++) {
+            damp += Math.pow(PHI, h);
+            double f = best.level + damp * best.trend + best.season[(y.length + h - 1) % SEASON];
+            out[h - 1] = Math.max(0, f);
+        }
+        return out;
+    }
+
+    // 기준선: 최근 7일 반복 (7일 미만이면 평균)
+    public static double[] seasonalNaive(double[] y, int horizon) {
+        double[] out = new double[horizon];
+        if (y.length == 0) {
+            return out;
+        }
+        if (y.length < SEASON) {
+            Arrays.fill(out, mean(y, 0, y.length));
+            return out;
+        }
+        for (int h = 0; h < horizon; h++) {
+            out[h] = y[y.length - SEASON + (h % SEASON)];
+        }
+        return out;
+    }
+
+    // ✅ rolling-origin 백테스트: 끝에서부터 holdout 일씩 folds 번 잘라서 예측 → 실제와 비교
+    public static List<ForecastBacktestDto.Score> backtest(double[] y, int holdout, int folds) {
+        List<ForecastBacktestDto.Score> scores = new ArrayList<>();
+        scores.add(score(HOLT_WINTERS, y, holdout, folds, true));
+        scores.add(score(SEASONAL_NAIVE, y, holdout, folds, false));
+        return scores;
+    }
+
+    private static ForecastBacktestDto.Score score(String engine, double[] y, int holdout, int folds, boolean hw) {
+        double mae = 0, rmse = 0, smape = 0, mase = 0;
+        int used = 0;
+        for (int f = 1; f <= folds; f++) {
+            int trainEnd = y.length - f * holdout;
+            if (trainEnd < 2 * SEASON) {
+                break;
+            }
+            double[] train = Arrays.copyOf(y, trainEnd);
+            double[] pred = hw ? holtWinters(train, holdout) : seasonalNaive(train, holdout);
+
+            double abs = 0, sq = 0, sm = 0;
+            for (int i = 0; i < holdout; i++) {
+                double actual = y[trainEnd + i];
+                double e = actual - pred[i];
+                abs += Math.abs(e);
+                sq += e * e;
+                double denom = Math.abs(actual) + Math.abs(pred[i]);
+                sm += denom == 0 ? 0 : 2 * Math.abs(e) / denom;
+            }
+            double foldMae = abs / holdout;
+            mae += foldMae;
+            rmse += Math.sqrt(sq / holdout);
+            smape += sm / holdout * 100;
+            double scale = naiveScale(train);
+            mase += scale == 0 ? 0 : foldMae / scale;
+            used++;
+        }
+        if (used == 0) {
+            return new ForecastBacktestDto.Score(engine, 0, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        }
+        return new ForecastBacktestDto.Score(engine, used, mae / used, rmse / used, smape / used, mase / used);
+    }
+
+    // MASE 분모: 학습 구간에서 seasonal naive(7일 전 값) 1-step 평균 절대오차
+    private static double naiveScale(double[] train) {
+        double sum = 0;
+        for (int t = SEASON; t < train.length; t++) {
+            sum += Math.abs(train[t] - train[t - SEASON]);
+        }
+        return sum / (train.length - SEASON);
+    }
+
+    private static Fit fit(double[] y, double a, double b, double g) {
+        double level = mean(y, 0, SEASON);
+        double trend = (mean(y, SEASON, 2 * SEASON) - level) / SEASON;
+        double[] season = new double[SEASON];
+        for (int i = 0; i < SEASON; i++) {
+            season[i] = y[i] - level;
+        }
+        double sse = 0;
+        for (int t = SEASON; t < y.length; t++) {
+            double s = season[t % SEASON];
+            double e = y[t] - (level + PHI * trend + s);
+            sse += e * e;
+            double prevLevel = level;
+            level = a * (y[t] - s) + (1 - a) * (level + PHI * trend);
+            trend = b * (level - prevLevel) + (1 - b) * PHI * trend;
+            season[t % SEASON] = g * (y[t] - level) + (1 - g) * s;
+        }
+        return new Fit(level, trend, season, sse);
+    }
+
+    private static double mean(double[] y, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += y[i];
+        }
+        return to == from ? 0 : sum / (to - from);
+    }
+
+    private static List<Integer> rounded(double[] daily, int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i < daily.length ? (int) Math.round(daily[i]) : 0);
+        }
+        return list;
+    }
+
+    private static final class Fit {
+        private final double level;
+        private final double trend;
+        private final double[] season;
+        private final double sse;
+
+        private Fit(double level, double trend, double[] season, double sse) {
+            this.level = level;
+            this.trend = trend;
+            this.season = season;
+            this.sse = sse;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.coupon.service.CouponService;
+import com.tjg_project.candy.domain.order.dto.KakaoApproveResponse;
+import com.tjg_project.candy.domain.order.dto.NaverApproveResponse;
+import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import com.tjg_project.candy.domain.order.entity.NaverPay;
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+import com.tjg_project.candy.domain.order.repository.OrderRepository;
+import com.tjg_project.candy.domain.product.service.InventoryReservationLedger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 결제 승인 콜백 → 주문 확정 (중복 / 재시도 안전)
+ *
+ * 1) orderCode 로 이미 저장된 주문이면 그대로 성공 처리 (재시도 / 중복 콜백)
+ * 2) 결제 세션 처리권 획득 (claim) → 동시에 온 같은 콜백은 IN_PROGRESS
+ * 3) 승인 응답이 세션에 있으면 재사용, 없으면 PG 승인 후 세션에 저장 (재시도 때 이중 승인 방지)
+ * 4) 핫딜 재고 예약을 채운 뒤 (DB 에서 가져오는 일은 트랜잭션 밖에서 → 주문 트랜잭션은 커넥션 하나만 사용)
+ *    주문 + 상세 + 재고 + 쿠폰 + outbox 를 한 트랜잭션으로 저장
+ *    (order_code / tid unique 위반 = 다른 서버가 먼저 저장 → ALREADY_COMPLETED)
+ * 5) 커밋 후 세션 삭제, 실패하면 처리권만 풀어서 다음 콜백이 이어서 처리
+ * 6) 재고 부족처럼 다시 해도 실패할 오류(IllegalStateException / IllegalArgumentException)면 승인 취소 → CANCELLED
+ *    (결제만 되고 주문은 없는 상태 방지, 취소 호출이 실패하면 승인이 세션에 남아 다음 콜백 / 만료 정리 때 다시 취소)
+ * 7) 승인 후 주문 없이 만료된 세션은 주기적으로 승인 취소 후 삭제 (cancelAbandonedApprovals)
+ */
+@Slf4j
+@Service
+public class OrderFinalizationService {
+
+    public enum Result { COMPLETED, ALREADY_COMPLETED, IN_PROGRESS, NOT_FOUND, CANCELLED }
+
+    // 한 번에 정리할 만료 승인 세션 수
+    private static final int RECONCILE_BATCH = 100;
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final CouponService couponService;
+    private final KakaoPayService kakaoPayService;
+    private final PaymentSessionService paymentSessionService;
+    private final InventoryReservationLedger inventoryReservationLedger;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderFinalizationService(
+            OrderService orderService,
+            OrderRepository orderRepository,
+            CouponService couponService,
+            KakaoPayService kakaoPayService,
+            PaymentSessionService paymentSessionService,
+            InventoryReservationLedger inventoryReservationLedger,
+            PlatformTransactionManager transactionManager) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.couponService = couponService;
+        this.kakaoPayService = kakaoPayService;
+        this.paymentSessionService = paymentSessionService;
+        this.inventoryReservationLedger = inventoryReservationLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Result finalizeKakao(String orderId, String pgToken) {
+        if (orderRepository.existsByOrderCode(orderId)) {
+            return Result.ALREADY_COMPLETED;
+        }
+        Optional<PaymentSession> claimed = paymentSessionService.claim(orderId, PaymentSession.KAKAO);
+        if (claimed.isEmpty()) {
+            return notClaimed(orderId);
+        }
+        PaymentSession session = claimed.get();
+        try {
+            KakaoPay payInfo = paymentSessionService.payload(session, KakaoPay.class);
+            KakaoApproveResponse approve = paymentSessionService.approval(session, KakaoApproveResponse.class)
+                    .orElseGet(() -> {
+                        KakaoApproveResponse res = kakaoPayService.approve(orderId, session.getTid(), pgToken);
+                        paymentSessionService.saveApproval(orderId, res);
+                        return res;
+                    });
+
+            return complete(orderId, payInfo.getProductInfo(), () -> {
+                orderService.saveOrder(approve, payInfo);
+                useCoupon(payInfo.getCouponId());
+            }, () -> cancelKakao(approve));
+        } finally {
+            paymentSessionService.releaseClaim(orderId);
+        }
+    }
+
+    public Result finalizeNaver(String orderId) {
+        if (orderRepository.existsByOrderCode(orderId)) {
+            return Result.ALREADY_COMPLETED;
+        }
+        Optional<PaymentSession> claimed = paymentSessionService.claim(orderId, PaymentSession.NAVER);
+        if (claimed.isEmpty()) {
+            return notClaimed(orderId);
+        }
+        PaymentSession session = claimed.get();
+        try {
+            NaverPay payInfo = paymentSessionService.payload(session, NaverPay.class);
+            // 테스트 결제라 승인 API 가 없음 → 처음 만든 tid 를 저장해 두고 재시도 때도 같은 tid 사용
+            NaverApproveResponse approve = paymentSessionService.approval(session, NaverApproveResponse.class)
+                    .orElseGet(() -> {
+                        NaverApproveResponse res = new NaverApproveResponse();
+                        res.setTid("N" + UUID.randomUUID().toString().replace("-", "").substring(0, 18));
+                        paymentSessionService.saveApproval(orderId, res);
+                        return res;
+                    });
+
+            // 테스트 결제라 취소할 승인도 없음
+            return complete(orderId, payInfo.getProductInfo(), () -> {
+                orderService.saveOrder(approve, payInfo);
+                useCoupon(payInfo.getCouponId());
+            }, () -> { });
+        } finally {
+            paymentSessionService.releaseClaim(orderId);
+        }
+    }
+
+    private Result complete(String orderId, List<KakaoPay.ProductInfo> items, Runnable work, Runnable cancelPayment) {
+        try {
+            inventoryReservationLedger.ensureReserved(orderId, items);
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        } catch (DataIntegrityViolationException e) {
+            if (!orderRepository.existsByOrderCode(orderId)) {
+                throw e;
+            }
+            log.info("이미 저장된 주문 (동시 콜백): {}", orderId);
+            paymentSessionService.close(orderId);
+            return Result.ALREADY_COMPLETED;
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // 재고 부족 / 예약 오류 등 → 재시도해도 실패하므로 승인 취소 (취소가 실패하면 예외, 세션은 남김)
+            log.warn("주문 확정 불가, 결제 취소 orderId={}: {}", orderId, e.getMessage());
+            cancelPayment.run();
+            paymentSessionService.close(orderId);
+            inventoryReservationLedger.release(orderId);
+            return Result.CANCELLED;
+        } catch (RuntimeException e) {
+            // 승인은 세션에 남아 있으므로 같은 콜백을 다시 보내면 승인 없이 저장만 재시도한다
+            log.error("주문 확정 실패 orderId={}: {}", orderId, e.getMessage());
+            throw e;
+        }
+        paymentSessionService.close(orderId);
+        return Result.COMPLETED;
+    }
+
+    // ✅ 승인은 됐는데 주문 없이 만료된 결제 세션 → 주문이 없으면 승인 취소, 있으면 세션만 정리
+    @Scheduled(fixedDelayString = "${payment.session.reconcile-ms:60000}")
+    public void cancelAbandonedApprovals() {
+        for (PaymentSession session : paymentSessionService.expiredApprovals(RECONCILE_BATCH)) {
+            String orderId = session.getOrderId();
+            try {
+                if (!orderRepository.existsByOrderCode(orderId) && PaymentSession.KAKAO.equals(session.getProvider())) {
+                    paymentSessionService.approval(session, KakaoApproveResponse.class).ifPresent(this::cancelKakao);
+                    log.warn("주문 없이 만료된 결제 승인 취소 orderId={}", orderId);
+                }
+                paymentSessionService.close(orderId);
+                inventoryReservationLedger.release(orderId);
+            } catch (RuntimeException e) {
+                // 세션이 남아 있으므로 다음 주기에 다시 시도
+                log.error("만료된 결제 승인 취소 실패 orderId={}: {}", orderId, e.getMessage());
+            }
+        }
+    }
+
+    private void cancelKakao(KakaoApproveResponse approve) {
+        kakaoPayService.cancel(approve.getTid(), approve.getAmount().getTotal());
+    }
+
+    private void useCoupon(Long couponId) {
+        if (couponId != null) {
+            couponService.updateCoupon(couponId);
+        }
+    }
+
+    // 세션이 남아 있으면 다른 콜백이 처리 중, 없으면 만료됐거나 방금 완료됨
+    private Result notClaimed(String orderId) {
+        if (orderRepository.existsByOrderCode(orderId)) {
+            return Result.ALREADY_COMPLETED;
+        }
+        return paymentSessionService.exists(orderId) ? Result.IN_PROGRESS : Result.NOT_FOUND;
+    }
+}
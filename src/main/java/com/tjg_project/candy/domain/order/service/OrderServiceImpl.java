@@ -2,24 +2,39 @@ package com.tjg_project.candy.domain.order.service;
 
 import com.tjg_project.candy.domain.order.dto.KakaoApproveResponse;
 import com.tjg_project.candy.domain.order.dto.NaverApproveResponse;
+import com.tjg_project.candy.domain.order.dto.OrderDetailDto;
+import com.tjg_project.candy.domain.order.dto.OrderSummaryDto;
 import com.tjg_project.candy.domain.order.entity.*;
+import com.tjg_project.candy.domain.order.event.OrderCompletedEvent;
 import com.tjg_project.candy.domain.order.repository.CartRepository;
+import com.tjg_project.candy.domain.order.repository.OrderDetailRepository;
 import com.tjg_project.candy.domain.order.repository.OrderRepository;
+import com.tjg_project.candy.domain.product.service.InventoryReservationLedger;
+import com.tjg_project.candy.domain.product.service.ProductService;
 import com.tjg_project.candy.domain.user.entity.Users;
 import com.tjg_project.candy.domain.user.repository.UserRepository;
+import com.tjg_project.candy.global.outbox.Outbox;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderDetailRepository orderDetailRepository;
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
+    private final ProductService productService;
+    private final InventoryReservationLedger inventoryReservationLedger;
+    private final Outbox outbox;
 
     @Transactional
     public Order saveOrder(KakaoApproveResponse approve, KakaoPay kakaoPay) {
@@ -59,19 +74,37 @@ public class OrderServiceImpl implements OrderService {
             order.addOrderDetail(detail);
         }
 
-        // ✅ 4. 주문 저장 (order + detail cascade)
+        // ✅ 4. 재고 일괄 차감 (부족하면 주문까지 롤백)
+        decreaseStock(kakaoPay.getOrderId(), cartItems);
+
+        // ✅ 5. 주문 저장 (order + detail cascade)
         Order savedOrder = orderRepository.save(order);
 
-        // ✅ 5. 결제 완료 후 장바구니 항목 삭제
-        cartRepository.deleteAll(cartItems);
+        // ✅ 6. 결제 완료 후 장바구니 항목 삭제 (한 문장)
+        cartRepository.deleteByCidIn(cartItems.stream().map(Cart::getCid).toList());
+
+        // ✅ 7. 주문 완료 이벤트를 같은 트랜잭션에 outbox 로 기록 (커밋 후 relay 가 발행)
+        publishOrderCompleted(savedOrder, cartItems);
 
         return savedOrder;
     }
 
     @Override
-    public List<Order> getOrdersByUser(Long userId) {
-        // ✅ 주문 + 상세정보 함께 조회
-        return orderRepository.findAllWithDetailsByUpk(userId);
+    @Transactional(readOnly = true)
+    public List<OrderSummaryDto> getOrdersByUser(Long userId) {
+        // ✅ 1. 주문 헤더 (쿼리 1회)
+        List<OrderSummaryDto> orders = orderRepository.findSummariesByUpk(userId);
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        // ✅ 2. 모든 주문의 상세를 한 번에 (쿼리 1회) → 주문별로 붙이기
+        Map<Long, OrderSummaryDto> byId = orders.stream()
+                .collect(Collectors.toMap(OrderSummaryDto::getId, Function.identity()));
+        for (OrderDetailDto detail : orderDetailRepository.findDetailsByOrderIds(List.copyOf(byId.keySet()))) {
+            byId.get(detail.getOrderId()).getOrderDetails().add(detail);
+        }
+        return orders;
     }
 
     @Transactional
@@ -112,11 +145,17 @@ public class OrderServiceImpl implements OrderService {
             order.addOrderDetail(detail);
         }
 
-        // ✅ 4. 주문 저장 (order + detail cascade)
+        // ✅ 4. 재고 일괄 차감 (부족하면 주문까지 롤백)
+        decreaseStock(naverPay.getOrderId(), cartItems);
+
+        // ✅ 5. 주문 저장 (order + detail cascade)
         Order savedOrder = orderRepository.save(order);
 
-        // ✅ 5. 결제 완료 후 장바구니 항목 삭제
-        cartRepository.deleteAll(cartItems);
+        // ✅ 6. 결제 완료 후 장바구니 항목 삭제 (한 문장)
+        cartRepository.deleteByCidIn(cartItems.stream().map(Cart::getCid).toList());
+
+        // ✅ 7. 주문 완료 이벤트를 같은 트랜잭션에 outbox 로 기록 (커밋 후 relay 가 발행)
+        publishOrderCompleted(savedOrder, cartItems);
 
         return savedOrder;
     }
@@ -129,8 +168,6 @@ public class OrderServiceImpl implements OrderService {
 
         Order order = orderRepository.findByOrderCode(orderCode)
                 .orElseThrow(() -> new IllegalArgumentException("주문 내역 없음"));
-        System.out.println("🧪 order.upk = " + order.getUpk());
-        System.out.println("🧪 users.id = " + users.getId());
 
         if (!order.getUpk().equals(users.getId())) {
             throw new IllegalArgumentException("본인의 주문이 아닙니다.");
@@ -138,4 +175,28 @@ public class OrderServiceImpl implements OrderService {
         orderRepository.delete(order);
         return true;
     }
-}
\ No newline at end of file
+
+    private void decreaseStock(String orderCode, List<Cart> cartItems) {
+        Map<Long, Long> qtyByProductId = new LinkedHashMap<>();
+        for (Cart cart : cartItems) {
+            qtyByProductId.merge(cart.getProduct().getId(), (long) cart.getQty(), Long::sum);
+        }
+        // 핫딜 상품은 예약 장부에서 처리 (커밋 후 확정, 롤백되면 반환), 나머지만 DB 에서 바로 차감
+        inventoryReservationLedger.settleAfterTransaction(orderCode);
+        Map<Long, Long> remainder = inventoryReservationLedger.reserveRemaining(orderCode, qtyByProductId);
+        List<Long> failed = productService.decreaseStock(remainder);
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("재고가 부족한 상품이 있습니다: " + failed);
+        }
+    }
+
+    private void publishOrderCompleted(Order order, List<Cart> cartItems) {
+        List<OrderCompletedEvent.SoldItem> items = cartItems.stream()
+                .map(cart -> new OrderCompletedEvent.SoldItem(
+                        cart.getProduct().getId(),
+                        cart.getProduct().getCategorySub() != null ? cart.getProduct().getCategorySub().getId() : null,
+                        cart.getQty()))
+                .toList();
+        outbox.append(order.getOrderCode(), new OrderCompletedEvent(order.getOrderCode(), order.getOdate(), items));
+    }
+}
@@ -0,0 +1,93 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 결제 세션 열기 / 꺼내기 (주문 요청 ↔ JSON 변환)
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentSessionService {
+
+    private final PaymentSessionStore paymentSessionStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${payment.session.ttl-seconds:900}")
+    private long ttlSeconds;
+
+    @Value("${payment.session.claim-seconds:30}")
+    private long claimSeconds;
+
+    public void open(String orderId, String provider, Object payInfo) {
+        try {
+            String payload = objectMapper.writeValueAsString(payInfo);
+            paymentSessionStore.save(new PaymentSession(orderId, provider, payload, null,
+                    LocalDateTime.now().plusSeconds(ttlSeconds)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("결제 정보 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 승인 콜백 처리권 (claimSeconds 동안 같은 orderId 의 다른 콜백은 처리하지 않음)
+    public Optional<PaymentSession> claim(String orderId, String provider) {
+        return paymentSessionStore.claim(orderId, provider, LocalDateTime.now().plusSeconds(claimSeconds));
+    }
+
+    public void releaseClaim(String orderId) {
+        paymentSessionStore.releaseClaim(orderId);
+    }
+
+    public void saveApproval(String orderId, Object approval) {
+        try {
+            paymentSessionStore.saveApproval(orderId, objectMapper.writeValueAsString(approval));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("결제 승인 정보 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 이전 시도에서 저장한 승인 응답 (없으면 empty)
+    public <T> Optional<T> approval(PaymentSession session, Class<T> type) {
+        if (session.getApproval() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(session.getApproval(), type));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 승인 정보 읽기 실패: " + session.getOrderId(), e);
+        }
+    }
+
+    public <T> T payload(PaymentSession session, Class<T> type) {
+        try {
+            return objectMapper.readValue(session.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 정보 읽기 실패: " + session.getOrderId(), e);
+        }
+    }
+
+    public boolean exists(String orderId) {
+        return paymentSessionStore.find(orderId).isPresent();
+    }
+
+    public List<PaymentSession> expiredApprovals(int limit) {
+        return paymentSessionStore.findExpiredApproved(limit);
+    }
+
+    public void close(String orderId) {
+        paymentSessionStore.remove(orderId);
+    }
+
+    public Map<String, Object> stats() {
+        return paymentSessionStore.stats();
+    }
+}
@@ -0,0 +1,52 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 결제 세션 저장소 (payment.session.store = memory | jdbc)
+ * 서버가 여러 대면 jdbc 를 사용해야 승인 콜백이 다른 서버로 가도 세션을 찾을 수 있다.
+ */
+public interface PaymentSessionStore {
+
+    void save(PaymentSession session);
+
+    Optional<PaymentSession> find(String orderId);
+
+    /**
+     * 결제수단이 같고 만료 안 된 세션만 꺼내면서 삭제 (승인 콜백 중복 호출 시 두 번째는 empty)
+     * 결제수단이 다른 콜백이 와도 세션은 그대로 남는다.
+     */
+    Optional<PaymentSession> take(String orderId, String provider);
+
+    void updateTid(String orderId, String tid);
+
+    /**
+     * 승인 콜백 처리권 획득 (만료 안 됐고, 다른 콜백이 처리 중이 아닐 때만)
+     * @return 획득한 세션, 없거나 처리 중이면 empty
+     */
+    Optional<PaymentSession> claim(String orderId, String provider, LocalDateTime claimUntil);
+
+    void releaseClaim(String orderId);
+
+    void saveApproval(String orderId, String approval);
+
+    void remove(String orderId);
+
+    /**
+     * 만료 세션 정리 (승인 응답이 있는 세션은 결제 취소 전까지 남김)
+     * @return 정리된 만료 세션 수
+     */
+    int purgeExpired();
+
+    /**
+     * 승인까지 됐는데 만료된 세션 (처리 중인 콜백이 없는 것만)
+     */
+    List<PaymentSession> findExpiredApproved(int limit);
+
+    Map<String, Object> stats();
+}
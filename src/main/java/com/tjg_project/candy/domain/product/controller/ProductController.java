@@ -2,11 +2,17 @@ package com.tjg_project.candy.domain.product.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjg_project.candy.domain.product.dto.ProductPageResponse;
+import com.tjg_project.candy.domain.product.dto.ProductSearchFilter;
+import com.tjg_project.candy.domain.product.dto.ProductSearchResponse;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
 import com.tjg_project.candy.domain.product.entity.Product;
 import com.tjg_project.candy.domain.product.entity.ProductDetailView;
 import com.tjg_project.candy.domain.product.entity.ProductQnA;
+import com.tjg_project.candy.domain.product.service.ProductSearchService;
 import com.tjg_project.candy.domain.product.service.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,11 +27,46 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductSearchService productSearchService;
+
     @GetMapping("/productList")
     public List<Product>  getProductList() {
         return productService.getProductList();
     }
 
+    // 상품 목록 페이지 취득 (cursor 기반 페이징, 잘못된 cursor 는 400)
+    @GetMapping("/page")
+    public ResponseEntity<?> getProductPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "categorySubId", required = false) Long categorySubId,
+            @RequestParam(value = "hotDeal", required = false) Boolean hotDeal,
+            @RequestParam(value = "memberSpecial", required = false) Boolean memberSpecial) {
+        try {
+            ProductPageResponse page = productService.getProductPage(cursor, size, categorySubId, hotDeal, memberSpecial);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "fail", "message", e.getMessage()));
+        }
+    }
+
+    // 상품 검색 (상품명 / 브랜드 / 설명 / 카테고리, 부분 일치 · 초성 · 오타 허용, 관련도 순)
+    @GetMapping("/search")
+    public ProductSearchResponse search(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "minDc", required = false) Integer minDc,
+            @RequestParam(value = "hotDeal", required = false) Boolean hotDeal,
+            @RequestParam(value = "memberSpecial", required = false) Boolean memberSpecial,
+            @RequestParam(value = "categorySubId", required = false) Long categorySubId) {
+        return productSearchService.search(q,
+                new ProductSearchFilter(minPrice, maxPrice, minDc, hotDeal, memberSpecial, categorySubId), page, size);
+    }
+
     @GetMapping("/productReviewList")
     public List<Map<String, Object>>  getProductReviewList() {
         return productService.getProductReviewList();
@@ -36,9 +77,20 @@ public class ProductController {
         return productService.getProductProductQnAList();
     }
 
+    // 베스트 상품 (window: all / 24h / 7d / 30d)
     @GetMapping("/productBestList")
-    public List<Product>  getProductProductBestList() {
-        return productService.getProductProductBestList();
+    public List<Product>  getProductProductBestList(
+            @RequestParam(value = "window", defaultValue = "all") String window,
+            @RequestParam(value = "categorySubId", required = false) Long categorySubId,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return productService.getProductProductBestList(window, categorySubId, limit);
+    }
+
+    // 이 상품과 함께 구매/조회된 상품
+    @GetMapping("/{id}/also-bought")
+    public List<ProductSummaryDto> getAlsoBought(@PathVariable("id") Long id,
+                                                 @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return productService.getAlsoBought(id, limit);
     }
 
     // 상품 정보 취득
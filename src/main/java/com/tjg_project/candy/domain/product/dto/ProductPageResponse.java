@@ -0,0 +1,15 @@
+package com.tjg_project.candy.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProductPageResponse {
+
+    private List<ProductSummaryDto> items; // 현재 페이지 상품
+    private String nextCursor;             // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;               // 다음 페이지 유무
+}
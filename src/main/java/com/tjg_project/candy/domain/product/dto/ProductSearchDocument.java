@@ -0,0 +1,34 @@
+package com.tjg_project.candy.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 색인용 상품 정보 (목록 요약 + 설명 + 카테고리명)
+ */
+@Data
+@AllArgsConstructor
+public class ProductSearchDocument {
+
+    private Long id;
+    private String pid;
+    private String imageUrl;
+    private String brandName;
+    private String productName;
+    private int price;
+    private int dc;
+    private int count;
+    private boolean isHotDeal;
+    private boolean isMemberSpecial;
+    private LocalDate productDate;
+    private Long categorySubId;
+    private String description;
+    private String categoryName;
+
+    public ProductSummaryDto toSummary() {
+        return new ProductSummaryDto(id, pid, imageUrl, brandName, productName, price, dc, count,
+                isHotDeal, isMemberSpecial, productDate, categorySubId);
+    }
+}
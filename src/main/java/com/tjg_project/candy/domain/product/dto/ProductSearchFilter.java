@@ -0,0 +1,21 @@
+package com.tjg_project.candy.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 조건 (null 이면 조건 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchFilter {
+
+    private Integer minPrice;       // 정가 기준
+    private Integer maxPrice;
+    private Integer minDc;          // 최소 할인율
+    private Boolean hotDeal;
+    private Boolean memberSpecial;
+    private Long categorySubId;
+}
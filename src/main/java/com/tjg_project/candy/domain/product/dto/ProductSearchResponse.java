@@ -0,0 +1,17 @@
+package com.tjg_project.candy.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+    private List<ProductSummaryDto> items; // 현재 페이지 상품 (관련도 순)
+    private int total;                     // 조건에 맞는 전체 상품 수
+    private int page;                      // 0부터
+    private int size;
+    private boolean hasNext;
+}
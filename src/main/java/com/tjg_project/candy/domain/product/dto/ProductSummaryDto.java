@@ -0,0 +1,27 @@
+package com.tjg_project.candy.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 상품 목록용 요약 정보 (엔티티 대신 필요한 컬럼만 조회)
+ */
+@Data
+@AllArgsConstructor
+public class ProductSummaryDto {
+
+    private Long id;                // 상품 PK
+    private String pid;             // 상품 코드
+    private String imageUrl;        // 이미지
+    private String brandName;       // 브랜드명
+    private String productName;     // 상품명
+    private int price;              // 가격
+    private int dc;                 // 할인율
+    private int count;              // 재고 수량
+    private boolean isHotDeal;      // 핫딜 유무
+    private boolean isMemberSpecial;// 멤버십 유무
+    private LocalDate productDate;  // 등록일
+    private Long categorySubId;     // 카테고리 중분류
+}
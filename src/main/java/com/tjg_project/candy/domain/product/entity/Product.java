@@ -14,7 +14,8 @@ import java.time.LocalDate;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "product")
+@Table(name = "product",
+        indexes = @Index(name = "idx_product_date_id", columnList = "product_date, id"))
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Product {
 
@@ -0,0 +1,33 @@
+package com.tjg_project.candy.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 핫딜 예약 장부가 product.count 에서 가져갔지만 아직 팔지 않은 수량 (서버 프로세스별)
+ * - 가져갈 때 같은 트랜잭션으로 더하고, 주문 커밋 / DB 반환 때 같은 트랜잭션으로 뺀다
+ * - 살아 있는 서버는 heartbeat_at 을 계속 갱신, 오래 갱신되지 않은 행(종료 / 비정상 종료)은 product.count 로 되돌린다
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProductStockClaimId.class)
+@Table(name = "product_stock_claim")
+public class ProductStockClaim {
+
+    @Id
+    @Column(length = 36)
+    private String nodeId;      // 서버 프로세스 (기동마다 새 UUID)
+
+    @Id
+    private Long productId;
+
+    private long qty;
+
+    private LocalDateTime heartbeatAt;
+}
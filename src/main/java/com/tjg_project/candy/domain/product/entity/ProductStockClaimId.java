@@ -0,0 +1,16 @@
+package com.tjg_project.candy.domain.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// product_stock_claim 복합키 (node_id, product_id)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockClaimId implements Serializable {
+    private String nodeId;
+    private Long productId;
+}
@@ -0,0 +1,20 @@
+package com.tjg_project.candy.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 등록/수정/삭제/재고 변경 이벤트 (캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    private final List<Long> productIds;
+
+    public static ProductChangedEvent of(Long productId) {
+        return new ProductChangedEvent(List.of(productId));
+    }
+}
@@ -1,45 +1,96 @@
 package com.tjg_project.candy.domain.product.repository;
 
+import com.tjg_project.candy.domain.product.dto.ProductSearchDocument;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
 import com.tjg_project.candy.domain.product.entity.Product;
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @Query(value = """
-    SELECT 
-        p.id,
-        p.brand_name,
-        p.dc,
-        p.description,
-        p.image_url,
-        p.image_url_name,
-        p.is_hot_deal,
-        p.is_member_special,
-        p.origin,
-        p.pid,
-        p.price,
-        p.product_date,
-        p.product_description_image,
-        p.product_information_image,
-        p.product_name
-    FROM orders o
-    JOIN product p ON o.ppk = p.id
-    GROUP BY p.id
-    ORDER BY SUM(o.qty) DESC
-    LIMIT 10
-""", nativeQuery = true)
-    List<Product> findProductBestList();
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Product p SET p.count = p.count - :qty WHERE p.id = :id")
-    public int decreaseCount(@Param("id") Long id, @Param("qty") Long qty);
+    // ✅ 상품 목록 첫 페이지 (등록일, id 내림차순)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.product.dto.ProductSummaryDto(
+            p.id, p.pid, p.imageUrl, p.brandName, p.productName, p.price, p.dc, p.count,
+            p.isHotDeal, p.isMemberSpecial, p.productDate, c.id
+        )
+        FROM Product p
+        LEFT JOIN p.categorySub c
+        WHERE p.productDate IS NOT NULL
+          AND (:categorySubId IS NULL OR c.id = :categorySubId)
+          AND (:hotDeal IS NULL OR p.isHotDeal = :hotDeal)
+          AND (:memberSpecial IS NULL OR p.isMemberSpecial = :memberSpecial)
+        ORDER BY p.productDate DESC, p.id DESC
+    """)
+    List<ProductSummaryDto> findCatalogFirstPage(@Param("categorySubId") Long categorySubId,
+                                                 @Param("hotDeal") Boolean hotDeal,
+                                                 @Param("memberSpecial") Boolean memberSpecial,
+                                                 Pageable pageable);
+
+    // ✅ 상품 목록 다음 페이지 (커서 이후부터 seek)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.product.dto.ProductSummaryDto(
+            p.id, p.pid, p.imageUrl, p.brandName, p.productName, p.price, p.dc, p.count,
+            p.isHotDeal, p.isMemberSpecial, p.productDate, c.id
+        )
+        FROM Product p
+        LEFT JOIN p.categorySub c
+        WHERE (p.productDate < :cursorDate
+               OR (p.productDate = :cursorDate AND p.id < :cursorId))
+          AND (:categorySubId IS NULL OR c.id = :categorySubId)
+          AND (:hotDeal IS NULL OR p.isHotDeal = :hotDeal)
+          AND (:memberSpecial IS NULL OR p.isMemberSpecial = :memberSpecial)
+        ORDER BY p.productDate DESC, p.id DESC
+    """)
+    List<ProductSummaryDto> findCatalogPageAfter(@Param("cursorDate") LocalDate cursorDate,
+                                                 @Param("cursorId") Long cursorId,
+                                                 @Param("categorySubId") Long categorySubId,
+                                                 @Param("hotDeal") Boolean hotDeal,
+                                                 @Param("memberSpecial") Boolean memberSpecial,
+                                                 Pageable pageable);
+
+    // ✅ id 목록으로 상품 요약 조회 (순서 보장 안 됨)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.product.dto.ProductSummaryDto(
+            p.id, p.pid, p.imageUrl, p.brandName, p.productName, p.price, p.dc, p.count,
+            p.isHotDeal, p.isMemberSpecial, p.productDate, c.id
+        )
+        FROM Product p
+        LEFT JOIN p.categorySub c
+        WHERE p.id IN :ids
+    """)
+    List<ProductSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ✅ 검색 색인용 (id 순 keyset, 설명 / 카테고리명 포함)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.product.dto.ProductSearchDocument(
+            p.id, p.pid, p.imageUrl, p.brandName, p.productName, p.price, p.dc, p.count,
+            p.isHotDeal, p.isMemberSpecial, p.productDate, c.id, p.description, c.name
+        )
+        FROM Product p
+        LEFT JOIN p.categorySub c
+        WHERE p.id > :afterId
+        ORDER BY p.id
+    """)
+    List<ProductSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ✅ 변경된 상품만 다시 색인
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.product.dto.ProductSearchDocument(
+            p.id, p.pid, p.imageUrl, p.brandName, p.productName, p.price, p.dc, p.count,
+            p.isHotDeal, p.isMemberSpecial, p.productDate, c.id, p.description, c.name
+        )
+        FROM Product p
+        LEFT JOIN p.categorySub c
+        WHERE p.id IN :ids
+    """)
+    List<ProductSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,6 +3,7 @@ package com.tjg_project.candy.domain.product.repository;
 import com.tjg_project.candy.domain.product.entity.ProductReview;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +18,14 @@ public interface ProductReviewRepository extends JpaRepository<ProductReview, Lo
     List<Map<String, Object>> findAllReviewWithUserName();
 
     List<ProductReview> findByPpk(Long ppk);
+
+    // 감성 분석 증분 처리용 (id 순, 기준 id 이후 중 아직 review_sentiment 에 없는 리뷰)
+    @Query(value = """
+            SELECT r.* FROM reviews r
+            WHERE r.id > :fromId
+              AND NOT EXISTS (SELECT 1 FROM review_sentiment s WHERE s.review_id = r.id)
+            ORDER BY r.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProductReview> findUnanalyzedAfter(@Param("fromId") long fromId, @Param("limit") int limit);
 }
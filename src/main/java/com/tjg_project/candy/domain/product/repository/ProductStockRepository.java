@@ -0,0 +1,177 @@
+package com.tjg_project.candy.domain.product.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 재고 일괄 차감 (주문 1건의 상품들을 UPDATE 한 번으로 처리)
+ * - 재고(count)가 주문수량 이상인 상품만 차감 → 음수 재고 방지
+ * - decreaseStock 은 JdbcTemplate 이므로 호출 측 트랜잭션(JPA)의 커넥션을 그대로 사용
+ * - claim / restore (핫딜 예약 장부) 는 주문 트랜잭션과 무관하게 바로 커밋 (메모리 수량과 어긋나지 않도록)
+ *   → 주문 트랜잭션 밖에서만 호출 (안에서 부르면 커넥션을 하나 더 잡는다)
+ * - 장부가 들고 있는 수량은 product_stock_claim 에 같은 트랜잭션으로 기록 → 서버가 죽어도 reclaimStale 로 복구
+ */
+@Repository
+public class ProductStockRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStockRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @param qtyByProductId 상품 id → 차감 수량 (같은 상품은 미리 합산해서 전달)
+     * @return 차감에 성공한 상품 id 목록
+     */
+    public List<Long> decreaseStock(Map<Long, Long> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> params = new ArrayList<>(qtyByProductId.size() * 2);
+        appendValues(qtyByProductId, values, params);
+
+        String sql = "UPDATE product p SET count = p.count - v.qty "
+                + "FROM (VALUES " + values + ") AS v(id, qty) "
+                + "WHERE p.id = v.id AND p.count >= v.qty "
+                + "RETURNING p.id";
+
+        return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    /**
+     * 핫딜 예약 장부가 재고를 묶음으로 가져감. 남은 재고가 need 이상일 때만 최대 max 개까지 차감한다.
+     * @return 가져간 수량과 차감 후 재고, 재고가 need 보다 적으면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StockClaim claim(String nodeId, Long productId, long need, long max) {
+        String sql = "UPDATE product p SET count = p.count - g.qty "
+                + "FROM (SELECT id, LEAST(count, CAST(? AS BIGINT)) AS qty FROM product "
+                + "      WHERE id = ? AND count >= ? FOR UPDATE) AS g "
+                + "WHERE p.id = g.id "
+                + "RETURNING g.qty, p.count";
+
+        StockClaim claim = jdbcTemplate.query(sql,
+                rs -> rs.next() ? new StockClaim(rs.getLong(1), rs.getLong(2)) : null,
+                max, productId, need);
+        if (claim != null) {
+            jdbcTemplate.update("INSERT INTO product_stock_claim (node_id, product_id, qty, heartbeat_at) "
+                    + "VALUES (?, ?, ?, now()) "
+                    + "ON CONFLICT (node_id, product_id) DO UPDATE "
+                    + "SET qty = product_stock_claim.qty + EXCLUDED.qty, heartbeat_at = now()",
+                    nodeId, productId, claim.getQty());
+        }
+        return claim;
+    }
+
+    /**
+     * 예약 장부가 가져갔다가 팔지 않은 수량을 되돌림
+     * @return 상품 id → 되돌린 뒤 재고
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Long> restore(String nodeId, Map<Long, Long> qtyByProductId) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (qtyByProductId.isEmpty()) {
+            return counts;
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> params = new ArrayList<>(qtyByProductId.size() * 2);
+        appendValues(qtyByProductId, values, params);
+
+        String sql = "UPDATE product p SET count = p.count + v.qty "
+                + "FROM (VALUES " + values + ") AS v(id, qty) "
+                + "WHERE p.id = v.id "
+                + "RETURNING p.id, p.count";
+
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        }, params.toArray());
+        consumeClaims(nodeId, qtyByProductId);
+        return counts;
+    }
+
+    /**
+     * 장부가 들고 있던 수량 중 팔린 만큼을 기록에서 뺌.
+     * 트랜잭션을 따로 열지 않음 → 주문 트랜잭션 안에서 부르면 주문과 같이 커밋 / 롤백된다
+     */
+    public void consumeClaims(String nodeId, Map<Long, Long> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) {
+            return;
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> params = new ArrayList<>(qtyByProductId.size() * 2 + 1);
+        appendValues(qtyByProductId, values, params);
+        params.add(nodeId);
+
+        String sql = "UPDATE product_stock_claim c SET qty = c.qty - v.qty "
+                + "FROM (VALUES " + values + ") AS v(id, qty) "
+                + "WHERE c.product_id = v.id AND c.node_id = ?";
+
+        jdbcTemplate.update(sql, params.toArray());
+    }
+
+    // 살아 있는 서버임을 표시 (이 서버의 기록이 회수되지 않도록)
+    public void heartbeat(String nodeId) {
+        jdbcTemplate.update("UPDATE product_stock_claim SET heartbeat_at = now() WHERE node_id = ?", nodeId);
+    }
+
+    /**
+     * leaseSeconds 동안 갱신되지 않은 기록(종료 / 비정상 종료된 서버)을 지우고 그 수량을 재고로 되돌림.
+     * 여러 서버가 동시에 실행해도 DELETE 가 행을 잠그므로 한 번만 되돌려진다.
+     * @return 되돌린 상품별 수량과 되돌린 뒤 재고
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<StockReturn> reclaimStale(long leaseSeconds) {
+        String sql = "WITH gone AS ("
+                + "    DELETE FROM product_stock_claim "
+                + "    WHERE heartbeat_at < now() - CAST(? AS BIGINT) * INTERVAL '1 second' "
+                + "    RETURNING product_id, qty), "
+                + "s AS (SELECT product_id, SUM(qty) AS qty FROM gone GROUP BY product_id) "
+                + "UPDATE product p SET count = p.count + s.qty "
+                + "FROM s WHERE p.id = s.product_id AND s.qty > 0 "
+                + "RETURNING p.id, s.qty, p.count";
+
+        return jdbcTemplate.query(sql,
+                (rs, i) -> new StockReturn(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                leaseSeconds);
+    }
+
+    private void appendValues(Map<Long, Long> qtyByProductId, StringBuilder values, List<Object> params) {
+        for (Map.Entry<Long, Long> e : qtyByProductId.entrySet()) {
+            if (!params.isEmpty()) {
+                values.append(", ");
+            }
+            values.append("(CAST(? AS BIGINT), CAST(? AS BIGINT))");
+            params.add(e.getKey());
+            params.add(e.getValue());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StockClaim {
+        private final long qty;        // 가져간 수량
+        private final long remaining;  // 차감 후 DB 재고
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StockReturn {
+        private final long productId;
+        private final long qty;        // 되돌린 수량
+        private final long count;      // 되돌린 뒤 DB 재고
+    }
+}
@@ -0,0 +1,279 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.order.event.OrderCompletedEvent;
+import com.tjg_project.candy.domain.order.repository.OrderDetailRepository;
+import com.tjg_project.candy.global.outbox.OutboxEventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 베스트 상품 랭킹 (메모리 집계)
+ * - 기동 시 order_detail 에서 한 번 집계해서 적재
+ * - 주문 커밋 후 outbox 로 전달되는 OrderCompletedEvent 로 증분 갱신 (다시 전달된 주문은 orderCode 로 걸러냄)
+ * - 24시간 / 7일 / 30일 랭킹은 1시간 단위 버킷으로 관리하고, 기간이 지난 버킷을 빼서 유지
+ * - 재구성 중에 들어온 주문은 모아 두었다가 교체 직후 새 보드에 다시 반영 (이전 보드에만 들어가 사라지지 않도록)
+ * - 재구성 스냅샷에 이미 들어간 주문의 이벤트(재구성 중 / 이후에 늦게 도착)는 다시 더하지 않는다
+ *   (집계 쿼리와 같은 스냅샷에서 발행 전 / 재구성 시작 후 발행된 outbox 행의 orderCode 를 읽어 둠,
+ *    outbox 행은 주문과 같은 트랜잭션에 저장되므로 그 주문은 스냅샷 집계에 포함돼 있다)
+ */
+@Component
+public class BestSellerRanking {
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    // 가장 긴 기간(30일)만큼 시간 버킷 보관
+    private static final int BUCKET_COUNT = RankingWindow.MONTH.getHours();
+    // 중복 전달 확인용으로 기억할 최근 주문 수
+    private static final int RECENT_ORDER_CODES = 10_000;
+    // 재구성 시작 전 발행분도 걸러내도록 (서버 간 시계 차이)
+    private static final long PUBLISHED_MARGIN_SECONDS = 60;
+
+    private final OrderDetailRepository orderDetailRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate snapshotTx;
+
+    private State state = new State(currentHour());
+    // 재구성 중이면 그동안 들어온 주문 (아니면 null)
+    private List<OrderCompletedEvent> arrivedDuringRebuild;
+    // 최근 반영한 주문 코드 (outbox 는 at-least-once 라 같은 주문이 다시 올 수 있음)
+    private final Map<String, Boolean> recentOrderCodes = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_ORDER_CODES;
+        }
+    };
+
+    public BestSellerRanking(OrderDetailRepository orderDetailRepository,
+                             OutboxEventRepository outboxEventRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.orderDetailRepository = orderDetailRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        // 집계 쿼리 두 개 + outbox 조회가 같은 스냅샷을 보도록
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setReadOnly(true);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // -------------------------------
+    // 조회
+    // -------------------------------
+    public synchronized List<Long> top(RankingWindow window, Long categorySubId, int limit) {
+        state.advance(currentHour());
+        WindowBoards boards = state.windows.get(window);
+        if (categorySubId == null) {
+            return boards.overall.top(limit);
+        }
+        RankingBoard board = boards.byCategory.get(categorySubId);
+        return board == null ? List.of() : board.top(limit);
+    }
+
+    // -------------------------------
+    // 주문 커밋 후 증분 반영 (OutboxRelay 가 발행, 여기서 끝나야 발행 완료로 표시됨)
+    // -------------------------------
+    @EventListener
+    public synchronized void onOrderCompleted(OrderCompletedEvent event) {
+        if (recentOrderCodes.put(event.getOrderCode(), Boolean.TRUE) != null) {
+            return;
+        }
+        apply(state, event);
+        if (arrivedDuringRebuild != null) {
+            arrivedDuringRebuild.add(event);
+        }
+    }
+
+    private static void apply(State target, OrderCompletedEvent event) {
+        // 재구성 스냅샷에 이미 집계된 주문
+        if (target.counted.remove(event.getOrderCode())) {
+            return;
+        }
+        long now = currentHour();
+        target.advance(now);
+        long hour = Math.min(toHour(event.getOrderedAt()), now);
+        for (OrderCompletedEvent.SoldItem item : event.getItems()) {
+            target.record(item.getPpk(), item.getCategorySubId(), item.getQty(), hour, true);
+        }
+    }
+
+    // -------------------------------
+    // 기동 시 / 매일 새벽 DB 기준으로 재구성 (주문 삭제 등 보정)
+    // -------------------------------
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${product.ranking.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        synchronized (this) {
+            arrivedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            State rebuilt = snapshotTx.execute(status -> load(startedAt.minusSeconds(PUBLISHED_MARGIN_SECONDS)));
+            synchronized (this) {
+                for (OrderCompletedEvent event : arrivedDuringRebuild) {
+                    apply(rebuilt, event);
+                }
+                state = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                arrivedDuringRebuild = null;
+            }
+        }
+    }
+
+    private State load(LocalDateTime publishedSince) {
+        long now = currentHour();
+        State rebuilt = new State(now);
+
+        // 이 스냅샷에 포함됐지만 이벤트가 아직 안 왔거나 재구성 중에 온 주문
+        rebuilt.counted.addAll(outboxEventRepository.findKeysUnpublishedOrPublishedSince(
+                OrderCompletedEvent.class.getName(), publishedSince));
+
+        // 전체 기간 누적 (ppk, category_sub_id, qty)
+        WindowBoards all = rebuilt.windows.get(RankingWindow.ALL);
+        for (Object[] row : orderDetailRepository.sumQtyByProduct()) {
+            Long ppk = toLong(row[0]);
+            Long categorySubId = toLong(row[1]);
+            if (categorySubId != null) {
+                rebuilt.categoryOf.put(ppk, categorySubId);
+            }
+            all.add(ppk, categorySubId, toLong(row[2]));
+        }
+
+        // 최근 30일 시간 단위 (ppk, category_sub_id, hour, qty)
+        LocalDateTime since = LocalDateTime.now().minusHours(BUCKET_COUNT);
+        for (Object[] row : orderDetailRepository.sumQtyByProductAndHourSince(since)) {
+            long hour = Math.min(toHour(((Timestamp) row[2]).toLocalDateTime()), now);
+            rebuilt.record(toLong(row[0]), toLong(row[1]), toLong(row[3]), hour, false);
+        }
+        return rebuilt;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    private static long toHour(LocalDateTime time) {
+        if (time == null) {
+            return currentHour();
+        }
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / HOUR_MILLIS;
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    /**
+     * 랭킹 전체 상태 (재구성 시 통째로 교체)
+     */
+    private static final class State {
+
+        private final Map<RankingWindow, WindowBoards> windows = new EnumMap<>(RankingWindow.class);
+        // 기간별로 이미 보드에서 뺀 마지막 시간 버킷
+        private final Map<RankingWindow, Long> expiredThrough = new EnumMap<>(RankingWindow.class);
+        private final Map<Long, Long> categoryOf = new HashMap<>();
+        // 스냅샷 집계에 이미 들어간 주문 코드 (이벤트가 도착하면 더하지 않고 지움)
+        private final Set<String> counted = new HashSet<>();
+
+        // 시간 버킷 (hour % BUCKET_COUNT 위치에 저장)
+        private final long[] bucketHours = new long[BUCKET_COUNT];
+        private final Map<Long, Long>[] bucketQty;
+        private long currentHour;
+
+        @SuppressWarnings("unchecked")
+        private State(long now) {
+            for (RankingWindow window : RankingWindow.values()) {
+                windows.put(window, new WindowBoards());
+                if (window != RankingWindow.ALL) {
+                    expiredThrough.put(window, now - window.getHours());
+                }
+            }
+            bucketQty = new Map[BUCKET_COUNT];
+            Arrays.fill(bucketHours, Long.MIN_VALUE);
+            currentHour = now;
+        }
+
+        /**
+         * @param includeAll 전체 기간 보드에도 더할지 (재구성 시에는 별도 누적값을 사용)
+         */
+        private void record(Long ppk, Long categorySubId, long qty, long hour, boolean includeAll) {
+            if (categorySubId != null) {
+                categoryOf.put(ppk, categorySubId);
+            }
+            Long category = categoryOf.get(ppk);
+            if (includeAll) {
+                windows.get(RankingWindow.ALL).add(ppk, category, qty);
+            }
+
+            if (hour <= currentHour - BUCKET_COUNT) {
+                return;
+            }
+            int slot = (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+            if (bucketHours[slot] != hour) {
+                // 이전 시간 버킷은 advance()에서 이미 모든 기간 보드에서 빠진 상태
+                bucketHours[slot] = hour;
+                bucketQty[slot] = new HashMap<>();
+            }
+            bucketQty[slot].merge(ppk, qty, Long::sum);
+
+            for (Map.Entry<RankingWindow, Long> e : expiredThrough.entrySet()) {
+                if (hour > e.getValue()) {
+                    windows.get(e.getKey()).add(ppk, category, qty);
+                }
+            }
+        }
+
+        /**
+         * 현재 시각 기준으로 기간을 벗어난 시간 버킷을 각 기간 보드에서 뺀다.
+         */
+        private void advance(long now) {
+            if (now <= currentHour) {
+                return;
+            }
+            for (Map.Entry<RankingWindow, Long> e : expiredThrough.entrySet()) {
+                long target = now - e.getKey().getHours();
+                long from = Math.max(e.getValue() + 1, target - BUCKET_COUNT + 1);
+                WindowBoards boards = windows.get(e.getKey());
+                for (long hour = from; hour <= target; hour++) {
+                    int slot = (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+                    if (bucketHours[slot] == hour) {
+                        bucketQty[slot].forEach((ppk, qty) -> boards.add(ppk, categoryOf.get(ppk), -qty));
+                    }
+                }
+                e.setValue(Math.max(e.getValue(), target));
+            }
+            currentHour = now;
+        }
+    }
+
+    /**
+     * 기간 하나의 전체 / 카테고리별 보드
+     */
+    private static final class WindowBoards {
+        private final RankingBoard overall = new RankingBoard();
+        private final Map<Long, RankingBoard> byCategory = new HashMap<>();
+
+        private void add(Long ppk, Long categorySubId, long qty) {
+            overall.add(ppk, qty);
+            if (categorySubId != null) {
+                byCategory.computeIfAbsent(categorySubId, k -> new RankingBoard()).add(ppk, qty);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.tjg_project.candy.domain.product.service;
+
+/**
+ * 상품 하나의 동시구매/동시조회 가중치 (상품 id → 가중치)
+ * long 키 오픈 어드레싱 해시 (박싱 없음). 상품 id 는 1부터 시작하므로 0 을 빈 칸으로 사용한다.
+ * 동기화는 호출하는 쪽(CoPurchaseRecommender)에서 처리한다.
+ */
+final class CoOccurrenceRow {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys = new long[8];
+    private int[] weights = new int[8];
+    private int size;
+
+    void add(long key, int weight) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                weights[i] += weight;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        weights[i] = weight;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 가중치 상위 k 개 상품 id (가중치 내림차순, 같으면 id 오름차순)
+     * 크기 k 의 최소 힙으로 선택 → O(n log k)
+     */
+    long[] top(int k) {
+        int limit = Math.min(k, size);
+        int[] heap = new int[limit];   // keys/weights 의 인덱스
+        int heapSize = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == EMPTY) {
+                continue;
+            }
+            if (heapSize < limit) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++);
+            } else if (limit > 0 && better(i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, 0, heapSize);
+            }
+        }
+
+        // 힙에서 가장 약한 것부터 꺼내 뒤에서부터 채움
+        long[] result = new long[heapSize];
+        for (int n = heapSize - 1; n >= 0; n--) {
+            result[n] = keys[heap[0]];
+            heap[0] = heap[n];
+            siftDown(heap, 0, n);
+        }
+        return result;
+    }
+
+    /**
+     * 상위 keep 개만 남기고 정리 (오래 쌓인 약한 연결 제거로 메모리 상한 유지)
+     */
+    void prune(int keep) {
+        if (size <= keep) {
+            return;
+        }
+        long[] survivors = top(keep);
+        long[] oldKeys = keys;
+        int[] oldWeights = weights;
+        int mask = oldKeys.length - 1;
+
+        keys = new long[oldKeys.length];
+        weights = new int[oldKeys.length];
+        size = 0;
+        for (long key : survivors) {
+            int i = slot(key, mask);
+            while (oldKeys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            add(key, oldWeights[i]);
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldWeights = weights;
+        keys = new long[capacity];
+        weights = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                add(oldKeys[i], oldWeights[i]);
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // a 가 b 보다 순위가 높은지
+    private boolean better(int a, int b) {
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b];
+        }
+        return keys[a] < keys[b];
+    }
+
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!better(heap[parent], heap[i])) {
+                break;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int i, int heapSize) {
+        while (true) {
+            int left = i * 2 + 1;
+            int right = left + 1;
+            int weakest = i;
+            if (left < heapSize && better(heap[weakest], heap[left])) {
+                weakest = left;
+            }
+            if (right < heapSize && better(heap[weakest], heap[right])) {
+                weakest = right;
+            }
+            if (weakest == i) {
+                return;
+            }
+            swap(heap, i, weakest);
+            i = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
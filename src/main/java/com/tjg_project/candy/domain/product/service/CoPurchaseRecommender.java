@@ -0,0 +1,263 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.order.repository.OrderDetailRepository;
+import com.tjg_project.candy.domain.user.repository.UserViewLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 간 연관 추천 (함께 구매 / 함께 조회)
+ * - 같은 주문에 담긴 상품끼리, 같은 유저가 짧은 시간 안에 본 상품끼리 가중치를 누적
+ * - 주기적으로 새 주문 / 새 조회 로그만 반영하고, 바뀐 상품의 상위 K 개 이웃만 다시 계산
+ * - 조회는 미리 계산된 이웃 배열을 그대로 읽음
+ */
+@Component
+public class CoPurchaseRecommender {
+
+    // 한 묶음에서 쌍을 만들 최대 상품 수 (n^2 폭증 방지)
+    private static final int MAX_GROUP_SIZE = 50;
+
+    private final OrderDetailRepository orderDetailRepository;
+    private final UserViewLogRepository userViewLogRepository;
+    private final int topK;
+    private final int maxRowSize;
+    private final int orderWeight;
+    private final int viewWeight;
+    private final Duration sessionGap;
+    private final long lagSeconds;
+    private final int orderBatchSize;
+    private final int viewBatchSize;
+
+    // 상품 id → 연관 상품 가중치 (갱신 스레드만 접근)
+    private final Map<Long, CoOccurrenceRow> rows = new HashMap<>();
+    // 상품 id → 상위 K 개 연관 상품 (조회용)
+    private final ConcurrentHashMap<Long, long[]> neighbors = new ConcurrentHashMap<>();
+
+    // 유저 id → 아직 열려 있는 조회 세션 (묶음 / 갱신 사이에 이어짐, sessionGap 동안 조회가 없으면 닫음)
+    private final Map<Long, ViewSession> openSessions = new HashMap<>();
+
+    private long orderWatermark;
+    private long viewWatermark;
+
+    public CoPurchaseRecommender(
+            OrderDetailRepository orderDetailRepository,
+            UserViewLogRepository userViewLogRepository,
+            @Value("${product.recommend.top-k:20}") int topK,
+            @Value("${product.recommend.max-row-size:500}") int maxRowSize,
+            @Value("${product.recommend.order-weight:4}") int orderWeight,
+            @Value("${product.recommend.view-weight:1}") int viewWeight,
+            @Value("${product.recommend.session-gap-minutes:30}") long sessionGapMinutes,
+            @Value("${product.recommend.lag-seconds:60}") long lagSeconds,
+            @Value("${product.recommend.order-batch-size:2000}") int orderBatchSize,
+            @Value("${product.recommend.view-batch-size:5000}") int viewBatchSize) {
+        this.orderDetailRepository = orderDetailRepository;
+        this.userViewLogRepository = userViewLogRepository;
+        this.topK = topK;
+        this.maxRowSize = maxRowSize;
+        this.orderWeight = orderWeight;
+        this.viewWeight = viewWeight;
+        this.sessionGap = Duration.ofMinutes(sessionGapMinutes);
+        this.lagSeconds = lagSeconds;
+        this.orderBatchSize = orderBatchSize;
+        this.viewBatchSize = viewBatchSize;
+    }
+
+    // -------------------------------
+    // 조회
+    // -------------------------------
+
+    // 이 상품과 함께 구매/조회된 상품 (연관도 순)
+    public List<Long> alsoBought(Long productId, int limit) {
+        long[] top = neighbors.get(productId);
+        if (top == null) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && result.size() < limit; i++) {
+            result.add(top[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 최근 본 상품들(최신순)의 연관 상품을 합산해서 추천 (본 상품은 제외)
+     * 최근에 본 상품일수록, 이웃 순위가 높을수록 점수가 높다.
+     */
+    public List<Long> recommendFor(List<Long> recentProductIds, int limit) {
+        Set<Long> seen = new HashSet<>(recentProductIds);
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < recentProductIds.size(); i++) {
+            long[] top = neighbors.get(recentProductIds.get(i));
+            if (top == null) {
+                continue;
+            }
+            double recency = 1.0 / (i + 1);
+            for (int rank = 0; rank < top.length; rank++) {
+                if (!seen.contains(top[rank])) {
+                    scores.merge(top[rank], recency * (top.length - rank), Double::sum);
+                }
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // -------------------------------
+    // 증분 갱신 (기동 직후 첫 실행은 전체 적재)
+    // -------------------------------
+    @Scheduled(fixedDelayString = "${product.recommend.refresh-ms:600000}")
+    public synchronized void refresh() {
+        Set<Long> dirty = new HashSet<>();
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(lagSeconds);
+
+        applyOrders(cutoff, dirty);
+        applyViews(cutoff, dirty);
+
+        for (Long productId : dirty) {
+            CoOccurrenceRow row = rows.get(productId);
+            row.prune(maxRowSize);
+            neighbors.put(productId, row.top(topK));
+        }
+    }
+
+    // 주문 id 워터마크 이후 주문 (주문과 상세는 같은 트랜잭션이므로 주문 단위로 읽으면 상세가 빠지지 않음)
+    private void applyOrders(LocalDateTime cutoff, Set<Long> dirty) {
+        Long maxOrderId = orderDetailRepository.findMaxOrderIdBefore(cutoff);
+        if (maxOrderId == null) {
+            return;
+        }
+        while (orderWatermark < maxOrderId) {
+            long toId = Math.min(orderWatermark + orderBatchSize, maxOrderId);
+            List<Object[]> items = orderDetailRepository.findOrderItemsBetween(orderWatermark, toId);
+
+            // (order_id, ppk) - order_id 순 정렬
+            List<Long> basket = new ArrayList<>();
+            long currentOrder = -1;
+            for (Object[] row : items) {
+                long orderId = ((Number) row[0]).longValue();
+                if (orderId != currentOrder) {
+                    addPairs(basket, orderWeight, dirty);
+                    basket.clear();
+                    currentOrder = orderId;
+                }
+                long ppk = ((Number) row[1]).longValue();
+                if (!basket.contains(ppk)) {
+                    basket.add(ppk);
+                }
+            }
+            addPairs(basket, orderWeight, dirty);
+            orderWatermark = toId;
+        }
+    }
+
+    /**
+     * 조회 로그 id 워터마크 이후 행을 id 순으로 나눠 읽음 → 유저별로 sessionGap 안에 처음 본 상품끼리 연결
+     * - user_view_log 는 (upk, ppk) 당 한 행이고 다시 보면 viewed_at 만 바뀌므로, 행(= 처음 본 조회)마다 한 번만 반영
+     * - 첫 조회시간이 cutoff 이후인 행을 만나면 멈춤 (아직 커밋 안 된 앞 id 가 건너뛰어지지 않도록 lag 만큼 대기)
+     * - 유저별 세션은 묶음 / 갱신 주기를 넘어 이어지고, 상품이 세션에 들어올 때 기존 상품들과 바로 연결
+     * - 마지막 조회 후 sessionGap 이 지나 더 이어질 수 없는 세션은 닫아서 메모리에서 뺌
+     */
+    private void applyViews(LocalDateTime cutoff, Set<Long> dirty) {
+        readViews(cutoff, dirty);
+        // cutoff 이전 조회는 모두 읽었으므로, 그보다 sessionGap 이상 앞선 세션에는 더 붙을 조회가 없음
+        LocalDateTime closeBefore = cutoff.minus(sessionGap);
+        openSessions.values().removeIf(session -> session.lastViewedAt.isBefore(closeBefore));
+    }
+
+    private void readViews(LocalDateTime cutoff, Set<Long> dirty) {
+        while (true) {
+            // (id, upk, ppk, first_viewed_at) - id 순
+            List<Object[]> page = userViewLogRepository.findViewsAfter(viewWatermark, viewBatchSize);
+
+            Map<Long, List<Object[]>> viewsByUser = new HashMap<>();
+            boolean reachedCutoff = false;
+            for (Object[] row : page) {
+                LocalDateTime firstViewedAt = ((Timestamp) row[3]).toLocalDateTime();
+                if (!firstViewedAt.isBefore(cutoff)) {
+                    reachedCutoff = true;
+                    break;
+                }
+                viewWatermark = ((Number) row[0]).longValue();
+                if (row[1] == null || row[2] == null) {
+                    continue;
+                }
+                long upk = ((Number) row[1]).longValue();
+                viewsByUser.computeIfAbsent(upk, k -> new ArrayList<>())
+                        .add(new Object[]{((Number) row[2]).longValue(), firstViewedAt});
+            }
+
+            for (Map.Entry<Long, List<Object[]>> e : viewsByUser.entrySet()) {
+                List<Object[]> views = e.getValue();
+                views.sort((a, b) -> ((LocalDateTime) a[1]).compareTo((LocalDateTime) b[1]));
+                ViewSession session = openSessions.get(e.getKey());
+                for (Object[] view : views) {
+                    LocalDateTime viewedAt = (LocalDateTime) view[1];
+                    if (session == null || Duration.between(session.lastViewedAt, viewedAt).compareTo(sessionGap) > 0) {
+                        session = new ViewSession();
+                        openSessions.put(e.getKey(), session);
+                    }
+                    session.add((Long) view[0], viewedAt, dirty);
+                }
+            }
+
+            if (reachedCutoff || page.size() < viewBatchSize) {
+                return;
+            }
+        }
+    }
+
+    // 묶음 안의 모든 상품 쌍에 가중치 누적 (묶음이 너무 크면 앞쪽 일부만 사용)
+    private void addPairs(List<Long> group, int weight, Set<Long> dirty) {
+        int n = Math.min(group.size(), MAX_GROUP_SIZE);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                addPair(group.get(i), group.get(j), weight, dirty);
+            }
+        }
+    }
+
+    private void addPair(long a, long b, int weight, Set<Long> dirty) {
+        rows.computeIfAbsent(a, k -> new CoOccurrenceRow()).add(b, weight);
+        rows.computeIfAbsent(b, k -> new CoOccurrenceRow()).add(a, weight);
+        dirty.add(a);
+        dirty.add(b);
+    }
+
+    /**
+     * 유저 한 명의 열린 조회 세션 (처음 본 상품 순, 최대 MAX_GROUP_SIZE 개)
+     */
+    private final class ViewSession {
+        private final List<Long> products = new ArrayList<>();
+        private LocalDateTime lastViewedAt;
+
+        // 새 상품이면 세션에 있던 상품들과 바로 연결
+        private void add(long ppk, LocalDateTime viewedAt, Set<Long> dirty) {
+            if (lastViewedAt == null || viewedAt.isAfter(lastViewedAt)) {
+                lastViewedAt = viewedAt;
+            }
+            if (products.size() >= MAX_GROUP_SIZE || products.contains(ppk)) {
+                return;
+            }
+            for (Long other : products) {
+                addPair(other, ppk, viewWeight, dirty);
+            }
+            products.add(ppk);
+        }
+    }
+}
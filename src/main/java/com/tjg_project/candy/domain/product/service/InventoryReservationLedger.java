@@ -0,0 +1,497 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import com.tjg_project.candy.domain.product.entity.Product;
+import com.tjg_project.candy.domain.product.event.ProductChangedEvent;
+import com.tjg_project.candy.domain.product.repository.ProductRepository;
+import com.tjg_project.candy.domain.product.repository.ProductStockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핫딜 상품 재고 예약 장부 (메모리)
+ * - 핫딜 상품은 결제 준비(ready) 시점에 메모리 재고에서 예약하고, 주문 커밋 시 확정, 취소/실패/롤백/만료 시 반환한다.
+ * - 메모리 재고는 product.count 에서 묶음(claim-size) 단위로 조건부 차감해서 가져온 수량이다.
+ *   → 서버가 여러 대여도 각자 DB 에서 가져간 만큼만 팔 수 있어 같은 재고를 중복 판매하지 않는다.
+ *   → 주문마다 상품 행을 갱신하지 않고 묶음마다 한 번만 갱신한다.
+ * - 한동안 예약이 없는 상품은 남은 수량을 DB 로 되돌리고 장부에서 내린다 (관리자 수정 / 핫딜 해제도 이때 반영).
+ * - 핫딜이 아닌 상품은 관리하지 않는다 (주문 저장 시 DB 에서 바로 차감).
+ * - 가져간 수량은 product_stock_claim 에 서버별로 기록한다 (가져갈 때 / 주문 커밋 / DB 반환과 같은 트랜잭션).
+ *   → 서버가 죽어 메모리 재고가 사라져도 기록이 claim-lease-seconds 동안 갱신되지 않으면 다른 서버(또는 재기동한 서버)가
+ *     DB 재고로 되돌린다. 팔린 수량은 주문과 함께 기록에서 빠지므로 두 번 되돌리거나 두 번 차감하지 않는다.
+ * - DB 에서 새로 가져오는 일은 주문 트랜잭션 밖(결제 준비 / ensureReserved)에서만 한다 (주문 트랜잭션이 커넥션을 두 개 잡지 않도록).
+ */
+@Slf4j
+@Component
+public class InventoryReservationLedger {
+
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long reservationTtlMillis;
+    private final long claimSize;
+    private final long idleMillis;
+    private final long lowStockThreshold;
+    private final long claimLeaseSeconds;
+    // product_stock_claim 에 기록하는 이 서버의 id (기동마다 새로 만듦 → 이전 기동분은 lease 가 지나면 회수)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 상품 id → 재고 셀 (핫딜이 아니면 UNMANAGED)
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    // orderId → 예약
+    private final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    private final LongAdder reservedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder committedCount = new LongAdder();
+    private final LongAdder releasedCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder claimedQty = new LongAdder();
+    private final LongAdder returnedQty = new LongAdder();
+
+    public InventoryReservationLedger(
+            ProductRepository productRepository,
+            ProductStockRepository productStockRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${product.reservation.ttl-seconds:900}") long ttlSeconds,
+            @Value("${product.reservation.claim-size:20}") long claimSize,
+            @Value("${product.reservation.idle-seconds:60}") long idleSeconds,
+            @Value("${product.reservation.low-stock-threshold:10}") long lowStockThreshold,
+            @Value("${product.reservation.claim-lease-seconds:300}") long claimLeaseSeconds) {
+        this.productRepository = productRepository;
+        this.productStockRepository = productStockRepository;
+        this.eventPublisher = eventPublisher;
+        this.reservationTtlMillis = ttlSeconds * 1000;
+        this.claimSize = Math.max(1, claimSize);
+        this.idleMillis = idleSeconds * 1000;
+        this.lowStockThreshold = lowStockThreshold;
+        this.claimLeaseSeconds = claimLeaseSeconds;
+    }
+
+    // -------------------------------
+    // 예약 (결제 준비)
+    // -------------------------------
+
+    /**
+     * 주문의 핫딜 상품 수량을 예약한다. 하나라도 부족하면 이번 호출에서 잡은 예약을 모두 되돌리고 false.
+     */
+    public boolean reserve(String orderId, List<KakaoPay.ProductInfo> items) {
+        Reservation reservation = new Reservation(System.currentTimeMillis() + reservationTtlMillis);
+        for (Map.Entry<Long, Long> e : quantities(items).entrySet()) {
+            if (!hold(reservation, e.getKey(), e.getValue(), true)) {
+                reservation.releaseAll();
+                rejectedCount.increment();
+                return false;
+            }
+        }
+
+        if (reservation.isEmpty()) {
+            return true; // 핫딜 상품 없음
+        }
+        Reservation previous = reservations.put(orderId, reservation);
+        if (previous != null) {
+            previous.releaseAll();
+        }
+        reservedCount.increment();
+        return true;
+    }
+
+    /**
+     * 주문 트랜잭션을 열기 전에 호출. 예약이 없거나 만료된 핫딜 상품 수량을 지금 예약해 둔다 (모자라면 DB 에서 가져옴).
+     * @throws IllegalStateException 핫딜 상품 재고 부족
+     */
+    public void ensureReserved(String orderId, List<KakaoPay.ProductInfo> items) {
+        Reservation reservation = reservations.computeIfAbsent(orderId,
+                k -> new Reservation(System.currentTimeMillis() + reservationTtlMillis));
+
+        for (Map.Entry<Long, Long> e : quantities(items).entrySet()) {
+            long need = e.getValue() - reservation.heldQty(e.getKey());
+            if (need > 0 && !hold(reservation, e.getKey(), need, true)) {
+                rejectedCount.increment();
+                throw new IllegalStateException("재고가 부족한 상품이 있습니다: [" + e.getKey() + "]");
+            }
+        }
+
+        if (reservation.isEmpty()) {
+            reservations.remove(orderId, reservation);
+        }
+    }
+
+    /**
+     * 주문 저장 시 (주문 트랜잭션 안에서) 호출. 예약으로 이미 잡힌 수량을 빼고, 모자란 핫딜 상품은 메모리 재고에서만 예약한다.
+     * 예약한 수량은 주문 트랜잭션으로 product_stock_claim 에서 빼므로 주문과 함께 커밋 / 롤백된다.
+     * @return DB 에서 바로 차감해야 할 나머지 수량 (핫딜이 아닌 상품)
+     * @throws IllegalStateException 핫딜 상품 재고 부족
+     */
+    public Map<Long, Long> reserveRemaining(String orderId, Map<Long, Long> qtyByProductId) {
+        Reservation reservation = reservations.computeIfAbsent(orderId,
+                k -> new Reservation(System.currentTimeMillis() + reservationTtlMillis));
+
+        Map<Long, Long> remainder = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> e : qtyByProductId.entrySet()) {
+            long need = e.getValue() - reservation.heldQty(e.getKey());
+            if (need <= 0) {
+                continue;
+            }
+            Cell cell = cellOf(e.getKey());
+            if (cell == Cell.UNMANAGED) {
+                remainder.put(e.getKey(), need);
+            } else if (!hold(reservation, e.getKey(), need, false)) {
+                rejectedCount.increment();
+                throw new IllegalStateException("재고가 부족한 상품이 있습니다: [" + e.getKey() + "]");
+            }
+        }
+
+        if (reservation.isEmpty()) {
+            reservations.remove(orderId, reservation);
+        } else {
+            productStockRepository.consumeClaims(nodeId, reservation.quantities());
+        }
+        return remainder;
+    }
+
+    // -------------------------------
+    // 확정 / 반환
+    // -------------------------------
+
+    // ✅ 주문 트랜잭션이 끝나면 커밋 → 예약 확정, 롤백 → 예약 반환
+    // (판매 집계 이벤트는 outbox 로 늦게 전달되므로, 예약 정리는 주문 트랜잭션 완료에 직접 묶는다)
+    public void settleAfterTransaction(String orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("주문 트랜잭션 안에서 호출해야 합니다.");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commit(orderId);
+                } else {
+                    release(orderId);
+                }
+            }
+        });
+    }
+
+    public void commit(String orderId) {
+        Reservation reservation = reservations.remove(orderId);
+        if (reservation != null && reservation.commitAll()) {
+            committedCount.increment();
+        }
+    }
+
+    // 결제 취소 / 실패 / 주문 롤백
+    public void release(String orderId) {
+        Reservation reservation = reservations.remove(orderId);
+        if (reservation != null && reservation.releaseAll()) {
+            releasedCount.increment();
+        }
+    }
+
+    // ✅ 결제창을 닫고 돌아오지 않은 예약 반환 + 한동안 예약이 없는 상품의 남은 수량을 DB 로 되돌림
+    @Scheduled(fixedDelayString = "${product.reservation.sweep-ms:30000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        reservations.forEach((orderId, reservation) -> {
+            if (reservation.expiresAt <= now && reservations.remove(orderId, reservation)
+                    && reservation.releaseAll()) {
+                expiredCount.increment();
+            }
+        });
+        returnIdle(now - idleMillis, false);
+        try {
+            productStockRepository.heartbeat(nodeId);
+        } catch (RuntimeException e) {
+            log.error("핫딜 재고 기록 갱신 실패", e);
+        }
+        reclaimStale();
+    }
+
+    // 종료 시 예약되지 않은 수량은 모두 DB 로 되돌림
+    // (진행 중인 예약분은 기록에 남겨 둠 → 커밋되면 기록에서 빠지고, 아니면 lease 가 지난 뒤 reclaimStale 이 되돌림)
+    @PreDestroy
+    public void returnAll() {
+        returnIdle(Long.MAX_VALUE, true);
+    }
+
+    // ✅ 기동 시 + 주기적으로: 종료 / 비정상 종료된 서버가 가져간 채 남긴 수량을 DB 재고로 되돌림
+    @EventListener(ApplicationReadyEvent.class)
+    public void reclaimStale() {
+        try {
+            for (ProductStockRepository.StockReturn r : productStockRepository.reclaimStale(claimLeaseSeconds)) {
+                returnedQty.add(r.getQty());
+                publishIfCrossed(r.getProductId(), r.getCount() - r.getQty(), r.getCount());
+                log.info("다른 서버가 남긴 핫딜 재고 회수 productId={} qty={}", r.getProductId(), r.getQty());
+            }
+        } catch (RuntimeException e) {
+            log.error("핫딜 재고 회수 실패", e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("products", cells.values().stream().filter(c -> c != Cell.UNMANAGED).count());
+        stats.put("activeReservations", reservations.size());
+        stats.put("reserved", reservedCount.sum());
+        stats.put("rejected", rejectedCount.sum());
+        stats.put("committed", committedCount.sum());
+        stats.put("released", releasedCount.sum());
+        stats.put("expired", expiredCount.sum());
+        stats.put("claimedQty", claimedQty.sum());
+        stats.put("returnedQty", returnedQty.sum());
+        return stats;
+    }
+
+    // -------------------------------
+    // 내부
+    // -------------------------------
+
+    private static Map<Long, Long> quantities(List<KakaoPay.ProductInfo> items) {
+        Map<Long, Long> qtyByProductId = new LinkedHashMap<>();
+        for (KakaoPay.ProductInfo info : items) {
+            qtyByProductId.merge(info.getPid(), info.getQty(), Long::sum);
+        }
+        return qtyByProductId;
+    }
+
+    private Cell cellOf(Long productId) {
+        return cells.computeIfAbsent(productId, this::seed);
+    }
+
+    // 핫딜 상품이면 빈 셀 (재고는 첫 예약 때 DB 에서 가져옴)
+    private Cell seed(Long productId) {
+        return productRepository.findById(productId)
+                .filter(Product::isHotDeal)
+                .map(product -> new Cell())
+                .orElse(Cell.UNMANAGED);
+    }
+
+    /**
+     * 메모리 재고에서 qty 만큼 차감해서 예약에 추가 (모자라면 allowClaim 일 때만 DB 에서 더 가져옴). 핫딜이 아니면 아무것도 하지 않고 true.
+     */
+    private boolean hold(Reservation reservation, Long productId, long qty, boolean allowClaim) {
+        while (true) {
+            Cell cell = cellOf(productId);
+            if (cell == Cell.UNMANAGED) {
+                return true;
+            }
+            int result = cell.tryHold(qty, System.currentTimeMillis());
+            if (result == Cell.RETIRED) {
+                continue; // 장부에서 내리는 중 → 새 셀로 재시도
+            }
+            if (result == Cell.SHORT) {
+                if (!allowClaim || !claim(productId, cell, qty)) {
+                    return false;
+                }
+                continue;
+            }
+            if (!reservation.add(productId, cell, qty)) {
+                // 이미 만료/확정된 예약 → 바로 반환
+                cell.release(qty);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * DB 에서 재고를 묶음으로 가져와 셀에 더한다. 같은 상품은 한 번에 한 스레드만 가져온다.
+     * @return false 면 DB 에도 qty 만큼 남아 있지 않음
+     */
+    private boolean claim(Long productId, Cell cell, long qty) {
+        synchronized (cell.claimLock) {
+            long need = qty - cell.available();
+            if (need <= 0) {
+                return true; // 기다리는 동안 다른 스레드가 가져옴
+            }
+            ProductStockRepository.StockClaim claim =
+                    productStockRepository.claim(nodeId, productId, need, Math.max(need, claimSize));
+            if (claim == null) {
+                return false;
+            }
+            claimedQty.add(claim.getQty());
+            if (!cell.addClaimed(claim.getQty())) {
+                // 가져오는 사이에 셀이 내려감 → 바로 되돌리고 새 셀에서 다시
+                restore(Map.of(productId, claim.getQty()));
+            } else {
+                publishIfCrossed(productId, claim.getRemaining() + claim.getQty(), claim.getRemaining());
+            }
+            return true;
+        }
+    }
+
+    // lastUsedBefore 이전부터 예약이 없는 셀(force 면 모든 셀)을 내리고 남은 수량을 DB 로 되돌린다
+    private void returnIdle(long lastUsedBefore, boolean force) {
+        Map<Long, Long> leftovers = new HashMap<>();
+        cells.forEach((id, cell) -> {
+            if (cell == Cell.UNMANAGED) {
+                cells.remove(id, cell); // 핫딜 지정 변경은 다음 예약 때 다시 확인
+                return;
+            }
+            long left = cell.retire(lastUsedBefore, force);
+            if (left >= 0) {
+                cells.remove(id, cell);
+                if (left > 0) {
+                    leftovers.put(id, left);
+                }
+            }
+        });
+        restore(leftovers);
+    }
+
+    private void restore(Map<Long, Long> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Long> counts = productStockRepository.restore(nodeId, qtyByProductId);
+            qtyByProductId.values().forEach(returnedQty::add);
+            counts.forEach((id, after) -> publishIfCrossed(id, after - qtyByProductId.get(id), after));
+        } catch (RuntimeException e) {
+            // 되돌리지 못한 수량은 기록에 남아 이 서버가 내려간 뒤 reclaimStale 로 되돌아감 (초과 판매는 없음)
+            log.error("핫딜 재고 반환 실패 {}", qtyByProductId, e);
+        }
+    }
+
+    // 화면에 보이는 재고 상태(품절 / 품절 임박)가 바뀔 때만 상품 변경 이벤트 발행 (캐시 / 검색 색인 갱신)
+    private void publishIfCrossed(Long productId, long before, long after) {
+        if ((before > 0) != (after > 0) || (before > lowStockThreshold) != (after > lowStockThreshold)) {
+            eventPublisher.publishEvent(ProductChangedEvent.of(productId));
+        }
+    }
+
+    /**
+     * 상품 하나의 메모리 재고 (이 서버가 DB 에서 가져온 수량)
+     * available: 예약 가능 수량, reserved: 예약 중 수량 (확정되면 그대로 판매 완료)
+     * 예약 / 반환 / 내리기는 모두 셀 락 안에서 처리 → 내린 셀에 예약이 걸리지 않음
+     */
+    private static final class Cell {
+        private static final Cell UNMANAGED = new Cell();
+
+        private static final int HELD = 0;
+        private static final int SHORT = 1;
+        private static final int RETIRED = 2;
+
+        private final Object claimLock = new Object();
+        private long available;
+        private long reserved;
+        private long lastUsed;
+        private boolean retired;
+
+        private synchronized int tryHold(long qty, long now) {
+            if (retired) {
+                return RETIRED;
+            }
+            lastUsed = now;
+            if (available < qty) {
+                return SHORT;
+            }
+            available -= qty;
+            reserved += qty;
+            return HELD;
+        }
+
+        private synchronized long available() {
+            return available;
+        }
+
+        private synchronized boolean addClaimed(long qty) {
+            if (retired) {
+                return false;
+            }
+            available += qty;
+            return true;
+        }
+
+        private synchronized void commit(long qty) {
+            reserved -= qty;
+        }
+
+        private synchronized void release(long qty) {
+            available += qty;
+            reserved -= qty;
+        }
+
+        /**
+         * 내린 셀에 나중에 반환된 예약분은 available 로만 돌아가고 DB 로는 가지 않음 (기록에 남아 있다가 회수됨)
+         * @return 내렸으면 DB 로 되돌릴 남은 수량, 예약 중이거나 최근에 쓰였으면 -1 (force 면 항상 내림)
+         */
+        private synchronized long retire(long lastUsedBefore, boolean force) {
+            if (retired || (!force && (reserved > 0 || lastUsed >= lastUsedBefore))) {
+                return -1;
+            }
+            retired = true;
+            long left = available;
+            available = 0;
+            return left;
+        }
+    }
+
+    /**
+     * 주문 하나의 예약 (확정/반환은 한 번만)
+     */
+    private static final class Reservation {
+        private final long expiresAt;
+        private final Map<Long, Long> qtyByProductId = new HashMap<>();
+        private final Map<Long, Cell> cellByProductId = new HashMap<>();
+        private boolean closed;
+
+        private Reservation(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private synchronized boolean add(Long productId, Cell cell, long qty) {
+            if (closed) {
+                return false;
+            }
+            qtyByProductId.merge(productId, qty, Long::sum);
+            cellByProductId.put(productId, cell);
+            return true;
+        }
+
+        private synchronized long heldQty(Long productId) {
+            return qtyByProductId.getOrDefault(productId, 0L);
+        }
+
+        private synchronized Map<Long, Long> quantities() {
+            return new HashMap<>(qtyByProductId);
+        }
+
+        private synchronized boolean isEmpty() {
+            return qtyByProductId.isEmpty();
+        }
+
+        private synchronized boolean commitAll() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            qtyByProductId.forEach((id, qty) -> cellByProductId.get(id).commit(qty));
+            return true;
+        }
+
+        private synchronized boolean releaseAll() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            qtyByProductId.forEach((id, qty) -> cellByProductId.get(id).release(qty));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.tjg_project.candy.domain.product.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색용 토큰 생성 (형태소 분석기 없이 글자 단위)
+ * - g: 2글자 n-gram ("초코파이" → 초코, 코파, 파이) → 단어 일부만 입력해도 검색
+ * - u: 1글자 (한 글자 검색어용, 상품명 / 브랜드만)
+ * - c: 초성 1~2글자 n-gram ("ㅊㅋㅍㅇ" 검색용)
+ * - j: 자모 3글자 n-gram ("쵸코파이" 처럼 자모 하나 틀려도 대부분 겹침) → 오타 허용
+ */
+public final class KoreanTokenizer {
+
+    public static final String GRAM = "g:";
+    public static final String UNIGRAM = "u:";
+    public static final String CHOSUNG = "c:";
+    public static final String JAMO = "j:";
+
+    private static final char HANGUL_BEGIN = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+    private static final char[] JUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'};
+    private static final char[] JONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private KoreanTokenizer() {
+    }
+
+    // 소문자 + 글자/숫자가 아닌 문자로 분리
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            } else if (sb.length() > 0) {
+                words.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        if (sb.length() > 0) {
+            words.add(sb.toString());
+        }
+        return words;
+    }
+
+    public static void grams(String word, Consumer<String> out) {
+        ngrams(GRAM, word, 2, out);
+    }
+
+    public static void unigrams(String word, Consumer<String> out) {
+        ngrams(UNIGRAM, word, 1, out);
+    }
+
+    // 초성 1글자 + 2글자 (한글 음절만)
+    public static void chosungGrams(String word, Consumer<String> out) {
+        String cho = chosung(word);
+        ngrams(CHOSUNG, cho, 1, out);
+        ngrams(CHOSUNG, cho, 2, out);
+    }
+
+    public static void jamoGrams(String word, Consumer<String> out) {
+        ngrams(JAMO, jamo(word), 3, out);
+    }
+
+    // "초코파이" → "ㅊㅋㅍㅇ"
+    public static String chosung(String word) {
+        StringBuilder sb = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - HANGUL_BEGIN) / 588]);
+            }
+        }
+        return sb.toString();
+    }
+
+    // "초코" → "ㅊㅗㅋㅗ" (한글 외 문자는 그대로)
+    public static String jamo(String word) {
+        StringBuilder sb = new StringBuilder(word.length() * 3);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (isSyllable(c)) {
+                int idx = c - HANGUL_BEGIN;
+                sb.append(CHO[idx / 588]).append(JUNG[(idx % 588) / 28]);
+                if (idx % 28 != 0) {
+                    sb.append(JONG[idx % 28]);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 검색어가 초성만으로 되어 있는지 ("ㅊㅋ")
+    public static boolean isChosungOnly(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (!isChosung(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char cho : CHO) {
+            if (cho == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+
+    private static void ngrams(String prefix, String s, int n, Consumer<String> out) {
+        for (int i = 0; i + n <= s.length(); i++) {
+            out.accept(prefix + s.substring(i, i + n));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.product.dto.ProductPageResponse;
+import com.tjg_project.candy.domain.product.entity.ProductDetailView;
+import com.tjg_project.candy.domain.product.event.ProductChangedEvent;
+import com.tjg_project.candy.global.cache.CacheStats;
+import com.tjg_project.candy.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품 상세(view_product_detail) / 상품 목록 페이지 캐시
+ * 상품이 변경되면 ProductChangedEvent로 해당 항목을 제거한다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final LocalCache<Long, ProductDetailView> detailCache;
+    private final LocalCache<String, ProductPageResponse> pageCache;
+
+    public ProductCatalogCache(
+            @Value("${product.cache.detail.max-size:5000}") int detailMaxSize,
+            @Value("${product.cache.detail.ttl-seconds:300}") long detailTtlSeconds,
+            @Value("${product.cache.page.max-size:500}") int pageMaxSize,
+            @Value("${product.cache.page.ttl-seconds:60}") long pageTtlSeconds) {
+        this.detailCache = new LocalCache<>("productDetail", detailMaxSize, detailTtlSeconds * 1000);
+        this.pageCache = new LocalCache<>("productPage", pageMaxSize, pageTtlSeconds * 1000);
+    }
+
+    public ProductDetailView getDetail(Long id, Function<Long, ProductDetailView> loader) {
+        return detailCache.get(id, loader);
+    }
+
+    public ProductPageResponse getPage(String key, Function<String, ProductPageResponse> loader) {
+        return pageCache.get(key, loader);
+    }
+
+    // ✅ 트랜잭션 커밋 후 제거 (트랜잭션 밖에서 발행되면 즉시 제거)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        event.getProductIds().forEach(detailCache::invalidate);
+        // 목록 페이지는 어느 상품이 어느 페이지에 있는지 모르므로 전체 제거
+        pageCache.invalidateAll();
+    }
+
+    public List<CacheStats> stats() {
+        return List.of(detailCache.stats(), pageCache.stats());
+    }
+}
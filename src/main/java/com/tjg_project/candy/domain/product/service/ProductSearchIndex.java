@@ -0,0 +1,429 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.product.dto.ProductSearchDocument;
+import com.tjg_project.candy.domain.product.dto.ProductSearchFilter;
+import com.tjg_project.candy.domain.product.dto.ProductSearchResponse;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색 역색인 (메모리)
+ * - 토큰 → (문서 번호, 가중 tf) 목록, 문서 번호는 추가 순서라 목록 끝에 붙이기만 한다
+ * - 점수: BM25, 필드 가중치는 tf 에 곱해서 반영 (상품명 3 / 브랜드 2 / 카테고리 2 / 설명 1)
+ * - 자모 n-gram(오타 허용)은 JAMO_WEIGHT 만 반영, 검색어 토큰의 일정 비율 이상 맞은 상품만 결과에 포함
+ * - 수정 / 삭제는 기존 문서 번호를 지움 표시만 하고, 지운 문서가 많아지면 한 번에 다시 만든다
+ * - 읽기는 read lock 으로 동시에, 변경은 write lock (상품 변경은 드묾)
+ */
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int BRAND_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float JAMO_WEIGHT = 0.3f;
+    private static final double MIN_MATCH = 0.5;        // 검색어 n-gram 중 맞아야 하는 비율
+    private static final double JAMO_MIN_MATCH = 0.6;   // 오타 허용 (자모 n-gram) 비율
+
+    private static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_RESULT_WINDOW = 10_000;       // page * size 가 이보다 깊은 결과는 주지 않음 (힙 크기 상한)
+
+    // 검색마다 문서 수만큼 배열을 새로 잡지 않도록 스레드별로 재사용 (쓴 칸만 되돌림)
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final int descriptionMaxChars;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();           // 문서 번호 → 문서 (지워졌으면 null)
+    private final Map<Long, Integer> docNoById = new HashMap<>();
+    private int[] lengths = new int[1024];                      // 문서 번호 → 길이 (지워졌으면 -1), 점수 계산 시 Doc 을 읽지 않도록
+    private long totalLength;
+    private int deleted;
+
+    public ProductSearchIndex(int descriptionMaxChars) {
+        this.descriptionMaxChars = descriptionMaxChars;
+    }
+
+    // ✅ 추가 / 수정 (같은 id 가 있으면 교체)
+    public void upsert(ProductSearchDocument source) {
+        upsertAll(List.of(source));
+    }
+
+    public void upsertAll(Collection<ProductSearchDocument> sources) {
+        List<Doc> analyzed = new ArrayList<>(sources.size());
+        for (ProductSearchDocument source : sources) {
+            analyzed.add(analyze(source));
+        }
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : analyzed) {
+                replaceInternal(doc);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNoById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("products", docNoById.size());
+            stats.put("terms", postings.size());
+            stats.put("deletedSlots", deleted);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ✅ 검색 (page 0부터), 검색어가 비어 있으면 조건만으로 최근 색인 순
+    public ProductSearchResponse search(String query, ProductSearchFilter filter, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int requestedPage = Math.max(0, page);
+        int from = (int) Math.min((long) requestedPage * pageSize, MAX_RESULT_WINDOW);
+        Set<String> primary = new LinkedHashSet<>();
+        Set<String> jamo = new LinkedHashSet<>();
+        queryTerms(query, primary, jamo);
+
+        lock.readLock().lock();
+        Scratch s = SCRATCH.get();
+        try {
+            int n = docs.size();
+            s.ensure(n);
+            IntList candidates = s.candidates;
+
+            if (primary.isEmpty() && jamo.isEmpty()) {
+                for (int d = n - 1; d >= 0; d--) {
+                    if (docs.get(d) != null) {
+                        candidates.add(d);
+                    }
+                }
+            } else {
+                float avgLength = Math.max(1f, (float) totalLength / Math.max(1, docNoById.size()));
+                accumulate(primary, 1f, s.scores, s.primaryHits, s.jamoHits, s.touched, avgLength);
+                accumulate(jamo, JAMO_WEIGHT, s.scores, s.jamoHits, s.primaryHits, s.touched, avgLength);
+                int minPrimary = primary.isEmpty() ? Integer.MAX_VALUE : Math.max(1, (int) Math.ceil(primary.size() * MIN_MATCH));
+                int minJamo = jamo.isEmpty() ? Integer.MAX_VALUE : Math.max(1, (int) Math.ceil(jamo.size() * JAMO_MIN_MATCH));
+                for (int i = 0; i < s.touched.size; i++) {
+                    int d = s.touched.values[i];
+                    if (s.primaryHits[d] >= minPrimary || s.jamoHits[d] >= minJamo) {
+                        candidates.add(d);
+                    }
+                }
+            }
+
+            // 조건 필터 후 상위 from + pageSize 개만 힙으로 (힙의 꼴찌보다 못하면 넣지 않음)
+            // MAX_RESULT_WINDOW 보다 깊은 페이지는 빈 목록, 힙 배열은 후보 수 이상 잡지 않음
+            float[] scores = s.scores;
+            int limit = Math.min(from + pageSize, MAX_RESULT_WINDOW);
+            PriorityQueue<Integer> top =
+                    new PriorityQueue<>(Math.min(limit, candidates.size) + 1, (a, b) -> compare(scores, b, a));
+            int total = 0;
+            for (int i = 0; i < candidates.size; i++) {
+                int d = candidates.values[i];
+                if (!matches(docs.get(d).summary, filter)) {
+                    continue;
+                }
+                total++;
+                if (top.size() < limit) {
+                    top.add(d);
+                } else if (compare(scores, d, top.peek()) < 0) {
+                    top.poll();
+                    top.add(d);
+                }
+            }
+
+            List<Integer> ranked = new ArrayList<>(top);
+            ranked.sort((a, b) -> compare(scores, a, b));
+            List<ProductSummaryDto> items = new ArrayList<>(pageSize);
+            for (int i = from; i < ranked.size(); i++) {
+                items.add(docs.get(ranked.get(i)).summary);
+            }
+            return new ProductSearchResponse(items, total, requestedPage, pageSize,
+                    total > limit && limit < MAX_RESULT_WINDOW);
+        } finally {
+            s.reset();
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 높은 순, 같으면 최근 등록(문서 번호 큰) 순
+    private static int compare(float[] scores, int a, int b) {
+        int c = Float.compare(scores[b], scores[a]);
+        return c != 0 ? c : Integer.compare(b, a);
+    }
+
+    private void accumulate(Set<String> terms, float weight, float[] scores, int[] hits, int[] otherHits,
+                            IntList touched, float avgLength) {
+        int live = docNoById.size();
+        for (String term : terms) {
+            Postings p = postings.get(term);
+            if (p == null || p.live == 0) {
+                continue;
+            }
+            float idf = (float) Math.log(1 + (live - p.live + 0.5) / (p.live + 0.5));
+            for (int i = 0; i < p.size; i++) {
+                int d = p.docs[i];
+                int length = lengths[d];
+                if (length < 0) {
+                    continue;
+                }
+                if (hits[d] == 0 && otherHits[d] == 0) {
+                    touched.add(d);
+                }
+                float tf = p.tfs[i];
+                float norm = K1 * (1 - B + B * length / avgLength);
+                scores[d] += weight * idf * tf * (K1 + 1) / (tf + norm);
+                hits[d]++;
+            }
+        }
+    }
+
+    private static boolean matches(ProductSummaryDto p, ProductSearchFilter f) {
+        if (f == null) {
+            return true;
+        }
+        return (f.getMinPrice() == null || p.getPrice() >= f.getMinPrice())
+                && (f.getMaxPrice() == null || p.getPrice() <= f.getMaxPrice())
+                && (f.getMinDc() == null || p.getDc() >= f.getMinDc())
+                && (f.getHotDeal() == null || p.isHotDeal() == f.getHotDeal())
+                && (f.getMemberSpecial() == null || p.isMemberSpecial() == f.getMemberSpecial())
+                && (f.getCategorySubId() == null || f.getCategorySubId().equals(p.getCategorySubId()));
+    }
+
+    // 검색어 → 토큰 (초성만 입력 → 초성, 한 글자 → 1글자, 그 외 2글자 n-gram + 자모 n-gram)
+    static void queryTerms(String query, Set<String> primary, Set<String> jamo) {
+        for (String word : KoreanTokenizer.words(query)) {
+            if (KoreanTokenizer.isChosungOnly(word)) {
+                if (word.length() == 1) {
+                    primary.add(KoreanTokenizer.CHOSUNG + word);
+                } else {
+                    for (int i = 0; i + 2 <= word.length(); i++) {
+                        primary.add(KoreanTokenizer.CHOSUNG + word.substring(i, i + 2));
+                    }
+                }
+                continue;
+            }
+            if (word.length() == 1) {
+                KoreanTokenizer.unigrams(word, primary::add);
+            } else {
+                KoreanTokenizer.grams(word, primary::add);
+            }
+            KoreanTokenizer.jamoGrams(word, jamo::add);
+        }
+    }
+
+    // 상품 → (토큰, 가중 tf), 길이 = 가중 2글자 n-gram 수
+    private Doc analyze(ProductSearchDocument source) {
+        Map<String, int[]> tf = new HashMap<>();
+        int[] length = new int[1];
+        indexField(source.getProductName(), NAME_WEIGHT, true, true, tf, length);
+        indexField(source.getBrandName(), BRAND_WEIGHT, true, true, tf, length);
+        indexField(source.getCategoryName(), CATEGORY_WEIGHT, false, true, tf, length);
+        String description = source.getDescription();
+        if (description != null && description.length() > descriptionMaxChars) {
+            description = description.substring(0, descriptionMaxChars);
+        }
+        indexField(description, DESCRIPTION_WEIGHT, false, false, tf, length);
+
+        String[] terms = new String[tf.size()];
+        int[] tfs = new int[tf.size()];
+        int i = 0;
+        for (Map.Entry<String, int[]> e : tf.entrySet()) {
+            terms[i] = e.getKey();
+            tfs[i] = e.getValue()[0];
+            i++;
+        }
+        int textHash = Objects.hash(source.getProductName(), source.getBrandName(), source.getCategoryName(), description);
+        return new Doc(source.toSummary(), terms, tfs, length[0], textHash);
+    }
+
+    private static void indexField(String text, int weight, boolean shortField, boolean typoTolerant,
+                                   Map<String, int[]> tf, int[] length) {
+        for (String word : KoreanTokenizer.words(text)) {
+            KoreanTokenizer.grams(word, t -> {
+                tf.computeIfAbsent(t, k -> new int[1])[0] += weight;
+                length[0] += weight;
+            });
+            if (shortField) {
+                KoreanTokenizer.unigrams(word, t -> tf.computeIfAbsent(t, k -> new int[1])[0] += weight);
+                KoreanTokenizer.chosungGrams(word, t -> tf.computeIfAbsent(t, k -> new int[1])[0] += weight);
+            }
+            if (shortField || typoTolerant) {
+                KoreanTokenizer.jamoGrams(word, t -> tf.computeIfAbsent(t, k -> new int[1])[0] += weight);
+            }
+        }
+    }
+
+    // 검색 대상 글자가 그대로면 (재고 / 가격 / 할인만 변경) 요약만 바꾸고 색인은 건드리지 않는다
+    private void replaceInternal(Doc doc) {
+        Integer docNo = docNoById.get(doc.summary.getId());
+        if (docNo != null && docs.get(docNo).textHash == doc.textHash) {
+            docs.set(docNo, docs.get(docNo).withSummary(doc.summary));
+            return;
+        }
+        removeInternal(doc.summary.getId());
+        addInternal(doc);
+    }
+
+    private void addInternal(Doc doc) {
+        int docNo = docs.size();
+        docs.add(doc);
+        if (docNo == lengths.length) {
+            lengths = Arrays.copyOf(lengths, docNo * 2);
+        }
+        lengths[docNo] = doc.length;
+        docNoById.put(doc.summary.getId(), docNo);
+        for (int i = 0; i < doc.terms.length; i++) {
+            postings.computeIfAbsent(doc.terms[i], k -> new Postings()).add(docNo, doc.tfs[i]);
+        }
+        totalLength += doc.length;
+    }
+
+    private void removeInternal(Long id) {
+        Integer docNo = docNoById.remove(id);
+        if (docNo == null) {
+            return;
+        }
+        Doc doc = docs.set(docNo, null);
+        lengths[docNo] = -1;
+        for (String term : doc.terms) {
+            postings.get(term).live--;
+        }
+        totalLength -= doc.length;
+        deleted++;
+    }
+
+    // 지운 문서 번호가 살아 있는 문서의 1/4 을 넘으면 색인을 다시 만든다 (문서별 토큰을 갖고 있어 재분석 없음)
+    private void compactIfNeeded() {
+        if (deleted < 1000 || deleted * 4 < docNoById.size()) {
+            return;
+        }
+        List<Doc> live = new ArrayList<>(docNoById.size());
+        for (Doc doc : docs) {
+            if (doc != null) {
+                live.add(doc);
+            }
+        }
+        postings.clear();
+        docs.clear();
+        docNoById.clear();
+        totalLength = 0;
+        deleted = 0;
+        live.forEach(this::addInternal);
+    }
+
+    private static final class Doc {
+        private final ProductSummaryDto summary;
+        private final String[] terms;
+        private final int[] tfs;
+        private final int length;
+        private final int textHash;   // 상품명 / 브랜드 / 카테고리 / 설명
+
+        private Doc(ProductSummaryDto summary, String[] terms, int[] tfs, int length, int textHash) {
+            this.summary = summary;
+            this.terms = terms;
+            this.tfs = tfs;
+            this.length = length;
+            this.textHash = textHash;
+        }
+
+        private Doc withSummary(ProductSummaryDto summary) {
+            return new Doc(summary, terms, tfs, length, textHash);
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] tfs = new int[4];
+        private int size;
+        private int live;   // 지워지지 않은 문서 수 (= df)
+
+        private void add(int doc, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+            live++;
+        }
+    }
+
+    private static final class Scratch {
+        private float[] scores = new float[0];
+        private int[] primaryHits = new int[0];
+        private int[] jamoHits = new int[0];
+        private final IntList touched = new IntList();
+        private final IntList candidates = new IntList();
+
+        private void ensure(int n) {
+            if (scores.length < n) {
+                int capacity = Math.max(n, scores.length * 2);
+                scores = new float[capacity];
+                primaryHits = new int[capacity];
+                jamoHits = new int[capacity];
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < touched.size; i++) {
+                int d = touched.values[i];
+                scores[d] = 0;
+                primaryHits[d] = 0;
+                jamoHits[d] = 0;
+            }
+            touched.size = 0;
+            candidates.size = 0;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[64];
+        private int size;
+
+        private void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.product.dto.ProductSearchDocument;
+import com.tjg_project.candy.domain.product.dto.ProductSearchFilter;
+import com.tjg_project.candy.domain.product.dto.ProductSearchResponse;
+import com.tjg_project.candy.domain.product.event.ProductChangedEvent;
+import com.tjg_project.candy.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 검색 (ProductSearchIndex 를 DB 와 맞춰 두는 쪽)
+ * - 기동 시 / 매일 새벽 전체 상품을 id 순으로 나눠 읽어 새 색인을 만든 뒤 교체
+ * - 상품 등록 / 수정 / 삭제 / 재고 변경은 ProductChangedEvent 커밋 후 해당 상품만 다시 읽어 반영
+ * - 전체 재구성 중에 바뀐 상품은 모아 두었다가 교체 직후 다시 반영 (이전 색인에만 들어가 사라지지 않도록)
+ */
+@Slf4j
+@Component
+public class ProductSearchService {
+
+    private final ProductRepository productRepository;
+    private final int descriptionMaxChars;
+    private final int loadBatchSize;
+
+    private volatile ProductSearchIndex index;
+    private volatile boolean rebuilding;
+    private volatile LocalDateTime builtAt;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public ProductSearchService(
+            ProductRepository productRepository,
+            @Value("${product.search.description-max-chars:300}") int descriptionMaxChars,
+            @Value("${product.search.load-batch-size:5000}") int loadBatchSize) {
+        this.productRepository = productRepository;
+        this.descriptionMaxChars = descriptionMaxChars;
+        this.loadBatchSize = loadBatchSize;
+        this.index = new ProductSearchIndex(descriptionMaxChars);
+    }
+
+    public ProductSearchResponse search(String query, ProductSearchFilter filter, int page, int size) {
+        return index.search(query, filter, page, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${product.search.rebuild-cron:0 45 4 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            ProductSearchIndex rebuilt = new ProductSearchIndex(descriptionMaxChars);
+            long lastId = 0;
+            while (true) {
+                List<ProductSearchDocument> batch =
+                        productRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, loadBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                rebuilt.upsertAll(batch);
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            index = rebuilt;
+            builtAt = LocalDateTime.now();
+        } finally {
+            rebuilding = false;
+        }
+        // 재구성하는 동안 바뀐 상품 다시 반영
+        List<Long> changed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        refresh(changed);
+        log.info("상품 검색 색인 재구성 products={} {}ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    // ✅ 트랜잭션 커밋 후 반영 (트랜잭션 밖에서 발행되면 즉시)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(event.getProductIds());
+        }
+        refresh(event.getProductIds());
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = index.stats();
+        stats.put("builtAt", builtAt);
+        stats.put("rebuilding", rebuilding);
+        return stats;
+    }
+
+    private void refresh(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<ProductSearchDocument> found = productRepository.findSearchDocumentsByIdIn(ids);
+        Set<Long> missing = new HashSet<>(ids);
+        for (ProductSearchDocument doc : found) {
+            missing.remove(doc.getId());
+        }
+        ProductSearchIndex current = index;
+        current.upsertAll(found);
+        missing.forEach(current::remove); // 삭제된 상품
+    }
+}
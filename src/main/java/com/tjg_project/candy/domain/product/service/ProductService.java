@@ -1,6 +1,7 @@
 package com.tjg_project.candy.domain.product.service;
 
-import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import com.tjg_project.candy.domain.product.dto.ProductPageResponse;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
 import com.tjg_project.candy.domain.product.entity.Product;
 import com.tjg_project.candy.domain.product.entity.ProductDetailView;
 import com.tjg_project.candy.domain.product.entity.ProductQnA;
@@ -11,14 +12,18 @@ import java.util.Map;
 import java.util.Optional;
 
 public interface ProductService {
-    List<Product> getProductProductBestList();
+    List<Product> getProductProductBestList(String window, Long categorySubId, int limit);
+    List<ProductSummaryDto> getAlsoBought(Long id, int limit);
+    List<ProductSummaryDto> getProductSummaries(List<Long> ids);
     List<Map<String, Object>> getProductProductQnAList();
     List<Map<String, Object>> getProductReviewList();
     List<Product> getProductList();
+    ProductPageResponse getProductPage(String cursor, int size, Long categorySubId,
+                                       Boolean hotDeal, Boolean memberSpecial);
     Optional<ProductDetailView> getProductDetail(Long id);
     Product saveProduct(Product product, List<MultipartFile> files);
     Product updateProduct(Product product, List<MultipartFile> files);
     boolean deleteProduct(Long id);
     ProductQnA addProductQnA(ProductQnA qna);
-    boolean updateCount(List<KakaoPay.ProductInfo> productInfo);
+    List<Long> decreaseStock(Map<Long, Long> qtyByProductId);
 }
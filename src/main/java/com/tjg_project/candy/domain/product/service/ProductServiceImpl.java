@@ -210,20 +210,28 @@
 
 package com.tjg_project.candy.domain.product.service;
 
-import com.tjg_project.candy.domain.order.entity.KakaoPay;
-import com.tjg_project.candy.domain.order.repository.OrderDetailRepository;
+import com.tjg_project.candy.domain.product.dto.ProductCursor;
+import com.tjg_project.candy.domain.product.dto.ProductPageResponse;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
 import com.tjg_project.candy.domain.product.entity.Product;
 import com.tjg_project.candy.domain.product.entity.ProductDetailView;
 import com.tjg_project.candy.domain.product.entity.ProductQnA;
+import com.tjg_project.candy.domain.product.event.ProductChangedEvent;
 import com.tjg_project.candy.domain.product.repository.ProductDetailViewRepository;
 import com.tjg_project.candy.domain.product.repository.ProductQnARepository;
 import com.tjg_project.candy.domain.product.repository.ProductRepository;
 import com.tjg_project.candy.domain.product.repository.ProductReviewRepository;
+import com.tjg_project.candy.domain.product.repository.ProductStockRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -237,6 +245,11 @@ public class ProductServiceImpl implements ProductService {
     private final static int PRODUCT_INFORMATION = 1;
     private final static int PRODUCT_DESCRIPTION = 2;
 
+    // 상품 목록 페이지 최대 크기
+    private final static int MAX_PAGE_SIZE = 100;
+    // 베스트 상품 최대 조회 개수
+    private final static int MAX_RANKING_SIZE = 100;
+
     @Value("${supabase.url}")
     private String supabaseUrl;
 
@@ -253,7 +266,19 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ProductDetailViewRepository productDetailViewRepository;
     @Autowired
-    private OrderDetailRepository orderDetailRepository;
+    private ProductStockRepository productStockRepository;
+    @Autowired
+    private BestSellerRanking bestSellerRanking;
+    @Autowired
+    private CoPurchaseRecommender coPurchaseRecommender;
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    // 업로드마다 새로 만들지 않고 커넥션 풀을 재사용 (PUT 이라 일시 오류는 재시도)
+    @Autowired
+    @Qualifier("supabaseRestTemplate")
+    private RestTemplate supabaseRestTemplate;
 
 
     @Override
@@ -261,6 +286,40 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.findAll();
     }
 
+    @Override
+    public ProductPageResponse getProductPage(String cursor, int size, Long categorySubId,
+                                              Boolean hotDeal, Boolean memberSpecial) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String cacheKey = cursor + "|" + pageSize + "|" + categorySubId + "|" + hotDeal + "|" + memberSpecial;
+        return productCatalogCache.getPage(cacheKey,
+                key -> loadProductPage(cursor, pageSize, categorySubId, hotDeal, memberSpecial));
+    }
+
+    private ProductPageResponse loadProductPage(String cursor, int pageSize, Long categorySubId,
+                                                Boolean hotDeal, Boolean memberSpecial) {
+        // 다음 페이지 유무 확인용으로 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ProductSummaryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = productRepository.findCatalogFirstPage(categorySubId, hotDeal, memberSpecial, limit);
+        } else {
+            ProductCursor after = ProductCursor.decode(cursor);
+            rows = productRepository.findCatalogPageAfter(after.getProductDate(), after.getId(),
+                    categorySubId, hotDeal, memberSpecial, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ProductSummaryDto> items = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductSummaryDto last = items.get(items.size() - 1);
+            nextCursor = ProductCursor.encode(last.getProductDate(), last.getId());
+        }
+        return new ProductPageResponse(items, nextCursor, hasNext);
+    }
+
     @Override
     public List<Map<String, Object>> getProductReviewList() {
         return productReviewRepository.findAllReviewWithUserName();
@@ -272,13 +331,58 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public List<Product> getProductProductBestList() {
-        return orderDetailRepository.findBestSellingProducts();
+    public List<Product> getProductProductBestList(String window, Long categorySubId, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_RANKING_SIZE);
+        List<Long> ranked = bestSellerRanking.top(RankingWindow.from(window), categorySubId, size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        // ✅ 랭킹 순서대로 정렬 (findAllById는 순서 보장 안 함)
+        Map<Long, Product> byId = new HashMap<>();
+        for (Product product : productRepository.findAllById(ranked)) {
+            byId.put(product.getId(), product);
+        }
+        List<Product> result = new ArrayList<>(ranked.size());
+        for (Long id : ranked) {
+            Product product = byId.get(id);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<ProductSummaryDto> getAlsoBought(Long id, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_RANKING_SIZE);
+        return getProductSummaries(coPurchaseRecommender.alsoBought(id, size));
+    }
+
+    // ✅ id 순서대로 상품 요약 반환 (없는 상품은 제외)
+    @Override
+    public List<ProductSummaryDto> getProductSummaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductSummaryDto> byId = new HashMap<>();
+        for (ProductSummaryDto summary : productRepository.findSummariesByIdIn(ids)) {
+            byId.put(summary.getId(), summary);
+        }
+        List<ProductSummaryDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProductSummaryDto summary = byId.get(id);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
     }
 
     @Override
     public Optional<ProductDetailView> getProductDetail(Long id) {
-        return productDetailViewRepository.findById(id);
+        return Optional.ofNullable(productCatalogCache.getDetail(id,
+                key -> productDetailViewRepository.findById(key).orElse(null)));
     }
 
 
@@ -293,7 +397,9 @@ public class ProductServiceImpl implements ProductService {
         product.setHotDeal(product.getDc() != 0);
         product.setProductDate(LocalDate.now());
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId()));
+        return saved;
     }
 
 
@@ -326,7 +432,9 @@ public class ProductServiceImpl implements ProductService {
         findProduct.setHotDeal(product.getDc() != 0);
         findProduct.setProductDate(LocalDate.now());
 
-        return productRepository.save(findProduct);
+        Product saved = productRepository.save(findProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId()));
+        return saved;
     }
 
 
@@ -334,6 +442,7 @@ public class ProductServiceImpl implements ProductService {
     public boolean deleteProduct(Long id) {
         try {
             productRepository.deleteById(id);
+            eventPublisher.publishEvent(ProductChangedEvent.of(id));
             return true;
         } catch (EmptyResultDataAccessException e) {
             return false;
@@ -371,8 +480,7 @@ public class ProductServiceImpl implements ProductService {
 
             HttpEntity<byte[]> entity = new HttpEntity<>(file.getBytes(), headers);
 
-            RestTemplate rest = new RestTemplate();
-            ResponseEntity<String> res = rest.exchange(uploadUrl, HttpMethod.PUT, entity, String.class);
+            ResponseEntity<String> res = supabaseRestTemplate.exchange(uploadUrl, HttpMethod.PUT, entity, String.class);
 
             if (!res.getStatusCode().is2xxSuccessful()) {
                 throw new RuntimeException("Upload failed: " + res.getBody());
@@ -427,15 +535,33 @@ public class ProductServiceImpl implements ProductService {
 
 
 
+    /**
+     * 재고 일괄 차감 (UPDATE 한 번)
+     * 하나라도 재고가 부족하면 트랜잭션을 롤백 대상으로 표시하고 부족한 상품 id 를 반환한다.
+     * 주문 저장 트랜잭션 안에서 호출하면 주문과 함께 롤백된다.
+     */
     @Override
-    public boolean updateCount(List<KakaoPay.ProductInfo> productInfo) {
-        boolean result = false;
-        List<Integer> row = new ArrayList<>();
+    @Transactional
+    public List<Long> decreaseStock(Map<Long, Long> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) {
+            return List.of();
+        }
+        List<Long> updated = productStockRepository.decreaseStock(qtyByProductId);
+        Set<Long> updatedIds = new HashSet<>(updated);
 
-        productInfo.forEach(info ->
-                row.add(productRepository.decreaseCount(info.getPid(), info.getQty()))
-        );
+        List<Long> failed = new ArrayList<>();
+        for (Long id : qtyByProductId.keySet()) {
+            if (!updatedIds.contains(id)) {
+                failed.add(id);
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return failed;
+        }
 
-        return !row.isEmpty();
+        eventPublisher.publishEvent(new ProductChangedEvent(updated));
+        return failed;
     }
 }
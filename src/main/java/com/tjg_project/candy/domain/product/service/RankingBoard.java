@@ -0,0 +1,59 @@
+package com.tjg_project.candy.domain.product.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 상품별 판매수량 정렬 보드 (판매수량 내림차순, 같으면 상품 id 오름차순)
+ * 갱신은 O(log n), 상위 N개 조회는 O(N)
+ * 동기화는 호출하는 쪽(BestSellerRanking)에서 처리한다.
+ */
+class RankingBoard {
+
+    private final TreeSet<Score> sorted = new TreeSet<>();
+    private final Map<Long, Score> scores = new HashMap<>();
+
+    void add(Long ppk, long delta) {
+        Score old = scores.get(ppk);
+        long qty = (old == null ? 0 : old.qty) + delta;
+        if (old != null) {
+            sorted.remove(old);
+        }
+        if (qty <= 0) {
+            scores.remove(ppk);
+            return;
+        }
+        Score updated = new Score(ppk, qty);
+        scores.put(ppk, updated);
+        sorted.add(updated);
+    }
+
+    List<Long> top(int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, scores.size()));
+        Iterator<Score> it = sorted.iterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(it.next().ppk);
+        }
+        return result;
+    }
+
+    private static final class Score implements Comparable<Score> {
+        private final long ppk;
+        private final long qty;
+
+        private Score(long ppk, long qty) {
+            this.ppk = ppk;
+            this.qty = qty;
+        }
+
+        @Override
+        public int compareTo(Score o) {
+            int byQty = Long.compare(o.qty, qty);
+            return byQty != 0 ? byQty : Long.compare(ppk, o.ppk);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tjg_project.candy.domain.product.service;
+
+/**
+ * 베스트 상품 집계 기간
+ */
+public enum RankingWindow {
+    ALL(0),
+    DAY(24),
+    WEEK(24 * 7),
+    MONTH(24 * 30);
+
+    private final int hours;
+
+    RankingWindow(int hours) {
+        this.hours = hours;
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    // "all", "24h", "7d", "30d"
+    public static RankingWindow from(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        return switch (value.toLowerCase()) {
+            case "all" -> ALL;
+            case "24h", "1d", "day" -> DAY;
+            case "7d", "week" -> WEEK;
+            case "30d", "month" -> MONTH;
+            default -> throw new IllegalArgumentException("지원하지 않는 기간입니다: " + value);
+        };
+    }
+}
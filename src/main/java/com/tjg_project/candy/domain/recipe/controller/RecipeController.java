@@ -1,7 +1,7 @@
 package com.tjg_project.candy.domain.recipe.controller;
 
 import com.tjg_project.candy.domain.recipe.dto.RecipeReviewRequestDto;
-import com.tjg_project.candy.domain.recipe.entity.RecipeReview;
+import com.tjg_project.candy.domain.recipe.dto.ReviewResponseDto;
 import com.tjg_project.candy.domain.recipe.service.RecipeService;
 import com.tjg_project.candy.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -36,12 +36,11 @@ public class RecipeController {
     ) {
         // 🔥 토큰에서 Bearer 제거
         String token = authHeader.substring(7);
-        System.out.println("token"+token);
         // 🔥 JwtUtil 사용해서 유저 ID 파싱
         Long userId = jwtUtil.extractUserId(token);
 
         // 🔥 저장 로직 호출
-        RecipeReview recipeReview = recipeService.saveReview(id, userId, dto);
+        ReviewResponseDto recipeReview = recipeService.saveReview(id, userId, dto);
 
         return ResponseEntity.ok(Map.of("recipeReview", recipeReview));
     }
@@ -9,6 +9,8 @@ import java.util.List;
 @Data
 public class RecipeResponseDto {
 
+    private static final Gson GSON = new Gson(); // thread-safe, 요청마다 새로 만들 필요 없음
+
     private Long id;
     private String title;
     private String imageUrl;
@@ -27,17 +29,27 @@ public class RecipeResponseDto {
     private String youtubeUrl;
 
     public RecipeResponseDto(Recipe r) {
-        this.id = r.getId();
-        this.title = r.getTitle();
-        this.imageUrl = r.getImageUrl();
-        this.rating = r.getRating();
-        this.reviewCount = r.getReviewCount();
-        this.cookTime = r.getCookTime();
-        this.difficulty = r.getDifficulty();
-        this.summary = r.getSummary();
-        this.tips = r.getTips();
-        this.youtubeUrl = r.getYoutubeUrl();
-        this.ingredients = new Gson().fromJson(r.getIngredients(), List.class);
-        this.steps = new Gson().fromJson(r.getSteps(), List.class);
+        this(r.getId(), r.getTitle(), r.getImageUrl(), r.getRating(), r.getReviewCount(),
+                r.getCookTime(), r.getDifficulty(), r.getSummary(),
+                r.getIngredients(), r.getSteps(), r.getTips(), r.getYoutubeUrl());
+    }
+
+    // ✅ JPQL 생성자 표현식용 (본문 content TEXT 컬럼은 목록에서 읽지 않음)
+    @SuppressWarnings("unchecked")
+    public RecipeResponseDto(Long id, String title, String imageUrl, double rating, int reviewCount,
+                             Integer cookTime, String difficulty, String summary,
+                             String ingredients, String steps, String tips, String youtubeUrl) {
+        this.id = id;
+        this.title = title;
+        this.imageUrl = imageUrl;
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.cookTime = cookTime;
+        this.difficulty = difficulty;
+        this.summary = summary;
+        this.tips = tips;
+        this.youtubeUrl = youtubeUrl;
+        this.ingredients = GSON.fromJson(ingredients, List.class);
+        this.steps = GSON.fromJson(steps, List.class);
     }
 }
@@ -3,6 +3,8 @@ package com.tjg_project.candy.domain.recipe.dto;
 import com.tjg_project.candy.domain.recipe.entity.RecipeReview;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class ReviewResponseDto {
 
@@ -13,10 +15,15 @@ public class ReviewResponseDto {
     private String createdAt;
 
     public ReviewResponseDto(RecipeReview r) {
-        this.id = r.getId();
-        this.username = r.getUser().getName(); // 🔥 Users 엔티티 기준
-        this.rating = r.getRating();
-        this.content = r.getContent();
-        this.createdAt = r.getCreatedAt().toString();
+        this(r.getId(), r.getUser().getName(), r.getRating(), r.getContent(), r.getCreatedAt()); // 🔥 Users 엔티티 기준
+    }
+
+    // ✅ JPQL 생성자 표현식용 (후기마다 Users 를 따로 로딩하지 않도록 이름만 join)
+    public ReviewResponseDto(Long id, String username, double rating, String content, LocalDateTime createdAt) {
+        this.id = id;
+        this.username = username;
+        this.rating = rating;
+        this.content = content;
+        this.createdAt = createdAt == null ? null : createdAt.toString();
     }
 }
@@ -1,11 +1,27 @@
 package com.tjg_project.candy.domain.recipe.repository;
 
+import com.tjg_project.candy.domain.recipe.dto.RecipeResponseDto;
 import com.tjg_project.candy.domain.recipe.entity.Recipe;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 
     List<Recipe> findBySubCategoryId(Long subId);
+
+    // ✅ 목록 화면용 프로젝션 (content 본문 제외)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.recipe.dto.RecipeResponseDto(
+            r.id, r.title, r.imageUrl, r.rating, r.reviewCount,
+            r.cookTime, r.difficulty, r.summary,
+            r.ingredients, r.steps, r.tips, r.youtubeUrl
+        )
+        FROM Recipe r
+        WHERE r.subCategory.id = :subId
+        ORDER BY r.id
+        """)
+    List<RecipeResponseDto> findDtosBySubCategoryId(@Param("subId") Long subId);
 }
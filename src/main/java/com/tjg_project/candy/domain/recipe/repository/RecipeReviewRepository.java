@@ -1,7 +1,10 @@
 package com.tjg_project.candy.domain.recipe.repository;
 
+import com.tjg_project.candy.domain.recipe.dto.ReviewResponseDto;
 import com.tjg_project.candy.domain.recipe.entity.RecipeReview;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +13,16 @@ public interface RecipeReviewRepository extends JpaRepository<RecipeReview, Long
     // ⭐ 해당 레시피의 후기들만 가져오기
     List<RecipeReview> findByRecipeId(Long recipeId);
 
+    // ⭐ 후기 + 작성자 이름을 한 번에 (후기마다 Users 지연 로딩 N+1 방지)
+    @Query("""
+        SELECT new com.tjg_project.candy.domain.recipe.dto.ReviewResponseDto(
+            rr.id, u.name, rr.rating, rr.content, rr.createdAt
+        )
+        FROM RecipeReview rr
+        JOIN rr.user u
+        WHERE rr.recipe.id = :recipeId
+        ORDER BY rr.id
+        """)
+    List<ReviewResponseDto> findDtosByRecipeId(@Param("recipeId") Long recipeId);
+
 }
@@ -3,6 +3,7 @@ package com.tjg_project.candy.domain.recipe.service;
 import com.tjg_project.candy.domain.recipe.dto.RecipeDetailResponseDto;
 import com.tjg_project.candy.domain.recipe.dto.RecipeResponseDto;
 import com.tjg_project.candy.domain.recipe.dto.RecipeReviewRequestDto;
+import com.tjg_project.candy.domain.recipe.dto.ReviewResponseDto;
 import com.tjg_project.candy.domain.recipe.entity.Recipe;
 import com.tjg_project.candy.domain.recipe.entity.RecipeReview;
 import com.tjg_project.candy.domain.recipe.repository.RecipeRepository;
@@ -13,7 +14,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,23 +23,20 @@ public class RecipeService {
     private final RecipeReviewRepository recipeReviewRepository;
     private final UserRepository userRepository;
     public List<RecipeResponseDto> getRecipeList(Long subId) {
-        List<Recipe> list = recipeRepository.findBySubCategoryId(subId);
-        return list.stream()
-                .map(RecipeResponseDto::new)
-                .collect(Collectors.toList());
+        return recipeRepository.findDtosBySubCategoryId(subId);
     }
 
     public RecipeDetailResponseDto getRecipeDetail(Long id) {
         Recipe r = recipeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Not found"));
 
-        // 후기 가져오기
-        List<RecipeReview> reviews = recipeReviewRepository.findByRecipeId(id);
+        // 후기 가져오기 (작성자 이름까지 쿼리 1회)
+        List<ReviewResponseDto> reviews = recipeReviewRepository.findDtosByRecipeId(id);
 
-        return new RecipeDetailResponseDto(r, reviews);
+        return new RecipeDetailResponseDto(new RecipeResponseDto(r), reviews);
     }
 
-    public RecipeReview saveReview(Long recipeId, Long userId, RecipeReviewRequestDto dto) {
+    public ReviewResponseDto saveReview(Long recipeId, Long userId, RecipeReviewRequestDto dto) {
 
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new RuntimeException("레시피가 존재하지 않습니다."));
@@ -54,7 +51,8 @@ public class RecipeService {
                 .content(dto.getContent())
                 .build();
 
-        return recipeReviewRepository.save(review);
+        // 엔티티(레시피 본문, 작성자 정보 전체) 대신 후기 DTO 로 응답
+        return new ReviewResponseDto(recipeReviewRepository.save(review));
     }
 }
 
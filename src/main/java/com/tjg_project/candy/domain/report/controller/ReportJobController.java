@@ -0,0 +1,78 @@
+package com.tjg_project.candy.domain.report.controller;
+
+import com.tjg_project.candy.domain.report.dto.ReportJobRequest;
+import com.tjg_project.candy.domain.report.dto.ReportJobResponse;
+import com.tjg_project.candy.domain.report.service.ReportJob;
+import com.tjg_project.candy.domain.report.service.ReportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 리포트 작업 (접수 → 상태 조회 → 다운로드)
+ * - 관리자 전용 (SecurityConfig), 목록 / 상태 / 다운로드는 접수한 관리자 본인 작업만
+ */
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    // ✅ 작업 접수 (202 + 작업 id)
+    @PostMapping
+    public ResponseEntity<?> submit(@AuthenticationPrincipal Long upk, @RequestBody ReportJobRequest request) {
+        try {
+            ReportJob job = reportJobService.submit(upk, request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/admin/reports/" + job.getId()))
+                    .body(ReportJobResponse.from(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "fail", "message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("status", "fail", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    public List<ReportJobResponse> list(@AuthenticationPrincipal Long upk) {
+        return reportJobService.list(upk).stream().map(ReportJobResponse::from).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ReportJobResponse> status(@AuthenticationPrincipal Long upk, @PathVariable String id) {
+        return reportJobService.find(upk, id)
+                .map(job -> ResponseEntity.ok(ReportJobResponse.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ✅ 완료된 결과 파일 (아직이면 409)
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> download(@AuthenticationPrincipal Long upk, @PathVariable String id) {
+        ReportJob job = reportJobService.find(upk, id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getStatus() != ReportJob.Status.DONE) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.fileName()).build().toString())
+                .contentType(MediaType.parseMediaType(job.getType().contentType()))
+                .contentLength(job.getSize())
+                .body(new FileSystemResource(job.getFile()));
+    }
+}
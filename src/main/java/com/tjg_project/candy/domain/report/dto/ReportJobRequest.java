@@ -0,0 +1,11 @@
+package com.tjg_project.candy.domain.report.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class ReportJobRequest {
+    private ReportType type;
+    private Long ppk;       // FORECAST_EXPORT, REVIEW_ANALYSIS
+    private Integer days;   // DAILY_SALES_EXPORT (기본 365)
+}
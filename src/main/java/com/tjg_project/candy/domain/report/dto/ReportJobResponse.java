@@ -0,0 +1,32 @@
+package com.tjg_project.candy.domain.report.dto;
+
+import com.tjg_project.candy.domain.report.service.ReportJob;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 작업 상태 응답 (완료 시 downloadUrl 로 받기)
+ */
+@Getter
+@AllArgsConstructor
+public class ReportJobResponse {
+
+    private String id;
+    private ReportType type;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    private long size;
+    private String downloadUrl;
+
+    public static ReportJobResponse from(ReportJob job) {
+        boolean done = job.getStatus() == ReportJob.Status.DONE;
+        return new ReportJobResponse(job.getId(), job.getType(), job.getStatus().name(),
+                job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt(), job.getError(),
+                job.getSize(), done ? "/api/admin/reports/" + job.getId() + "/download" : null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.tjg_project.candy.domain.report.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 리포트 종류 (다운로드 파일명 / 형식)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReportType {
+
+    CONVERSION_EXPORT("conversion", "xlsx", false),      // 전체 상품 전환율 엑셀
+    DAILY_SALES_EXPORT("daily-sales", "xlsx", false),    // 최근 N일 상품별 일별 판매 엑셀
+    FORECAST_EXPORT("forecast", "xlsx", true),           // 상품 판매량 예측 엑셀
+    REVIEW_ANALYSIS("review-analysis", "json", true);    // 상품 리뷰 AI 분석
+
+    private final String baseName;
+    private final String extension;
+    private final boolean ppkRequired;
+
+    public String contentType() {
+        return "xlsx".equals(extension)
+                ? "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
+                : "application/json";
+    }
+}
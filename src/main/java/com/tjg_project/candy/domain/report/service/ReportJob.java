@@ -0,0 +1,68 @@
+package com.tjg_project.candy.domain.report.service;
+
+import com.tjg_project.candy.domain.report.dto.ReportType;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 작업 1건의 상태 (메모리 보관, 실행 스레드와 조회 요청이 같이 읽으므로 volatile)
+ */
+@Getter
+public class ReportJob {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final Long upk;         // 접수한 관리자 (목록 / 다운로드는 본인 작업만)
+    private final ReportType type;
+    private final Long ppk;
+    private final Integer days;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile Path file;
+    private volatile long size;
+
+    public ReportJob(String id, Long upk, ReportType type, Long ppk, Integer days) {
+        this.id = id;
+        this.upk = upk;
+        this.type = type;
+        this.ppk = ppk;
+        this.days = days;
+    }
+
+    public String fileName() {
+        return type.getBaseName() + (ppk == null ? "" : "-" + ppk) + "." + type.getExtension();
+    }
+
+    public boolean isOwnedBy(Long upk) {
+        return this.upk.equals(upk);
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void complete(Path file, long size) {
+        this.file = file;
+        this.size = size;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.DONE;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+}
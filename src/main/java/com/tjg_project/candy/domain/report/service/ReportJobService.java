@@ -0,0 +1,232 @@
+package com.tjg_project.candy.domain.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjg_project.candy.domain.analytics.service.ReviewAnalysisService;
+import com.tjg_project.candy.domain.excel.dto.ForecastExcelRow;
+import com.tjg_project.candy.domain.excel.service.ExcelExportService;
+import com.tjg_project.candy.domain.excel.service.StreamingExcelExportService;
+import com.tjg_project.candy.domain.order.dto.ForecastResponseDto;
+import com.tjg_project.candy.domain.order.service.ForecastService;
+import com.tjg_project.candy.domain.report.dto.ReportJobRequest;
+import com.tjg_project.candy.domain.report.dto.ReportType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 오래 걸리는 리포트(엑셀 내보내기, AI 분석)를 요청 스레드 밖에서 실행
+ * - 작업마다 가상 스레드 (DB / OpenAI 대기가 대부분), 동시 실행 수는 max-concurrent 로 제한
+ * - 대기 + 실행 중 작업이 max-pending 을 넘으면 접수 거절
+ * - 결과 파일은 report.dir 에 저장, 완료 후 ttl 이 지나면 작업과 파일 모두 정리
+ * - 작업 목록은 메모리에만 있으므로 재시작 시 이전 파일은 지운다
+ * - 조회 / 다운로드는 작업을 접수한 사용자(upk) 본인 것만
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private final StreamingExcelExportService streamingExcelExportService;
+    private final ExcelExportService excelExportService;
+    private final ForecastService forecastService;
+    private final ReviewAnalysisService reviewAnalysisService;
+    private final ObjectMapper objectMapper;
+
+    private final Path dir;
+    private final long ttlSeconds;
+    private final int maxPending;
+    private final Semaphore running;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("report-", 0).factory());
+
+    public ReportJobService(
+            StreamingExcelExportService streamingExcelExportService,
+            ExcelExportService excelExportService,
+            ForecastService forecastService,
+            ReviewAnalysisService reviewAnalysisService,
+            ObjectMapper objectMapper,
+            @Value("${report.dir:${java.io.tmpdir}/candy-reports}") String dir,
+            @Value("${report.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${report.max-concurrent:2}") int maxConcurrent,
+            @Value("${report.max-pending:50}") int maxPending) {
+        this.streamingExcelExportService = streamingExcelExportService;
+        this.excelExportService = excelExportService;
+        this.forecastService = forecastService;
+        this.reviewAnalysisService = reviewAnalysisService;
+        this.objectMapper = objectMapper;
+        this.dir = Path.of(dir);
+        this.ttlSeconds = ttlSeconds;
+        this.maxPending = maxPending;
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(dir);
+        // 이전 실행에서 남은 파일 (작업 목록이 없어 받을 수 없음)
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(ReportJobService::deleteQuietly);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ✅ 작업 접수 → 바로 id 반환, 실행은 백그라운드
+    public ReportJob submit(Long upk, ReportJobRequest request) {
+        ReportType type = request.getType();
+        if (type == null) {
+            throw new IllegalArgumentException("리포트 종류(type)가 필요합니다.");
+        }
+        if (type.isPpkRequired() && request.getPpk() == null) {
+            throw new IllegalArgumentException(type + " 리포트는 상품(ppk)이 필요합니다.");
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new IllegalStateException("대기 중인 리포트가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), upk, type, request.getPpk(), request.getDays());
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    // 다른 사람 작업은 없는 것과 같게 (id 존재 여부도 노출하지 않음)
+    public Optional<ReportJob> find(Long upk, String id) {
+        return Optional.ofNullable(jobs.get(id)).filter(job -> job.isOwnedBy(upk));
+    }
+
+    // 본인 작업, 최근 접수 순
+    public List<ReportJob> list(Long upk) {
+        return jobs.values().stream()
+                .filter(job -> job.isOwnedBy(upk))
+                .sorted(Comparator.comparing(ReportJob::getCreatedAt).reversed())
+                .toList();
+    }
+
+    // ✅ 완료 후 ttl 이 지난 작업 + 파일 정리
+    @Scheduled(fixedDelayString = "${report.cleanup-ms:300000}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(ttlSeconds);
+        int removed = 0;
+        for (ReportJob job : new ArrayList<>(jobs.values())) {
+            if (job.isFinished() && job.getFinishedAt().isBefore(cutoff)) {
+                jobs.remove(job.getId());
+                if (job.getFile() != null) {
+                    deleteQuietly(job.getFile());
+                }
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("리포트 정리 removed={} remaining={}", removed, jobs.size());
+        }
+    }
+
+    private void run(ReportJob job) {
+        Path part = dir.resolve(job.getId() + ".part");
+        try {
+            running.acquire();
+            try {
+                job.start();
+                try (OutputStream out = Files.newOutputStream(part)) {
+                    produce(job, out);
+                }
+                Path file = dir.resolve(job.getId() + "." + job.getType().getExtension());
+                Files.move(part, file, StandardCopyOption.REPLACE_EXISTING);
+                job.complete(file, Files.size(file));
+                log.info("리포트 완료 id={} type={} size={}", job.getId(), job.getType(), job.getSize());
+            } finally {
+                running.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("중단됨");
+        } catch (Exception e) {
+            log.warn("리포트 실패 id={} type={}: {}", job.getId(), job.getType(), e.toString());
+            job.fail(e.getMessage() == null ? e.toString() : e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+            if (job.getStatus() != ReportJob.Status.DONE) {
+                deleteQuietly(part);
+            }
+        }
+    }
+
+    private void produce(ReportJob job, OutputStream out) throws Exception {
+        switch (job.getType()) {
+            case CONVERSION_EXPORT -> streamingExcelExportService.writeConversion(out);
+            case DAILY_SALES_EXPORT -> streamingExcelExportService.writeDailySales(
+                    job.getDays() == null ? 365 : job.getDays(), out);
+            case FORECAST_EXPORT -> out.write(excelExportService.forecastWorkbook(
+                    forecastRows(forecastService.getForecast(job.getPpk(), null))));
+            case REVIEW_ANALYSIS -> out.write(objectMapper.writeValueAsBytes(
+                    reviewAnalysisService.analyzeReviews(job.getPpk())));
+        }
+    }
+
+    // 예측 결과 → 엑셀 행 (구분 / 날짜 / 예측값), 화면에서 보내던 형식과 같게 (날짜는 예측 첫날 기준)
+    private static List<ForecastExcelRow> forecastRows(ForecastResponseDto forecast) {
+        LocalDate start = forecast.getStartDate();
+        List<ForecastExcelRow> rows = new ArrayList<>();
+        addDaily(rows, "7일", start, forecast.getNext7Days());
+        addDaily(rows, "30일", start, forecast.getNext30Days());
+        List<Integer> months = forecast.getNext12Months();
+        for (int i = 0; i < months.size(); i++) {
+            rows.add(row("12개월", YearMonth.from(start).plusMonths(i).toString(), months.get(i)));
+        }
+        addDaily(rows, "365일", start, forecast.getNext365Days());
+        return rows;
+    }
+
+    private static void addDaily(List<ForecastExcelRow> rows, String type, LocalDate start, List<Integer> values) {
+        for (int i = 0; i < values.size(); i++) {
+            rows.add(row(type, start.plusDays(i).toString(), values.get(i)));
+        }
+    }
+
+    private static ForecastExcelRow row(String type, String date, Integer value) {
+        ForecastExcelRow row = new ForecastExcelRow();
+        row.setType(type);
+        row.setDate(date);
+        row.setValue(value);
+        return row;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("리포트 파일 삭제 실패 {}: {}", path, e.toString());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collections;
 import java.util.Map;
 
 @RestController
@@ -20,15 +21,23 @@ public class UserViewLogController {
         Long upk = body.get("upk");
         Long ppk = body.get("ppk");
         Long subCategoryId = body.get("categorySubId");
-        userViewLogService.saveViewLog(upk, ppk, subCategoryId);
+        boolean accepted = userViewLogService.saveViewLog(upk, ppk, subCategoryId);
 
-        return ResponseEntity.ok("saved");
+        // 버퍼가 가득 찬 경우에도 조회 자체는 실패가 아니므로 200
+        return ResponseEntity.ok(accepted ? "saved" : "dropped");
     }
 
     // 🔥 추천용 최근 subCategory 반환 API
     @GetMapping("/recent-subcat/{upk}")
     public ResponseEntity<?> getRecentSubCategory(@PathVariable Long upk) {
         Long subCat = userViewLogService.getRecentSubCategory(upk);
-        return ResponseEntity.ok(Map.of("recentSubCategory", subCat));
+        // 본 상품이 없으면 null (Map.of 는 null 불가)
+        return ResponseEntity.ok(Collections.singletonMap("recentSubCategory", subCat));
+    }
+
+    // 🔥 최근 본 상품 목록 (최신순)
+    @GetMapping("/recent-products/{upk}")
+    public ResponseEntity<?> getRecentProducts(@PathVariable Long upk) {
+        return ResponseEntity.ok(Map.of("recentProducts", userViewLogService.getRecentProducts(upk)));
     }
 }
@@ -1,17 +1,22 @@
 package com.tjg_project.candy.domain.user.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "user_view_log")
+@Table(name = "user_view_log",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_view_log_upk_ppk", columnNames = {"upk", "ppk"}),
+        indexes = @Index(name = "idx_user_view_log_upk_viewed_at", columnList = "upk, viewed_at"))
 public class UserViewLog {
 
     @Id
@@ -26,5 +31,9 @@ public class UserViewLog {
 
     private LocalDateTime viewedAt = LocalDateTime.now();
 
+    // 처음 저장될 때의 조회시간 (viewedAt 과 달리 다시 봐도 바뀌지 않음)
+    @Column(updatable = false)
+    private LocalDateTime firstViewedAt;
+
     private Integer qty = 1;
 }
@@ -0,0 +1,43 @@
+package com.tjg_project.candy.domain.user.repository;
+
+import com.tjg_project.candy.domain.user.entity.UserViewLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 상품 조회 로그 일괄 저장 (ViewLogBuffer flush 용)
+ * (upk, ppk) 가 이미 있으면 조회수 누적 + 최근 조회시간 갱신 (first_viewed_at 은 처음 값 유지)
+ */
+@Repository
+public class UserViewLogBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserViewLogBatchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void upsertAll(List<UserViewLog> logs) {
+        String sql = """
+                INSERT INTO user_view_log(upk, ppk, sub_category_id, viewed_at, first_viewed_at, qty)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (upk, ppk) DO UPDATE
+                SET qty = user_view_log.qty + EXCLUDED.qty,
+                    viewed_at = GREATEST(user_view_log.viewed_at, EXCLUDED.viewed_at),
+                    sub_category_id = COALESCE(EXCLUDED.sub_category_id, user_view_log.sub_category_id)
+                """;
+
+        jdbcTemplate.batchUpdate(sql, logs, logs.size(), (ps, log) -> {
+            ps.setLong(1, log.getUpk());
+            ps.setLong(2, log.getPpk());
+            ps.setObject(3, log.getSubCategoryId(), Types.BIGINT);
+            ps.setTimestamp(4, Timestamp.valueOf(log.getViewedAt()));
+            ps.setTimestamp(5, Timestamp.valueOf(log.getViewedAt()));
+            ps.setInt(6, log.getQty());
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.tjg_project.candy.domain.user.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * user_view_log 의 중복 (upk, ppk) 행을 한 행으로 합친다.
+ * - (upk, ppk) 유니크 제약(uk_user_view_log_upk_ppk)은 ddl-auto 가 추가하는데, 중복이 남아 있으면 경고만 남기고 실패한다.
+ *   → EntityManagerFactory 보다 먼저 실행 (JpaSchemaConfig)
+ * - 가장 먼저 생긴 행을 남기고 조회수 합계 / 마지막 조회시간 / 마지막으로 기록된 중분류를 옮긴 뒤 나머지 삭제
+ * - 테이블이 없거나 제약이 이미 있으면 아무것도 하지 않는다 (매 기동 시 실행해도 안전)
+ */
+@Slf4j
+@Component
+public class UserViewLogDeduplicator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserViewLogDeduplicator(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void mergeDuplicates() {
+        Boolean pending = jdbcTemplate.queryForObject("""
+                SELECT to_regclass('user_view_log') IS NOT NULL
+                   AND NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_user_view_log_upk_ppk')
+                """, Boolean.class);
+        if (!Boolean.TRUE.equals(pending)) {
+            return;
+        }
+
+        String sql = """
+                WITH merged AS (
+                    SELECT MIN(id) AS keep_id, upk, ppk,
+                           SUM(COALESCE(qty, 1)) AS qty,
+                           MAX(viewed_at) AS viewed_at,
+                           (ARRAY_AGG(sub_category_id ORDER BY viewed_at DESC NULLS LAST)
+                                FILTER (WHERE sub_category_id IS NOT NULL))[1] AS sub_category_id
+                    FROM user_view_log
+                    WHERE upk IS NOT NULL AND ppk IS NOT NULL
+                    GROUP BY upk, ppk
+                    HAVING COUNT(*) > 1
+                ), kept AS (
+                    UPDATE user_view_log l
+                    SET qty = m.qty,
+                        viewed_at = m.viewed_at,
+                        sub_category_id = COALESCE(m.sub_category_id, l.sub_category_id)
+                    FROM merged m
+                    WHERE l.id = m.keep_id
+                )
+                DELETE FROM user_view_log l
+                USING merged m
+                WHERE l.upk = m.upk AND l.ppk = m.ppk AND l.id <> m.keep_id
+                """;
+        int deleted = jdbcTemplate.update(sql);
+        if (deleted > 0) {
+            log.info("user_view_log 중복 (upk, ppk) {}행을 합쳤습니다.", deleted);
+        }
+    }
+}
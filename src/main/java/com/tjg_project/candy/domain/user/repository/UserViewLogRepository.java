@@ -6,19 +6,20 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface UserViewLogRepository extends JpaRepository<UserViewLog, Long> {
 
     // 🔥 유저가 최근에 본 로그를 최신순으로 정렬해서 가져오기
     List<UserViewLog> findTop20ByUpkOrderByViewedAtDesc(Long upk);
 
-    // 🔥 최근 본 로그 중 가장 최근 subCategoryId 하나만 가져올 때
-    @Query("SELECT l.subCategoryId FROM UserViewLog l WHERE l.upk = :upk ORDER BY l.viewedAt DESC")
-    List<Long> findRecentSubCategories(@Param("upk") Long upk);
-
-    Optional<UserViewLog> findByUpkAndPpk(Long upk, Long ppk);
-
-    @Query("SELECT COALESCE(SUM(l.qty), 0) FROM UserViewLog l WHERE l.ppk = :ppk")
-    Long sumViewsByProduct(@Param("ppk") Long ppk);
-}
\ No newline at end of file
+    // ✅ id 워터마크 이후 (id, upk, ppk, 첫 조회시간) - id 순 (연관 추천용)
+    // viewed_at 은 다시 볼 때마다 바뀌므로 처음 저장된 뒤 바뀌지 않는 id / first_viewed_at 기준 (이전 행은 viewed_at)
+    @Query(value = """
+        SELECT id, upk, ppk, COALESCE(first_viewed_at, viewed_at)
+        FROM user_view_log
+        WHERE id > :afterId
+        ORDER BY id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findViewsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,147 @@
+package com.tjg_project.candy.domain.user.service;
+
+import com.tjg_project.candy.domain.user.entity.UserViewLog;
+import com.tjg_project.candy.domain.user.repository.UserViewLogRepository;
+import com.tjg_project.candy.global.cache.CacheStats;
+import com.tjg_project.candy.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 유저별 최근 본 상품 (최근 20개, 메모리)
+ * - 조회 로그 기록(/view/log)은 DB 를 읽지 않는다: 캐시에 없으면 새 조회 하나로 시작
+ * - 읽을 때 아직 DB 이력을 합치지 않았으면 findTop20ByUpkOrderByViewedAtDesc 결과를 메모리 항목 뒤에 붙임
+ * - 오래 안 쓰인 유저는 LRU 로 제거, TTL 이 지나면 DB 기준으로 다시 읽음
+ */
+@Component
+public class RecentViewCache {
+
+    static final int CAPACITY = 20;
+
+    private final UserViewLogRepository userViewLogRepository;
+    private final LocalCache<Long, RecentViews> cache;
+
+    public RecentViewCache(
+            UserViewLogRepository userViewLogRepository,
+            @Value("${view-log.recent.max-users:50000}") int maxUsers,
+            @Value("${view-log.recent.ttl-seconds:1800}") long ttlSeconds) {
+        this.userViewLogRepository = userViewLogRepository;
+        this.cache = new LocalCache<>("recentViews", maxUsers, ttlSeconds * 1000);
+    }
+
+    public void record(Long upk, Long ppk, Long subCategoryId) {
+        cache.get(upk, key -> new RecentViews()).push(ppk, subCategoryId);
+    }
+
+    // 가장 최근 본 상품의 중분류 (없으면 null)
+    public Long mostRecentSubCategory(Long upk) {
+        return load(upk).mostRecentSubCategory();
+    }
+
+    // 최근 본 상품 id (최신순)
+    public List<Long> recentProducts(Long upk) {
+        return load(upk).products();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private RecentViews load(Long upk) {
+        RecentViews views = cache.get(upk, key -> new RecentViews());
+        if (!views.historyMerged()) {
+            // 조회는 락 밖에서 (동시에 읽으면 두 번 조회될 수 있지만 합치는 건 한 번만)
+            views.mergeHistory(userViewLogRepository.findTop20ByUpkOrderByViewedAtDesc(upk));
+        }
+        return views;
+    }
+
+    /**
+     * 고정 크기 원형 버퍼 (같은 상품을 다시 보면 맨 앞으로 이동)
+     */
+    static final class RecentViews {
+        private final Long[] ppks = new Long[CAPACITY];
+        private final Long[] subCategoryIds = new Long[CAPACITY];
+        private int head;   // 가장 최근 항목 위치
+        private int size;
+        private boolean historyMerged;
+
+        synchronized void push(Long ppk, Long subCategoryId) {
+            if (ppk == null) {
+                return;
+            }
+            remove(ppk);
+            head = (head + CAPACITY - 1) % CAPACITY;
+            ppks[head] = ppk;
+            subCategoryIds[head] = subCategoryId;
+            if (size < CAPACITY) {
+                size++;
+            }
+        }
+
+        synchronized boolean historyMerged() {
+            return historyMerged;
+        }
+
+        // DB 이력(최신순)은 메모리에 기록된 조회보다 오래된 것이므로 뒤에 붙임 (이미 있는 상품은 건너뜀)
+        synchronized void mergeHistory(List<UserViewLog> logs) {
+            if (historyMerged) {
+                return;
+            }
+            for (UserViewLog log : logs) {
+                if (size == CAPACITY) {
+                    break;
+                }
+                Long ppk = log.getPpk();
+                if (ppk == null || indexOf(ppk) >= 0) {
+                    continue;
+                }
+                int tail = (head + size) % CAPACITY;
+                ppks[tail] = ppk;
+                subCategoryIds[tail] = log.getSubCategoryId();
+                size++;
+            }
+            historyMerged = true;
+        }
+
+        synchronized Long mostRecentSubCategory() {
+            return size == 0 ? null : subCategoryIds[head];
+        }
+
+        synchronized List<Long> products() {
+            List<Long> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(ppks[(head + i) % CAPACITY]);
+            }
+            return result;
+        }
+
+        // 이미 있으면 빼고 뒤쪽 항목을 한 칸씩 당김 (최대 CAPACITY 번)
+        private void remove(Long ppk) {
+            int i = indexOf(ppk);
+            if (i < 0) {
+                return;
+            }
+            for (int j = i; j < size - 1; j++) {
+                int to = (head + j) % CAPACITY;
+                int from = (head + j + 1) % CAPACITY;
+                ppks[to] = ppks[from];
+                subCategoryIds[to] = subCategoryIds[from];
+            }
+            size--;
+        }
+
+        // head 기준 위치 (없으면 -1)
+        private int indexOf(Long ppk) {
+            for (int i = 0; i < size; i++) {
+                if (ppk.equals(ppks[(head + i) % CAPACITY])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.tjg_project.candy.domain.user.service;
+
+import com.tjg_project.candy.domain.user.entity.Users;
+import com.tjg_project.candy.domain.user.repository.UserRepository;
+import com.tjg_project.candy.global.cache.CacheStats;
+import com.tjg_project.candy.global.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 권한 (users.role: USER / ADMIN) 조회 캐시
+ * - JwtFilter 가 요청마다 권한을 붙이므로 DB 는 TTL 마다 한 번만 읽음
+ * - 권한을 바꾸면 TTL 안에 반영 (토큰을 다시 발급받을 필요 없음)
+ */
+@Component
+public class UserRoleCache {
+
+    public static final String USER = "USER";
+    public static final String ADMIN = "ADMIN";
+
+    private final UserRepository userRepository;
+    private final LocalCache<Long, String> roles;
+
+    public UserRoleCache(
+            UserRepository userRepository,
+            @Value("${auth.role-cache.max-size:10000}") int maxSize,
+            @Value("${auth.role-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.roles = new LocalCache<>("userRoles", maxSize, ttlSeconds * 1000);
+    }
+
+    // 없는 유저 / 권한이 비어 있으면 USER
+    public String roleOf(Long userId) {
+        return roles.get(userId, id -> userRepository.findById(id)
+                .map(Users::getRole)
+                .filter(role -> !role.isBlank())
+                .orElse(USER));
+    }
+
+    public CacheStats stats() {
+        return roles.stats();
+    }
+}
@@ -0,0 +1,197 @@
+package com.tjg_project.candy.domain.user.service;
+
+import com.tjg_project.candy.domain.analytics.repository.ProductMetricsWriter;
+import com.tjg_project.candy.domain.user.entity.UserViewLog;
+import com.tjg_project.candy.domain.user.repository.UserViewLogBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회 로그 버퍼
+ * - /view/log 요청은 메모리에 쌓기만 하고 바로 응답 (같은 (upk, ppk) 는 하나로 합침)
+ * - 주기적으로 user_view_log 에 일괄 upsert, 일별 집계 조회수도 같이 누적
+ * - 버퍼가 가득 차면 새 (upk, ppk) 는 버리고 dropped 로 집계 (이미 있는 키는 계속 합쳐짐)
+ */
+@Slf4j
+@Component
+public class ViewLogBuffer {
+
+    private final UserViewLogBatchRepository userViewLogBatchRepository;
+    private final ProductMetricsWriter productMetricsWriter;
+    private final int capacity;
+
+    private final ConcurrentHashMap<Key, Pending> buffer = new ConcurrentHashMap<>();
+
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushErrors = new LongAdder();
+
+    public ViewLogBuffer(
+            UserViewLogBatchRepository userViewLogBatchRepository,
+            ProductMetricsWriter productMetricsWriter,
+            @Value("${view-log.buffer.capacity:100000}") int capacity) {
+        this.userViewLogBatchRepository = userViewLogBatchRepository;
+        this.productMetricsWriter = productMetricsWriter;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return 버퍼에 반영되면 true, 가득 차서 버렸으면 false
+     */
+    public boolean offer(Long upk, Long ppk, Long subCategoryId) {
+        offered.increment();
+        return merge(new Key(upk, ppk), 1, subCategoryId, LocalDateTime.now());
+    }
+
+    private boolean merge(Key key, int qty, Long subCategoryId, LocalDateTime viewedAt) {
+        boolean[] accepted = {true};
+        buffer.compute(key, (k, pending) -> {
+            if (pending != null) {
+                coalesced.increment();
+                pending.add(qty, subCategoryId, viewedAt);
+                return pending;
+            }
+            if (buffer.mappingCount() >= capacity) {
+                accepted[0] = false;
+                return null;
+            }
+            return new Pending(qty, subCategoryId, viewedAt);
+        });
+        if (!accepted[0]) {
+            dropped.increment();
+        }
+        return accepted[0];
+    }
+
+    @Scheduled(fixedDelayString = "${view-log.buffer.flush-ms:1000}")
+    public synchronized void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 꺼냄 (꺼낸 뒤 들어온 조회는 새 항목으로 다음 flush 에 반영)
+        Map<Key, Pending> drained = new HashMap<>();
+        for (Key key : buffer.keySet()) {
+            Pending pending = buffer.remove(key);
+            if (pending != null) {
+                drained.put(key, pending);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<UserViewLog> logs = new ArrayList<>(drained.size());
+        Map<LocalDate, Map<Long, Long>> viewsByDay = new LinkedHashMap<>();
+        drained.forEach((key, pending) -> {
+            UserViewLog viewLog = new UserViewLog();
+            viewLog.setUpk(key.upk);
+            viewLog.setPpk(key.ppk);
+            viewLog.setSubCategoryId(pending.subCategoryId);
+            viewLog.setViewedAt(pending.viewedAt);
+            viewLog.setQty(pending.qty);
+            logs.add(viewLog);
+
+            viewsByDay.computeIfAbsent(pending.viewedAt.toLocalDate(), d -> new HashMap<>())
+                    .merge(key.ppk, (long) pending.qty, Long::sum);
+        });
+
+        try {
+            userViewLogBatchRepository.upsertAll(logs);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (버퍼가 가득 차면 버려짐)
+            flushErrors.increment();
+            log.warn("조회 로그 저장 실패 ({}건), 다음 주기에 재시도: {}", logs.size(), e.getMessage());
+            drained.forEach((key, pending) -> merge(key, pending.qty, pending.subCategoryId, pending.viewedAt));
+            return;
+        }
+        flushedRows.add(logs.size());
+
+        try {
+            viewsByDay.forEach((day, views) -> productMetricsWriter.addViews(views, day));
+        } catch (RuntimeException e) {
+            // 조회 로그는 이미 저장됨 → 집계 조회수만 유실 (재시도하면 로그가 중복 누적됨)
+            flushErrors.increment();
+            log.warn("일별 조회수 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    // ✅ 종료 시 남은 로그 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", buffer.size());
+        stats.put("capacity", capacity);
+        stats.put("offered", offered.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("flushedRows", flushedRows.sum());
+        stats.put("flushErrors", flushErrors.sum());
+        return stats;
+    }
+
+    private static final class Key {
+        private final Long upk;
+        private final Long ppk;
+
+        private Key(Long upk, Long ppk) {
+            this.upk = upk;
+            this.ppk = ppk;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return upk.equals(other.upk) && ppk.equals(other.ppk);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(upk, ppk);
+        }
+    }
+
+    // compute() 안에서만 변경되므로 별도 동기화 불필요
+    private static final class Pending {
+        private int qty;
+        private Long subCategoryId;
+        private LocalDateTime viewedAt;
+
+        private Pending(int qty, Long subCategoryId, LocalDateTime viewedAt) {
+            this.qty = qty;
+            this.subCategoryId = subCategoryId;
+            this.viewedAt = viewedAt;
+        }
+
+        private void add(int qty, Long subCategoryId, LocalDateTime viewedAt) {
+            this.qty += qty;
+            if (subCategoryId != null) {
+                this.subCategoryId = subCategoryId;
+            }
+            if (viewedAt.isAfter(this.viewedAt)) {
+                this.viewedAt = viewedAt;
+            }
+        }
+    }
+}
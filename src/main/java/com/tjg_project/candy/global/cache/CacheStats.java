@@ -0,0 +1,22 @@
+package com.tjg_project.candy.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+
+    private final String name;      // 캐시 이름
+    private final int size;         // 현재 항목 수
+    private final int maxSize;      // 최대 항목 수
+    private final long hits;        // 적중 횟수
+    private final long misses;      // 미스 횟수
+    private final long evictions;   // 크기 초과로 제거된 횟수
+    private final long expirations; // TTL 만료로 제거된 횟수
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (hits * 100.0 / total);
+    }
+}
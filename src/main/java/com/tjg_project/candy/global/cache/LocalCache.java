@@ -0,0 +1,161 @@
+package com.tjg_project.candy.global.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 + TTL 기반 인메모리 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - hit / miss / eviction / expiration 횟수 집계
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    // accessOrder = true → get 할 때마다 최근 사용 항목으로 이동
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    public LocalCache(String name, int maxSize, long ttlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LocalCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                map.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    /**
+     * 캐시에 없으면 loader로 읽어서 저장 (loader가 null을 반환하면 저장하지 않음)
+     * loader는 락 밖에서 실행되므로 동시에 같은 키를 읽으면 중복 로드될 수 있고, 먼저 저장된 값이 반환된다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        V existing = putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 유효한 값이 없을 때만 저장
+     * @return 이미 있던 값 (없어서 저장했으면 null)
+     */
+    public V putIfAbsent(K key, V value) {
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.value;
+            }
+            map.put(key, new Entry<>(value, now + ttlMillis));
+            return null;
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 항목별 만료 시각 지정 (기본 TTL보다 먼저 만료돼야 하는 경우)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long expiresAt = Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis);
+        synchronized (map) {
+            map.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (map) {
+            map.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    /**
+     * 만료된 항목 정리 (주기적으로 호출하면 메모리를 빨리 돌려받을 수 있음)
+     */
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Iterator<Entry<V>> it = map.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().expiresAt <= now) {
+                    it.remove();
+                    expirations.increment();
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, size(), maxSize,
+                hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.tjg_project.candy.global.config;
+
+import com.tjg_project.candy.domain.user.repository.UserViewLogDeduplicator;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ddl-auto(update) 가 새 제약조건을 추가하기 전에 기존 데이터를 정리해야 하는 작업을
+ * EntityManagerFactory 생성 전에 실행되도록 묶는다.
+ */
+@Configuration
+public class JpaSchemaConfig {
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor dataCleanupBeforeSchemaUpdate() {
+        return new EntityManagerFactoryDependsOnPostProcessor(UserViewLogDeduplicator.class);
+    }
+}
@@ -5,6 +5,7 @@ import com.tjg_project.candy.global.util.JwtFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -40,7 +41,11 @@ public class SecurityConfig {
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
-                        auth.requestMatchers("/", "/login", "/product/**", "/notice/**", "/member/**",
+                        // ✅ 운영 지표 / DB 전체 엑셀 리포트 / 리포트 작업 / 예측 배치 / 리뷰 재분석은 관리자만 (아래 permitAll 보다 먼저 매칭)
+                        auth.requestMatchers("/api/admin/metrics/**", "/api/admin/reports/**", "/api/forecast/batch",
+                                        "/api/admin/reviews/analysis/rebuild").hasRole("ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/excel/conversion", "/excel/daily-sales").hasRole("ADMIN")
+                                .requestMatchers("/", "/login", "/product/**", "/notice/**", "/member/**",
                                 "/orders/**", "/payment/**", "/delivery/**", "/auth/**", "/oauth2/**", "/csrf",
                                 "/view/**", "/category/**","/coupon/**","/recipe/**","/images/**","/api/forecast/**","/api/forecast/predict/**","/api/chatbot/**","/api/analytics/conversion/**","/excel/**","/api/admin/pricing/**","/api/admin/reviews/**","/advertise/**").permitAll().anyRequest().authenticated())
                 .oauth2Login(oauth -> oauth     // ✅ OAuth2 로그인 활성화
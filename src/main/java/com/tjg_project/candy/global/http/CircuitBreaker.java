@@ -0,0 +1,73 @@
+package com.tjg_project.candy.global.http;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ * - CLOSED    : 정상 호출, 연속 실패가 threshold 에 닿으면 OPEN
+ * - OPEN      : openMillis 동안 호출하지 않고 바로 실패
+ * - HALF_OPEN : OPEN 시간이 지나면 시험 호출 1건만 통과 → 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntil = new AtomicLong(0);   // 0 이면 닫힘
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /** 이번 호출을 보내도 되는지 (HALF_OPEN 이면 한 스레드만 true) */
+    public boolean tryAcquire() {
+        long until = openUntil.get();
+        if (until == 0) {
+            return true;
+        }
+        if (clock.getAsLong() < until) {
+            return false;
+        }
+        return probing.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil.set(0);
+        probing.set(false);
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        // 시험 호출 실패 또는 임계치 도달 → (다시) 열기
+        if (probing.get() || failures >= failureThreshold) {
+            openUntil.set(clock.getAsLong() + openMillis);
+            probing.set(false);
+        }
+    }
+
+    public State state() {
+        long until = openUntil.get();
+        if (until == 0) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() < until ? State.OPEN : State.HALF_OPEN;
+    }
+}
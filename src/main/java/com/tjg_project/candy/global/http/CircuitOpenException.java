@@ -0,0 +1,14 @@
+package com.tjg_project.candy.global.http;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 서킷이 열려 있어 외부 API 를 호출하지 않고 바로 실패할 때
+ * (RestClientException 계열이라 기존 호출부의 예외 처리를 그대로 탄다)
+ */
+public class CircuitOpenException extends ResourceAccessException {
+
+    public CircuitOpenException(String downstream) {
+        super(downstream + " 호출이 일시 차단되었습니다. (연속 실패로 서킷 열림)");
+    }
+}
@@ -0,0 +1,40 @@
+package com.tjg_project.candy.global.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(downstream) 하나에 대한 호출 정책
+ */
+@Getter
+@Builder
+public class DownstreamSettings {
+
+    private final String name;                  // kakao / openai / supabase
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(2);
+    @Builder.Default
+    private final Duration readTimeout = Duration.ofSeconds(5);
+
+    // 재시도: GET/HEAD/PUT/DELETE 같은 멱등 요청만, POST 는 retryPost 일 때만
+    @Builder.Default
+    private final int maxRetries = 2;
+    @Builder.Default
+    private final boolean retryPost = false;
+    @Builder.Default
+    private final Duration backoff = Duration.ofMillis(200);
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(2);
+    // 재시도는 전체 요청 수의 이 비율까지만 (장애 때 재시도가 부하를 키우지 않도록)
+    @Builder.Default
+    private final double retryBudgetRatio = 0.2;
+
+    // 연속 실패가 failureThreshold 번이면 openDuration 동안 바로 실패 처리
+    @Builder.Default
+    private final int failureThreshold = 5;
+    @Builder.Default
+    private final Duration openDuration = Duration.ofSeconds(30);
+}
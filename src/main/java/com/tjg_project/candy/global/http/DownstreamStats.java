@@ -0,0 +1,16 @@
+package com.tjg_project.candy.global.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DownstreamStats {
+
+    private final String name;            // downstream 이름
+    private final String circuit;         // CLOSED / OPEN / HALF_OPEN
+    private final long requests;          // 호출 요청 수 (재시도 제외)
+    private final long retries;           // 실제 재시도 횟수
+    private final long budgetExhausted;   // 예산 부족으로 재시도하지 않은 횟수
+    private final long shortCircuited;    // 서킷이 열려 바로 실패한 횟수
+}
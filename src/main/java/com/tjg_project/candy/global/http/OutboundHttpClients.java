@@ -0,0 +1,68 @@
+package com.tjg_project.candy.global.http;
+
+import com.tjg_project.candy.global.metrics.DownstreamMetrics;
+import com.tjg_project.candy.global.metrics.LatencySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 외부 API 용 RestTemplate 생성 + 상태 모음
+ * - downstream 마다 JDK HttpClient 하나 (keep-alive 커넥션 풀을 호출 간에 재사용)
+ * - connect 타임아웃은 HttpClient, read 타임아웃은 요청 단위로 적용
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClients {
+
+    private final DownstreamMetrics metrics;
+
+    private final Map<String, ResilientHttpInterceptor> interceptors = new ConcurrentHashMap<>();
+
+    public RestTemplate create(DownstreamSettings settings, Function<HttpRequest, String> operationNamer) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.getReadTimeout());
+
+        ResilientHttpInterceptor interceptor = new ResilientHttpInterceptor(settings, metrics, operationNamer);
+        interceptors.put(settings.getName(), interceptor);
+
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(interceptor);
+        return restTemplate;
+    }
+
+    /** URL 마지막 경로 (/v1/payment/ready → ready) */
+    public static String lastPathSegment(HttpRequest request) {
+        String path = request.getURI().getPath();
+        if (path == null || path.isEmpty()) {
+            return "root";
+        }
+        int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        return path.substring(path.lastIndexOf('/', end - 1) + 1, end);
+    }
+
+    public List<DownstreamStats> stats() {
+        return interceptors.values().stream()
+                .map(ResilientHttpInterceptor::stats)
+                .sorted(Comparator.comparing(DownstreamStats::getName))
+                .toList();
+    }
+
+    public List<LatencySnapshot> latencies() {
+        return metrics.snapshot();
+    }
+}
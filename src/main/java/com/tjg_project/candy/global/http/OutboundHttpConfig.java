@@ -0,0 +1,80 @@
+package com.tjg_project.candy.global.http;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 별 RestTemplate 빈
+ * - kakaoRestTemplate    : 카카오페이 ready / approve (POST → 재시도 안 함, 서킷 + 지연시간만)
+ * - openAiRestTemplate   : OpenAI chat (응답이 느려서 read 타임아웃 길게, POST 도 재시도)
+ * - supabaseRestTemplate : Supabase Storage 업로드 (PUT 이라 멱등 → 재시도)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OutboundHttpConfig {
+
+    private final OutboundHttpClients clients;
+
+    @Value("${http.client.kakao.connect-timeout-ms:2000}") private long kakaoConnectMs;
+    @Value("${http.client.kakao.read-timeout-ms:5000}") private long kakaoReadMs;
+    @Value("${http.client.kakao.max-retries:2}") private int kakaoRetries;
+
+    @Value("${http.client.openai.connect-timeout-ms:3000}") private long openAiConnectMs;
+    @Value("${http.client.openai.read-timeout-ms:30000}") private long openAiReadMs;
+    @Value("${http.client.openai.max-retries:2}") private int openAiRetries;
+
+    @Value("${http.client.supabase.connect-timeout-ms:3000}") private long supabaseConnectMs;
+    @Value("${http.client.supabase.read-timeout-ms:20000}") private long supabaseReadMs;
+    @Value("${http.client.supabase.max-retries:2}") private int supabaseRetries;
+
+    @Value("${http.client.retry.backoff-ms:200}") private long backoffMs;
+    @Value("${http.client.retry.max-backoff-ms:2000}") private long maxBackoffMs;
+    @Value("${http.client.retry.budget-ratio:0.2}") private double budgetRatio;
+
+    @Value("${http.client.circuit.failure-threshold:5}") private int failureThreshold;
+    @Value("${http.client.circuit.open-ms:30000}") private long openMs;
+
+    @Bean
+    public RestTemplate kakaoRestTemplate() {
+        return clients.create(
+                settings("kakao", kakaoConnectMs, kakaoReadMs, kakaoRetries, false),
+                OutboundHttpClients::lastPathSegment
+        );
+    }
+
+    @Bean
+    public RestTemplate openAiRestTemplate() {
+        return clients.create(
+                settings("openai", openAiConnectMs, openAiReadMs, openAiRetries, true),
+                request -> "chat"
+        );
+    }
+
+    @Bean
+    public RestTemplate supabaseRestTemplate() {
+        return clients.create(
+                settings("supabase", supabaseConnectMs, supabaseReadMs, supabaseRetries, false),
+                request -> "upload"
+        );
+    }
+
+    private DownstreamSettings settings(String name, long connectMs, long readMs, int maxRetries, boolean retryPost) {
+        return DownstreamSettings.builder()
+                .name(name)
+                .connectTimeout(Duration.ofMillis(connectMs))
+                .readTimeout(Duration.ofMillis(readMs))
+                .maxRetries(maxRetries)
+                .retryPost(retryPost)
+                .backoff(Duration.ofMillis(backoffMs))
+                .maxBackoff(Duration.ofMillis(maxBackoffMs))
+                .retryBudgetRatio(budgetRatio)
+                .failureThreshold(failureThreshold)
+                .openDuration(Duration.ofMillis(openMs))
+                .build();
+    }
+}
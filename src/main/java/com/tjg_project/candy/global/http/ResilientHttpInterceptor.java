@@ -0,0 +1,161 @@
+package com.tjg_project.candy.global.http;
+
+import com.tjg_project.candy.global.metrics.DownstreamMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * downstream 하나에 붙는 인터셉터
+ * - 서킷 브레이커: 열려 있으면 호출하지 않고 CircuitOpenException
+ * - 재시도: IO 오류 / 5xx / 429 일 때, 멱등 요청만, 지수 백오프 + full jitter, 재시도 예산 안에서
+ * - 지연시간: 시도(attempt)마다 "downstream.operation" 히스토그램에 기록
+ */
+@Slf4j
+public class ResilientHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<HttpMethod> IDEMPOTENT = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE
+    );
+
+    private final DownstreamSettings settings;
+    private final DownstreamMetrics metrics;
+    private final Function<HttpRequest, String> operationNamer;
+
+    private final CircuitBreaker breaker;
+    private final RetryBudget budget;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+
+    public ResilientHttpInterceptor(DownstreamSettings settings,
+                                    DownstreamMetrics metrics,
+                                    Function<HttpRequest, String> operationNamer) {
+        this.settings = settings;
+        this.metrics = metrics;
+        this.operationNamer = operationNamer;
+        this.breaker = new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration().toMillis());
+        this.budget = new RetryBudget(settings.getRetryBudgetRatio(), Math.max(settings.getMaxRetries(), 1) * 5);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+
+        if (!breaker.tryAcquire()) {
+            shortCircuited.increment();
+            throw new CircuitOpenException(settings.getName());
+        }
+
+        // 이번 시도의 성공/실패를 서킷에 기록했는지 (IOException 외 예외로 빠져나가도 HALF_OPEN 시험 호출이 풀리도록)
+        boolean recorded = false;
+        try {
+            requests.increment();
+            budget.deposit();
+
+            String operation = settings.getName() + "." + operationNamer.apply(request);
+            boolean retryable = isRetryable(request.getMethod());
+
+            for (int attempt = 0; ; attempt++) {
+                recorded = false;
+                long start = System.nanoTime();
+                try {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    int status = response.getStatusCode().value();
+                    boolean failed = status >= 500 || status == 429;
+                    metrics.histogram(operation).record(System.nanoTime() - start, !failed);
+
+                    if (!failed) {
+                        breaker.onSuccess();
+                        recorded = true;
+                        return response;
+                    }
+                    breaker.onFailure();
+                    recorded = true;
+                    if (!canRetry(retryable, attempt)) {
+                        return response;    // 마지막 응답은 그대로 넘겨서 호출부가 상태코드를 보게 한다
+                    }
+                    response.close();
+                    log.warn("{} {} 응답, 재시도 {}/{}", operation, status, attempt + 1, settings.getMaxRetries());
+
+                } catch (IOException e) {
+                    metrics.histogram(operation).record(System.nanoTime() - start, false);
+                    breaker.onFailure();
+                    recorded = true;
+                    if (!canRetry(retryable, attempt)) {
+                        throw e;
+                    }
+                    log.warn("{} 실패 ({}), 재시도 {}/{}", operation, e.getMessage(), attempt + 1, settings.getMaxRetries());
+
+                } catch (RuntimeException e) {
+                    metrics.histogram(operation).record(System.nanoTime() - start, false);
+                    throw e;
+                }
+
+                retries.increment();
+                sleepBackoff(attempt);
+            }
+        } finally {
+            if (!recorded) {
+                breaker.onFailure();
+            }
+        }
+    }
+
+    private boolean isRetryable(HttpMethod method) {
+        return IDEMPOTENT.contains(method) || (settings.isRetryPost() && HttpMethod.POST.equals(method));
+    }
+
+    private boolean canRetry(boolean retryable, int attempt) {
+        if (!retryable || attempt >= settings.getMaxRetries()) {
+            return false;
+        }
+        // 방금 실패로 서킷이 열렸으면 더 두드리지 않는다
+        if (breaker.state() != CircuitBreaker.State.CLOSED) {
+            return false;
+        }
+        if (!budget.tryWithdraw()) {
+            budgetExhausted.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // full jitter: 0 ~ min(maxBackoff, backoff * 2^attempt) 사이 임의 대기 (동시 재시도가 한꺼번에 몰리지 않도록)
+    private void sleepBackoff(int attempt) throws InterruptedIOException {
+        long base = settings.getBackoff().toMillis();
+        long cap = Math.min(settings.getMaxBackoff().toMillis(), base << Math.min(attempt, 20));
+        if (cap <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(settings.getName() + " 재시도 대기 중 인터럽트");
+        }
+    }
+
+    public DownstreamStats stats() {
+        return new DownstreamStats(
+                settings.getName(),
+                breaker.state().name(),
+                requests.sum(),
+                retries.sum(),
+                budgetExhausted.sum(),
+                shortCircuited.sum()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.tjg_project.candy.global.http;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ * - 요청 1건마다 ratio 만큼 적립, 재시도 1번에 1 차감
+ * - 장애로 모든 요청이 실패해도 재시도는 요청 수의 ratio 배를 넘지 않는다
+ * - minReserve 만큼은 처음부터 채워 두어 트래픽이 적을 때도 재시도가 가능
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, double minReserve) {
+        this.ratio = ratio;
+        this.maxTokens = Math.max(minReserve, 1);
+        this.tokens = this.maxTokens;
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
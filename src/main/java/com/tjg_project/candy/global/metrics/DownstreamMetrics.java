@@ -0,0 +1,29 @@
+package com.tjg_project.candy.global.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 호출별 지연시간 히스토그램 모음
+ * - 이름은 "downstream.operation" (kakao.ready, kakao.approve, openai.chat, supabase.upload)
+ */
+@Component
+public class DownstreamMetrics {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    public List<LatencySnapshot> snapshot() {
+        return histograms.values().stream()
+                .map(LatencyHistogram::snapshot)
+                .sorted(Comparator.comparing(LatencySnapshot::getName))
+                .toList();
+    }
+}
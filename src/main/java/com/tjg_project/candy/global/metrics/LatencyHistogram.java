@@ -0,0 +1,94 @@
+package com.tjg_project.candy.global.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간(ms) 지연시간 히스토그램
+ * - 구간별 LongAdder 라 여러 요청 스레드가 동시에 기록해도 락이 없다
+ * - 백분위는 해당 구간의 상한값으로 근사 (p99 ≤ 500ms 같은 판단용)
+ */
+public class LatencyHistogram {
+
+    // 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    private static final long[] BOUNDS_MS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000, 60_000
+    };
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos, boolean success) {
+        long ms = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        buckets[indexOf(ms)].increment();
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        if (!success) {
+            errors.increment();
+        }
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    private static int indexOf(long ms) {
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            if (ms <= BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS_MS.length;
+    }
+
+    /** p (0~100) 백분위 근사값 (ms) */
+    public long percentile(double p) {
+        long[] snapshot = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                // 마지막 구간은 상한이 없으므로 실제 최대값으로
+                return i < BOUNDS_MS.length ? BOUNDS_MS[i] : TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    public LatencySnapshot snapshot() {
+        long n = count.sum();
+        double avgMs = n == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / n;
+        return new LatencySnapshot(
+                name,
+                n,
+                errors.sum(),
+                Math.round(avgMs * 10) / 10.0,
+                percentile(50),
+                percentile(95),
+                percentile(99),
+                TimeUnit.NANOSECONDS.toMillis(maxNanos.get())
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+}
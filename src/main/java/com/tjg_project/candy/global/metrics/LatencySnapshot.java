@@ -0,0 +1,18 @@
+package com.tjg_project.candy.global.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LatencySnapshot {
+
+    private final String name;     // 호출 이름 (예: kakao.ready)
+    private final long count;      // 호출 수 (재시도 포함)
+    private final long errors;     // 실패 수 (IO 오류 / 5xx / 429)
+    private final double avgMs;    // 평균
+    private final long p50Ms;      // 구간 상한 기준 근사값
+    private final long p95Ms;
+    private final long p99Ms;
+    private final long maxMs;
+}
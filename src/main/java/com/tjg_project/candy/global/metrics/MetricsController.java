@@ -0,0 +1,79 @@
+package com.tjg_project.candy.global.metrics;
+
+import com.tjg_project.candy.domain.openai.service.OpenAiResponseCache;
+import com.tjg_project.candy.domain.order.service.PaymentSessionService;
+import com.tjg_project.candy.domain.product.service.InventoryReservationLedger;
+import com.tjg_project.candy.domain.product.service.ProductCatalogCache;
+import com.tjg_project.candy.domain.product.service.ProductSearchService;
+import com.tjg_project.candy.domain.user.service.RecentViewCache;
+import com.tjg_project.candy.domain.user.service.UserRoleCache;
+import com.tjg_project.candy.domain.user.service.UserViewLogService;
+import com.tjg_project.candy.global.http.OutboundHttpClients;
+import com.tjg_project.candy.global.outbox.OutboxRelay;
+import com.tjg_project.candy.global.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 지표 한 곳에서 보기 (/actuator/metrics 대용)
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final RequestMetrics requestMetrics;
+    private final OutboundHttpClients outboundHttpClients;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchService productSearchService;
+    private final InventoryReservationLedger inventoryReservationLedger;
+    private final PaymentSessionService paymentSessionService;
+    private final UserViewLogService userViewLogService;
+    private final RecentViewCache recentViewCache;
+    private final UserRoleCache userRoleCache;
+    private final OutboxRelay outboxRelay;
+    private final JwtUtil jwtUtil;
+    private final OpenAiResponseCache openAiResponseCache;
+
+    // ✅ API 경로별 지연시간 (p50 / p95 / p99) + 상태코드
+    @GetMapping("/requests")
+    public List<RequestMetrics.RouteSnapshot> getRequests() {
+        return requestMetrics.snapshot();
+    }
+
+    // ✅ 외부 API (카카오페이 / OpenAI / Supabase)
+    @GetMapping("/downstream")
+    public Map<String, Object> getDownstream() {
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("clients", outboundHttpClients.stats());
+        res.put("latency", outboundHttpClients.latencies());
+        return res;
+    }
+
+    // ✅ 전체
+    @GetMapping
+    public Map<String, Object> getAll() {
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("requests", requestMetrics.snapshot());
+        res.put("downstream", getDownstream());
+        List<Object> caches = new ArrayList<>(productCatalogCache.stats());
+        caches.add(recentViewCache.stats());
+        caches.add(jwtUtil.verifiedTokenCacheStats());
+        caches.add(userRoleCache.stats());
+        res.put("caches", caches);
+        res.put("reservation", inventoryReservationLedger.stats());
+        res.put("search", productSearchService.stats());
+        res.put("paymentSessions", paymentSessionService.stats());
+        res.put("viewLog", userViewLogService.getBufferStats());
+        res.put("outbox", outboxRelay.stats());
+        res.put("openAiCache", openAiResponseCache.stats());
+        return res;
+    }
+}
@@ -0,0 +1,74 @@
+package com.tjg_project.candy.global.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 경로별 지연시간 + 상태코드 집계
+ * - 키는 "GET /product/{id}" 처럼 매핑 패턴 기준 (실제 id 별로 늘어나지 않게)
+ * - 매핑되지 않은 요청(404, 정적 리소스 등)은 하나로 묶는다
+ */
+@Component
+public class RequestMetrics {
+
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, int status, long elapsedNanos) {
+        routes.computeIfAbsent(route, Route::new).record(status, elapsedNanos);
+    }
+
+    public List<RouteSnapshot> snapshot() {
+        return routes.values().stream()
+                .map(Route::snapshot)
+                .sorted(Comparator.comparingLong((RouteSnapshot r) -> r.getLatency().getCount()).reversed())
+                .toList();
+    }
+
+    private static final class Route {
+        private final LatencyHistogram histogram;
+        private final LongAdder s2xx = new LongAdder();
+        private final LongAdder s3xx = new LongAdder();
+        private final LongAdder s4xx = new LongAdder();
+        private final LongAdder s5xx = new LongAdder();
+
+        Route(String name) {
+            this.histogram = new LatencyHistogram(name);
+        }
+
+        void record(int status, long elapsedNanos) {
+            histogram.record(elapsedNanos, status < 500);
+            if (status >= 500) {
+                s5xx.increment();
+            } else if (status >= 400) {
+                s4xx.increment();
+            } else if (status >= 300) {
+                s3xx.increment();
+            } else {
+                s2xx.increment();
+            }
+        }
+
+        RouteSnapshot snapshot() {
+            return new RouteSnapshot(histogram.snapshot(), s2xx.sum(), s3xx.sum(), s4xx.sum(), s5xx.sum());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RouteSnapshot {
+        private final LatencySnapshot latency;
+        private final long status2xx;
+        private final long status3xx;
+        private final long status4xx;
+        private final long status5xx;
+    }
+}
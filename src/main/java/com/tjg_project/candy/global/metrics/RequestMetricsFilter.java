@@ -0,0 +1,71 @@
+package com.tjg_project.candy.global.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 모든 요청의 맨 앞에서
+ * - requestId 를 MDC 에 넣어 이 요청에서 찍히는 로그를 묶고 (X-Request-Id 로 응답에도 전달)
+ *   받은 X-Request-Id 는 영문/숫자/- 64자 이내일 때만 사용 (로그 위조 방지), 아니면 새로 생성
+ * - 매핑 패턴별 지연시간 / 상태코드를 RequestMetrics 에 기록 (알 수 없는 HTTP 메서드는 OTHER 로 묶음)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+    private static final Set<String> KNOWN_METHODS = Set.of(
+            "GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final RequestMetrics requestMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString().substring(0, 8);
+        }
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            requestMetrics.record(route(request), status, System.nanoTime() - start);
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    // DispatcherServlet 이 매핑한 패턴 (/product/{id}), 없으면 UNMATCHED
+    // 메서드는 임의 문자열이 올 수 있으므로 표준 메서드 외에는 OTHER (경로별 집계 항목이 늘어나지 않도록)
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = KNOWN_METHODS.contains(request.getMethod()) ? request.getMethod() : "OTHER";
+        return method + " " + (pattern != null ? pattern : RequestMetrics.UNMATCHED);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tjg_project.candy.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트를 현재 트랜잭션에 outbox 행으로 기록
+ * - 트랜잭션이 롤백되면 이벤트도 남지 않고, 커밋되면 반드시 발행된다 (at-least-once)
+ * - 받는 쪽은 동기 @EventListener 로 받고, 중복 수신에 견딜 수 있어야 한다
+ *   (리스너 처리 후 발행 표시가 커밋되기 전에 실패하면 다시 전달됨, OutboxRelay 참고)
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateKey, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxEventRepository.save(new OutboxEvent(event.getClass().getName(), aggregateKey, payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tjg_project.candy.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 outbox 행
+ * 비즈니스 데이터와 같은 트랜잭션으로 저장하고, OutboxRelay 가 커밋된 행만 읽어 이벤트로 발행한다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_published_at_id", columnList = "published_at, id"))
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType;       // 이벤트 클래스 이름 (역직렬화용)
+
+    @Column(name = "aggregate_key", length = 64)
+    private String aggregateKey;    // 예: orderCode
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;         // 이벤트 JSON
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;   // null 이면 아직 발행 전
+
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public OutboxEvent(String eventType, String aggregateKey, String payload) {
+        this.eventType = eventType;
+        this.aggregateKey = aggregateKey;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,31 @@
+package com.tjg_project.candy.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // ✅ 발행 대기 행을 잠그고 가져오기 (SKIP LOCKED → 서버 여러 대의 relay 가 같은 행을 중복 발행하지 않음)
+    @Query(value = "SELECT * FROM outbox_event " +
+            "WHERE published_at IS NULL AND attempts < :maxAttempts " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockPending(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    long countByPublishedAtIsNull();
+
+    // ✅ 아직 발행 전이거나 기준 시각 이후 발행된 이벤트의 aggregate_key (집계 재구성 시 이미 DB 에 반영된 이벤트 걸러내기용)
+    @Query(value = "SELECT aggregate_key FROM outbox_event " +
+            "WHERE event_type = :eventType AND aggregate_key IS NOT NULL " +
+            "AND (published_at IS NULL OR published_at >= :since)", nativeQuery = true)
+    List<String> findKeysUnpublishedOrPublishedSince(@Param("eventType") String eventType,
+                                                     @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
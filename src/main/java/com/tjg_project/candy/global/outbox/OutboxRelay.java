@@ -0,0 +1,111 @@
+package com.tjg_project.candy.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * outbox_event 의 발행 대기 행을 주기적으로 읽어 ApplicationEvent 로 발행
+ * - 한 번에 batch-size 건씩, 잠금 + 발행 표시를 한 트랜잭션으로 처리
+ * - 받는 쪽은 동기 @EventListener: 리스너가 끝난 뒤에만 발행 표시 → 실패하면 다음 주기에 다시 발행 (at-least-once)
+ *   (@TransactionalEventListener 는 발행 표시가 커밋된 뒤에 실행되어 실패하면 유실되므로 outbox 이벤트에는 쓰지 않는다)
+ * - 역직렬화 / 리스너 오류는 attempts 를 올리고 다음 주기에 재시도, max-attempts 를 넘으면 보류
+ * - 서버 1대 운영 가정: 여러 대면 SKIP LOCKED 로 행마다 한 서버만 발행하므로, 서버별 메모리 집계(BestSellerRanking 등)는
+ *   자기 서버에서 발행된 이벤트만 반영하고 나머지는 다음 재구성 때 DB 기준으로 맞춰진다
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        // 대기 행이 batch-size 만큼 꽉 차 있으면 이어서 처리
+        boolean more = true;
+        while (more) {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()));
+        }
+    }
+
+    private boolean relayBatch() {
+        List<OutboxEvent> rows = outboxEventRepository.lockPending(maxAttempts, batchSize);
+        LocalDateTime now = LocalDateTime.now();
+        int ok = 0;
+        for (OutboxEvent row : rows) {
+            try {
+                Object event = objectMapper.readValue(row.getPayload(), Class.forName(row.getEventType()));
+                // 리스너가 모두 성공해야 여기로 넘어온다
+                eventPublisher.publishEvent(event);
+                row.setPublishedAt(now);
+                published.increment();
+                ok++;
+            } catch (Exception e) {
+                row.setAttempts(row.getAttempts() + 1);
+                row.setLastError(truncate(e.toString()));
+                failed.increment();
+                log.warn("outbox 발행 실패 id={} type={} attempts={}: {}",
+                        row.getId(), row.getEventType(), row.getAttempts(), e.toString());
+            }
+        }
+        // 실패만 있는 배치에서 같은 행을 계속 붙잡지 않도록, 성공이 있을 때만 다음 배치로
+        return rows.size() == batchSize && ok > 0;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    @Scheduled(cron = "${outbox.cleanup-cron:0 15 5 * * *}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("outbox 발행 완료 행 정리: {}", deleted);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxEventRepository.countByPublishedAtIsNull());
+        stats.put("published", published.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+}
@@ -1,5 +1,7 @@
 package com.tjg_project.candy.global.util;
 
+import com.tjg_project.candy.domain.user.service.UserRoleCache;
+import lombok.extern.slf4j.Slf4j;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -9,21 +11,26 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+@Slf4j
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final UserRoleCache userRoleCache;
 
     @Autowired
-    public JwtFilter(JwtUtil jwtUtil) {
+    public JwtFilter(JwtUtil jwtUtil, UserRoleCache userRoleCache) {
         this.jwtUtil = jwtUtil;
+        this.userRoleCache = userRoleCache;
     }
 
     @Override
@@ -36,29 +43,29 @@ public class JwtFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            System.out.println("🧩 Incoming JWT: " + token);
 
             try {
-                // ✅ 토큰 유효성 검증
-                if (jwtUtil.validateToken(token)) {
-                    Long userId = jwtUtil.extractUserId(token);
-                    System.out.println("토큰에서 추출된 userId: " + userId);
-
+                // ✅ 토큰 검증 + userId 추출 한 번에 (최근 검증한 토큰은 캐시에서)
+                Long userId = jwtUtil.authenticate(token);
+                if (userId != null) {
+                    // ✅ users.role → ROLE_USER / ROLE_ADMIN (관리자 API 는 hasRole("ADMIN"))
+                    List<SimpleGrantedAuthority> authorities =
+                            List.of(new SimpleGrantedAuthority("ROLE_" + userRoleCache.roleOf(userId)));
                     UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userId, null, null);
+                            new UsernamePasswordAuthenticationToken(userId, null, authorities);
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 } else {
-                    System.out.println("⚠️ Invalid JWT → passing down filterChain (refresh expected)");
+                    log.debug("⚠️ Invalid JWT → passing down filterChain (refresh expected)");
                     // ❌ 여기서 return 금지! 그냥 아래로 흘려보내야 프론트 인터셉터가 401을 감지함
                 }
 
             } catch (ExpiredJwtException e) {
-                System.out.println("⚠️ AccessToken expired → passing down filterChain (refresh expected)");
+                log.debug("⚠️ AccessToken expired → passing down filterChain (refresh expected)");
                 // ❌ 이 경우도 return 금지 (refresh 요청 트리거용)
             } catch (JwtException | IllegalArgumentException e) {
-                System.out.println("⚠️ Malformed/Invalid JWT → passing down filterChain (refresh expected)");
+                log.debug("⚠️ Malformed/Invalid JWT → passing down filterChain (refresh expected)");
                 // ❌ 여기서 return 금지
             }
         }
@@ -1,9 +1,15 @@
 package com.tjg_project.candy.global.util;
 
+import lombok.extern.slf4j.Slf4j;
+import com.tjg_project.candy.global.cache.CacheStats;
+import com.tjg_project.candy.global.cache.LocalCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +20,7 @@ import java.util.Date;
 /**
  * JWT AccessToken 전용 유틸리티
  */
+@Slf4j
 @Component
 public class JwtUtil {
 
@@ -24,9 +31,25 @@ public class JwtUtil {
 // ✅ AccessToken: 10분
 //    private final long accessTokenExpiration = 1000 * 5;
 
+    // ✅ 서명 키로 한 번만 만들어 두고 재사용 (불변 + thread-safe)
+    private final JwtParser parser;
+
+    // ✅ 최근 검증한 토큰 (sha256 → userId), 토큰 exp 까지만 유지
+    private final LocalCache<String, Long> verifiedTokens;
+
     // ✅ secret이 주입된 뒤 Key 생성
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.cache.max-size:10000}") int verifiedCacheSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = new LocalCache<>("jwt.verified", verifiedCacheSize, accessTokenExpiration);
+    }
+
+    public JwtUtil(String secret) {
+        this(secret, 10_000);
     }
 
     /**
@@ -41,16 +64,41 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * ✅ 서명 + 만료 검증 후 claims 반환 (한 번만 파싱)
+     * @throws io.jsonwebtoken.JwtException 만료 / 위조 / 형식 오류
+     */
+    public Claims parseAndValidate(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * ✅ 요청 인증용: 최근 검증한 토큰이면 캐시에서 바로, 아니면 검증 후 exp 까지 캐시
+     * @throws io.jsonwebtoken.JwtException 만료 / 위조 / 형식 오류
+     */
+    public Long authenticate(String token) {
+        String hash = DigestUtils.sha256Hex(token);
+        Long cached = verifiedTokens.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parseAndValidate(token);
+        Long userId = claims.get("id", Long.class);
+        if (userId != null && claims.getExpiration() != null) {
+            verifiedTokens.put(hash, userId, claims.getExpiration().getTime());
+        }
+        return userId;
+    }
+
+    public CacheStats verifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
     /**
      * ✅ 토큰에서 사용자 id 추출
      */
     public Long extractUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("id", Long.class);
+        return parseAndValidate(token).get("id", Long.class);
     }
 
 //    /**
@@ -70,19 +118,16 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseAndValidate(token);
             return true;
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
-            System.out.println("❌ JWT expired: " + e.getMessage());
+            log.debug("❌ JWT expired: {}", e.getMessage());
         } catch (io.jsonwebtoken.MalformedJwtException e) {
-            System.out.println("❌ JWT malformed: " + e.getMessage());
+            log.debug("❌ JWT malformed: {}", e.getMessage());
         } catch (io.jsonwebtoken.SignatureException e) {
-            System.out.println("❌ JWT signature invalid: " + e.getMessage());
+            log.warn("❌ JWT signature invalid: {}", e.getMessage());
         } catch (Exception e) {
-            System.out.println("❌ JWT invalid: " + e.getMessage());
+            log.debug("❌ JWT invalid: {}", e.getMessage());
         }
         return false;
     }
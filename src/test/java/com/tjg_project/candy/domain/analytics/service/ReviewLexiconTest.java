@@ -0,0 +1,58 @@
+package com.tjg_project.candy.domain.analytics.service;
+
+import com.tjg_project.candy.domain.analytics.entity.Sentiment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사전 기반 리뷰 감성 / 키워드 추출 검증
+ */
+class ReviewLexiconTest {
+
+	@Test
+	void positiveReviewWithTasteAndPoints() {
+		ReviewLexicon.Result r = ReviewLexicon.analyze("달콤하고 바삭해서 정말 맛있어요! 가성비 최고, 재구매 의사 있습니다 [\"간식\"]");
+
+		assertEquals(Sentiment.POSITIVE, r.getSentiment());
+		assertEquals(List.of("달콤함", "바삭함"), r.getTasteKeywords());
+		assertTrue(r.getPositivePoints().containsAll(List.of("가성비", "재구매 의사", "간식용")));
+		assertTrue(r.getQualityIssues().isEmpty());
+	}
+
+	@Test
+	void qualityIssuesCountAsNegative() {
+		ReviewLexicon.Result r = ReviewLexicon.analyze("박스가 찌그러져서 왔고 과자가 다 부서져 있었어요. 유통기한도 얼마 안 남음");
+
+		assertEquals(Sentiment.NEGATIVE, r.getSentiment());
+		assertEquals(List.of("파손", "유통기한"), r.getQualityIssues());
+	}
+
+	@Test
+	void negationFlipsPolarity() {
+		assertEquals(Sentiment.NEGATIVE, ReviewLexicon.analyze("생각보다 맛있지 않아요").getSentiment());
+		assertEquals(Sentiment.NEGATIVE, ReviewLexicon.analyze("별로 안 좋아요").getSentiment());
+		assertEquals(Sentiment.NEGATIVE, ReviewLexicon.analyze("비추천합니다").getSentiment());
+		assertEquals(Sentiment.POSITIVE, ReviewLexicon.analyze("가격이 비싸지 않아서 좋네요").getSentiment());
+	}
+
+	@Test
+	void issueFollowedByAbsenceIsIgnored() {
+		ReviewLexicon.Result r = ReviewLexicon.analyze("파손 없이 잘 왔어요. 맛있습니다");
+
+		assertTrue(r.getQualityIssues().isEmpty());
+		assertEquals(Sentiment.POSITIVE, r.getSentiment());
+	}
+
+	@Test
+	void unknownTextIsEmptyNeutral() {
+		ReviewLexicon.Result r = ReviewLexicon.analyze("그럭저럭 먹을만 함");
+
+		assertEquals(Sentiment.NEUTRAL, r.getSentiment());
+		assertTrue(r.isEmpty());
+		assertTrue(ReviewLexicon.analyze(null).isEmpty());
+	}
+}
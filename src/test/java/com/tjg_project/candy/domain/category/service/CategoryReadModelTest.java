@@ -0,0 +1,71 @@
+package com.tjg_project.candy.domain.category.service;
+
+import com.tjg_project.candy.domain.category.dto.CategoryMainDto;
+import com.tjg_project.candy.domain.category.dto.CategorySubDto;
+import com.tjg_project.candy.domain.category.entity.CategoryMain;
+import com.tjg_project.candy.domain.category.entity.CategorySub;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카테고리 메뉴 프로젝션 (CategoryMainDto + CategorySubDto) 의 값과 쿼리 수
+ * - 실제 PostgreSQL 이 필요해서 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ * - 데이터를 직접 넣고 롤백한다
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@Transactional
+class CategoryReadModelTest {
+
+	@Autowired
+	private CategoryMainService categoryMainService;
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void categoryMenuIsTwoQueriesWithSubCategoriesAttached() {
+		CategoryMain main = new CategoryMain();
+		main.setName("읽기모델 대분류");
+		main.setDisplayOrder(99);
+		main.setUsed(true);
+		entityManager.persist(main);
+		for (int i = 1; i <= 3; i++) {
+			CategorySub sub = new CategorySub();
+			sub.setName("중분류" + i);
+			sub.setDisplayOrder(i);
+			sub.setUsed(i != 3);
+			sub.setMainCategory(main);
+			entityManager.persist(sub);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		List<CategoryMainDto> menu = categoryMainService.getList();
+		assertTrue(statistics.getPrepareStatementCount() <= 2, "쿼리 " + statistics.getPrepareStatementCount() + "회");
+
+		CategoryMainDto seeded = menu.stream()
+				.filter(m -> m.getId().equals(main.getId()))
+				.findFirst()
+				.orElseThrow();
+		assertEquals("읽기모델 대분류", seeded.getName());
+		assertEquals(99, seeded.getDisplayOrder());
+		assertTrue(seeded.isUsed());
+		assertEquals(List.of("중분류1", "중분류2", "중분류3"),
+				seeded.getSubCategories().stream().map(CategorySubDto::getName).toList());
+		assertEquals(List.of(true, true, false),
+				seeded.getSubCategories().stream().map(CategorySubDto::isUsed).toList());
+	}
+}
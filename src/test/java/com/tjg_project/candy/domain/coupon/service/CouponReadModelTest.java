@@ -0,0 +1,78 @@
+package com.tjg_project.candy.domain.coupon.service;
+
+import com.tjg_project.candy.domain.coupon.dto.UserCouponDto;
+import com.tjg_project.candy.domain.coupon.entity.Coupon;
+import com.tjg_project.candy.domain.coupon.entity.UserCoupon;
+import com.tjg_project.candy.domain.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 보유 쿠폰 프로젝션 (UserCouponDto) 의 값과 쿼리 수
+ * - 실제 PostgreSQL 이 필요해서 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ * - 데이터를 직접 넣고 롤백한다
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@Transactional
+class CouponReadModelTest {
+
+	@Autowired
+	private CouponService couponService;
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void myCouponsAreOneQueryEach() {
+		Users user = new Users();
+		String key = UUID.randomUUID().toString().substring(0, 8);
+		user.setUserId("rm-" + key);
+		user.setName("쿠폰");
+		user.setEmail("rm-" + key + "@test.local");
+		user.setPassword("x");
+		entityManager.persist(user);
+
+		// coupon_id 는 직접 지정하는 키라 기존 쿠폰 뒤 번호 사용
+		Long couponId = entityManager.createQuery("SELECT COALESCE(MAX(c.couponId), 0L) FROM Coupon c", Long.class)
+				.getSingleResult() + 1;
+		Coupon coupon = Coupon.builder().couponId(couponId).couponDcRate(15).couponQty(100).build();
+		entityManager.persist(coupon);
+		entityManager.persist(UserCoupon.builder().users(user).coupon(coupon).qty(2).isUsed(false).build());
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		List<UserCouponDto> coupons = withinOneQuery(statistics, () -> couponService.getUserCoupons(user.getId()));
+		assertEquals(1, coupons.size());
+		UserCouponDto mine = coupons.get(0);
+		assertEquals(2, mine.getQty());
+		assertFalse(mine.getIsUsed());
+		assertEquals(couponId, mine.getCoupon().getCouponId());
+		assertEquals(15, mine.getCoupon().getCouponDcRate());
+		assertEquals(100, mine.getCoupon().getCouponQty());
+
+		assertEquals(List.of(couponId), withinOneQuery(statistics, () -> couponService.getUserCouponIds(user.getId())));
+	}
+
+	private static <T> T withinOneQuery(Statistics statistics, Supplier<T> call) {
+		statistics.clear();
+		T result = call.get();
+		assertTrue(statistics.getPrepareStatementCount() <= 1, "쿼리 " + statistics.getPrepareStatementCount() + "회");
+		return result;
+	}
+}
@@ -0,0 +1,36 @@
+package com.tjg_project.candy.domain.excel.service;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 데이터 시트가 행 한도에 닿으면 같은 헤더로 다음 시트에 이어 쓰는지
+ */
+class StreamingExcelExportServiceTest {
+
+	@Test
+	void rowsPastSheetLimitRollOverToNextSheet() throws Exception {
+		try (SXSSFWorkbook workbook = new SXSSFWorkbook(10)) {
+			// 헤더 1행 + 데이터 3행씩
+			StreamingExcelExportService.RollingSheet sheet =
+					new StreamingExcelExportService.RollingSheet(workbook, 4, "DailySales", "날짜", "판매수량");
+			for (int i = 0; i < 7; i++) {
+				Row row = sheet.nextRow();
+				row.createCell(0).setCellValue("d" + i);
+			}
+
+			assertEquals(3, workbook.getNumberOfSheets());
+			assertEquals("DailySales", workbook.getSheetName(0));
+			assertEquals("DailySales 2", workbook.getSheetName(1));
+			assertEquals("DailySales 3", workbook.getSheetName(2));
+			assertEquals("날짜", workbook.getSheetAt(1).getRow(0).getCell(0).getStringCellValue());
+			assertEquals("d3", workbook.getSheetAt(1).getRow(1).getCell(0).getStringCellValue());
+			assertEquals(3, workbook.getSheetAt(0).getLastRowNum());
+			assertEquals(1, workbook.getSheetAt(2).getLastRowNum());
+			workbook.dispose();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.tjg_project.candy.domain.openai.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 로컬 스텁 OpenAI 서버로 응답 캐시 / 동시 요청 합치기 / 디스크 저장 확인
+ */
+class OpenAiServiceTest {
+
+	@TempDir
+	Path cacheDir;
+
+	private HttpServer server;
+	private String baseUrl;
+	private final AtomicInteger hits = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/v1/chat/completions", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			int n = hits.incrementAndGet();
+			try {
+				Thread.sleep(200); // 동시 요청이 겹치도록 느리게
+			} catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"answer-" + n + "\"}}]}");
+		});
+		server.setExecutor(Executors.newFixedThreadPool(8));
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private OpenAiService service(OpenAiResponseCache cache, String model) {
+		return new OpenAiService(new RestTemplate(), cache, "test-key", baseUrl, model);
+	}
+
+	private OpenAiResponseCache memoryCache() {
+		return new OpenAiResponseCache(100, 3600, "", 100);
+	}
+
+	@Test
+	void samePromptIsServedFromCache() {
+		OpenAiService openAi = service(memoryCache(), "gpt-4o-mini");
+
+		String first = openAi.ask("판매량 예측");
+		String second = openAi.ask("판매량 예측");
+
+		assertEquals(first, second);
+		assertEquals(1, hits.get());
+	}
+
+	@Test
+	void differentPromptOrModelCallsUpstream() {
+		OpenAiResponseCache cache = memoryCache();
+
+		service(cache, "gpt-4o-mini").ask("리뷰 분석 A");
+		service(cache, "gpt-4o-mini").ask("리뷰 분석 B");
+		service(cache, "gpt-4o").ask("리뷰 분석 A");
+
+		assertEquals(3, hits.get());
+	}
+
+	@Test
+	void concurrentIdenticalRequestsShareOneUpstreamCall() throws Exception {
+		OpenAiService openAi = service(memoryCache(), "gpt-4o-mini");
+		int callers = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return openAi.ask("동시 요청");
+				}));
+			}
+			start.countDown();
+			for (Future<String> f : results) {
+				assertEquals("answer-1", f.get());
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		assertEquals(1, hits.get());
+	}
+
+	@Test
+	void diskCacheSurvivesRestart() {
+		String dir = cacheDir.toString();
+		String before = service(new OpenAiResponseCache(100, 3600, dir, 100), "gpt-4o-mini").ask("재시작 전후");
+
+		// 새 인스턴스 = 메모리 캐시 비어 있음 (재시작)
+		String after = service(new OpenAiResponseCache(100, 3600, dir, 100), "gpt-4o-mini").ask("재시작 전후");
+
+		assertEquals(before, after);
+		assertEquals(1, hits.get());
+	}
+
+	@Test
+	void forgottenResponseIsFetchedAgain() {
+		OpenAiService openAi = service(new OpenAiResponseCache(100, 3600, cacheDir.toString(), 100), "gpt-4o-mini");
+
+		String first = openAi.ask("형식 오류");
+		openAi.forget("형식 오류");
+		String second = openAi.ask("형식 오류");
+
+		assertNotEquals(first, second);
+		assertEquals(2, hits.get());
+	}
+}
@@ -0,0 +1,89 @@
+package com.tjg_project.candy.domain.order.repository;
+
+import com.tjg_project.candy.domain.order.entity.DeliveryStatus;
+import com.tjg_project.candy.domain.order.entity.Order;
+import com.tjg_project.candy.domain.order.entity.OrderDetail;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주문 1건 저장 시 INSERT 가 JDBC 배치로 나가는지 (상세 1 / 10 / 100 줄, Hibernate Statistics 로 확인)
+ * - 실제 PostgreSQL 이 필요해서 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ * - 매 회 롤백하므로 데이터는 남지 않는다 (시퀀스 값만 소비)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class OrderInsertBenchmarkTest {
+
+	private static final int BATCH_SIZE = 50;       // hibernate.jdbc.batch_size
+	private static final int ROUNDS = 5;
+
+	@Autowired
+	private OrderRepository orderRepository;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void orderLinesAreInsertedInJdbcBatches() {
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		Statistics stats = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		for (int lines : new int[]{1, 10, 100}) {
+			int batches = (lines + BATCH_SIZE - 1) / BATCH_SIZE;
+			// 주문 INSERT 1 + 상세 배치 수 + 시퀀스 조회 (pooled 50 단위: 주문 1, 상세 최대 batches + 1)
+			long maxStatements = 1 + batches + 1 + (batches + 1);
+
+			for (int i = 0; i < ROUNDS; i++) {
+				stats.clear();
+				insertAndRollback(tx, lines);
+
+				assertEquals(1 + lines, stats.getEntityInsertCount(), "lines=" + lines);
+				assertEquals(1, stats.getFlushCount(), "lines=" + lines);
+				// 배치가 아니면 상세 줄마다 statement 를 준비한다
+				assertTrue(stats.getPrepareStatementCount() <= maxStatements,
+						"lines=" + lines + " prepared=" + stats.getPrepareStatementCount());
+			}
+		}
+	}
+
+	// save + flush 까지 (실제 INSERT 가 나가는 시점), 커밋 없이 롤백
+	private void insertAndRollback(TransactionTemplate tx, int lines) {
+		tx.executeWithoutResult(status -> {
+			orderRepository.save(newOrder(lines));
+			entityManager.flush();
+			status.setRollbackOnly();
+		});
+	}
+
+	private static Order newOrder(int lines) {
+		Order order = Order.builder()
+				.orderCode("bench-" + UUID.randomUUID())
+				.upk(0L)
+				.deliveryStatus(DeliveryStatus.READY)
+				.totalAmount(lines * 1000)
+				.receiverName("bench")
+				.build();
+		for (int i = 0; i < lines; i++) {
+			order.addOrderDetail(OrderDetail.builder()
+					.productName("bench-" + i)
+					.qty(1)
+					.price(1000)
+					.build());
+		}
+		return order;
+	}
+}
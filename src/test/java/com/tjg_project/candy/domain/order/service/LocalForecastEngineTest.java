@@ -0,0 +1,111 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.order.dto.DailySalesDto;
+import com.tjg_project.candy.domain.order.dto.ForecastBacktestDto;
+import com.tjg_project.candy.domain.order.dto.ForecastResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 통계 예측 엔진 (Holt-Winters / seasonal naive) 순수 계산 검증
+ */
+class LocalForecastEngineTest {
+
+	private static final int[] WEEK = {10, 12, 11, 13, 20, 35, 30}; // 주말에 많이 팔리는 패턴
+
+	// 주간 패턴 + 완만한 증가 + 잡음
+	private static double[] weeklySeries(int days, double noise) {
+		SplittableRandom random = new SplittableRandom(7);
+		double[] y = new double[days];
+		for (int i = 0; i < days; i++) {
+			y[i] = Math.max(0, WEEK[i % 7] + i * 0.02 + (random.nextDouble() - 0.5) * 2 * noise);
+		}
+		return y;
+	}
+
+	@Test
+	void dailySeriesFillsMissingDaysWithZero() {
+		LocalDate from = LocalDate.of(2025, 1, 1);
+		List<DailySalesDto> sales = List.of(
+				new DailySalesDto(from, 3L),
+				new DailySalesDto(from.plusDays(3), 5L));
+
+		double[] y = LocalForecastEngine.dailySeries(sales, from, from.plusDays(4));
+
+		assertArrayEquals(new double[]{3, 0, 0, 5, 0}, y);
+	}
+
+	@Test
+	void responseHasExpectedSizesAndNoNegatives() {
+		LocalDate start = LocalDate.of(2025, 3, 15);
+
+		ForecastResponseDto res = LocalForecastEngine.forecast(weeklySeries(120, 3), start);
+
+		assertEquals(7, res.getNext7Days().size());
+		assertEquals(30, res.getNext30Days().size());
+		assertEquals(12, res.getNext12Months().size());
+		assertEquals(365, res.getNext365Days().size());
+		assertEquals("local", res.getEngine());
+		assertTrue(res.getNext365Days().stream().allMatch(v -> v >= 0));
+		// 첫 달은 3/15 ~ 3/31 (17일) 이라 두 번째 달보다 작다
+		assertTrue(res.getNext12Months().get(0) < res.getNext12Months().get(1));
+	}
+
+	@Test
+	void holtWintersFollowsWeeklySeasonality() {
+		double[] y = weeklySeries(140, 0);
+
+		double[] f = LocalForecastEngine.holtWinters(y, 14);
+
+		for (int h = 0; h < 14; h++) {
+			double expected = WEEK[(140 + h) % 7] + (140 + h) * 0.02;
+			assertEquals(expected, f[h], 1.5, "h=" + h);
+		}
+	}
+
+	@Test
+	void shortHistoryFallsBackToSeasonalNaive() {
+		double[] y = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+		assertArrayEquals(LocalForecastEngine.seasonalNaive(y, 10), LocalForecastEngine.holtWinters(y, 10));
+		assertArrayEquals(new double[]{3, 4, 5, 6, 7, 8, 9, 3}, LocalForecastEngine.seasonalNaive(y, 8));
+		assertArrayEquals(new double[]{2, 2}, LocalForecastEngine.seasonalNaive(new double[]{1, 3}, 2));
+	}
+
+	@Test
+	void noSalesForecastsZero() {
+		ForecastResponseDto res = LocalForecastEngine.forecast(new double[0], LocalDate.of(2025, 1, 1));
+
+		assertTrue(res.getNext365Days().stream().allMatch(v -> v == 0));
+	}
+
+	@Test
+	void backtestReportsBothEnginesAndHoltWintersBeatsNaiveOnTrendingSeries() {
+		double[] y = weeklySeries(200, 2);
+
+		List<ForecastBacktestDto.Score> scores = LocalForecastEngine.backtest(y, 28, 3);
+
+		assertEquals(2, scores.size());
+		ForecastBacktestDto.Score hw = scores.get(0);
+		ForecastBacktestDto.Score naive = scores.get(1);
+		assertEquals(LocalForecastEngine.HOLT_WINTERS, hw.getEngine());
+		assertEquals(LocalForecastEngine.SEASONAL_NAIVE, naive.getEngine());
+		assertEquals(3, hw.getFolds());
+		assertTrue(hw.getMae() < naive.getMae(), hw.getMae() + " >= " + naive.getMae());
+		assertTrue(hw.getMase() < 1.5);
+	}
+
+	@Test
+	void backtestSkipsFoldsWithoutEnoughHistory() {
+		List<ForecastBacktestDto.Score> scores = LocalForecastEngine.backtest(weeklySeries(40, 1), 14, 5);
+
+		assertEquals(1, scores.get(0).getFolds()); // 40 - 14 = 26 만 학습 가능 (2주 이상)
+	}
+}
@@ -0,0 +1,152 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.tjg_project.candy.domain.coupon.service.CouponService;
+import com.tjg_project.candy.domain.order.dto.KakaoApproveResponse;
+import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import com.tjg_project.candy.domain.order.entity.PaymentSession;
+import com.tjg_project.candy.domain.order.repository.OrderRepository;
+import com.tjg_project.candy.domain.product.service.InventoryReservationLedger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카카오 승인 후 주문 저장이 실패할 때: 재시도해도 안 되는 오류는 승인 취소, 일시 오류는 승인을 남겨 재시도
+ */
+class OrderFinalizationServiceTest {
+
+	private static final String ORDER_ID = "O-1";
+	private static final String TID = "T1234567890";
+	private static final int AMOUNT = 5_000;
+
+	private OrderService orderService;
+	private OrderRepository orderRepository;
+	private KakaoPayService kakaoPayService;
+	private PaymentSessionService paymentSessionService;
+	private InventoryReservationLedger ledger;
+	private OrderFinalizationService service;
+
+	private PaymentSession session;
+	private KakaoApproveResponse approve;
+
+	@BeforeEach
+	void setUp() {
+		orderService = mock(OrderService.class);
+		orderRepository = mock(OrderRepository.class);
+		kakaoPayService = mock(KakaoPayService.class);
+		paymentSessionService = mock(PaymentSessionService.class);
+		ledger = mock(InventoryReservationLedger.class);
+		service = new OrderFinalizationService(orderService, orderRepository, mock(CouponService.class),
+				kakaoPayService, paymentSessionService, ledger, mock(PlatformTransactionManager.class));
+
+		session = new PaymentSession(ORDER_ID, PaymentSession.KAKAO, "{}", TID, LocalDateTime.now().plusMinutes(10));
+		approve = new KakaoApproveResponse();
+		approve.setTid(TID);
+		KakaoApproveResponse.Amount amount = new KakaoApproveResponse.Amount();
+		amount.setTotal(AMOUNT);
+		approve.setAmount(amount);
+
+		when(paymentSessionService.claim(ORDER_ID, PaymentSession.KAKAO)).thenReturn(Optional.of(session));
+		when(paymentSessionService.payload(session, KakaoPay.class)).thenReturn(new KakaoPay());
+		when(paymentSessionService.approval(session, KakaoApproveResponse.class)).thenReturn(Optional.empty());
+		when(kakaoPayService.approve(ORDER_ID, TID, "pg")).thenReturn(approve);
+	}
+
+	@Test
+	void stockShortageAfterApprovalCancelsPayment() {
+		when(orderService.saveOrder(any(KakaoApproveResponse.class), any(KakaoPay.class)))
+				.thenThrow(new IllegalStateException("재고가 부족한 상품이 있습니다: [1]"));
+
+		assertEquals(OrderFinalizationService.Result.CANCELLED, service.finalizeKakao(ORDER_ID, "pg"));
+
+		verify(kakaoPayService).cancel(TID, AMOUNT);
+		verify(paymentSessionService).close(ORDER_ID);
+		verify(ledger).release(ORDER_ID);
+		verify(paymentSessionService).releaseClaim(ORDER_ID);
+	}
+
+	@Test
+	void hotDealShortageBeforeTransactionCancelsPayment() {
+		doThrow(new IllegalStateException("재고가 부족한 상품이 있습니다: [1]"))
+				.when(ledger).ensureReserved(eq(ORDER_ID), any());
+
+		assertEquals(OrderFinalizationService.Result.CANCELLED, service.finalizeKakao(ORDER_ID, "pg"));
+
+		verify(orderService, never()).saveOrder(any(KakaoApproveResponse.class), any(KakaoPay.class));
+		verify(kakaoPayService).cancel(TID, AMOUNT);
+		verify(ledger).release(ORDER_ID);
+	}
+
+	@Test
+	void failedCancelKeepsApprovalForNextAttempt() {
+		when(orderService.saveOrder(any(KakaoApproveResponse.class), any(KakaoPay.class)))
+				.thenThrow(new IllegalStateException("재고가 부족한 상품이 있습니다: [1]"));
+		doThrow(new ResourceAccessException("kakao down")).when(kakaoPayService).cancel(anyString(), anyInt());
+
+		assertThrows(ResourceAccessException.class, () -> service.finalizeKakao(ORDER_ID, "pg"));
+
+		// 승인은 세션에 남아 다음 콜백 / 만료 정리 때 다시 취소
+		verify(paymentSessionService).saveApproval(ORDER_ID, approve);
+		verify(paymentSessionService, never()).close(ORDER_ID);
+		verify(paymentSessionService).releaseClaim(ORDER_ID);
+	}
+
+	@Test
+	void transientFailureKeepsApprovalWithoutCancelling() {
+		when(orderService.saveOrder(any(KakaoApproveResponse.class), any(KakaoPay.class)))
+				.thenThrow(new QueryTimeoutException("timeout"));
+
+		assertThrows(QueryTimeoutException.class, () -> service.finalizeKakao(ORDER_ID, "pg"));
+
+		verify(paymentSessionService).saveApproval(ORDER_ID, approve);
+		verify(kakaoPayService, never()).cancel(anyString(), anyInt());
+		verify(paymentSessionService, never()).close(ORDER_ID);
+	}
+
+	@Test
+	void retryReusesStoredApproval() {
+		when(paymentSessionService.approval(session, KakaoApproveResponse.class)).thenReturn(Optional.of(approve));
+
+		assertEquals(OrderFinalizationService.Result.COMPLETED, service.finalizeKakao(ORDER_ID, "pg"));
+
+		verify(kakaoPayService, never()).approve(anyString(), anyString(), anyString());
+		verify(orderService).saveOrder(approve, new KakaoPay());
+		verify(paymentSessionService).close(ORDER_ID);
+	}
+
+	@Test
+	void expiredApprovalWithoutOrderIsCancelled() {
+		PaymentSession saved = new PaymentSession(ORDER_ID, PaymentSession.KAKAO, "{}", TID,
+				LocalDateTime.now().minusMinutes(1), "{}", null);
+		PaymentSession completed = new PaymentSession("O-2", PaymentSession.KAKAO, "{}", "T2",
+				LocalDateTime.now().minusMinutes(1), "{}", null);
+		when(paymentSessionService.expiredApprovals(anyInt())).thenReturn(List.of(saved, completed));
+		when(paymentSessionService.approval(saved, KakaoApproveResponse.class)).thenReturn(Optional.of(approve));
+		when(orderRepository.existsByOrderCode("O-2")).thenReturn(true);
+
+		service.cancelAbandonedApprovals();
+
+		verify(kakaoPayService).cancel(TID, AMOUNT);
+		verify(kakaoPayService, never()).cancel("T2", AMOUNT);
+		verify(paymentSessionService).close(ORDER_ID);
+		verify(paymentSessionService).close("O-2");
+	}
+}
@@ -0,0 +1,161 @@
+package com.tjg_project.candy.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjg_project.candy.domain.order.dto.CartItemDto;
+import com.tjg_project.candy.domain.order.dto.OrderDetailDto;
+import com.tjg_project.candy.domain.order.dto.OrderSummaryDto;
+import com.tjg_project.candy.domain.order.entity.Cart;
+import com.tjg_project.candy.domain.order.entity.DeliveryStatus;
+import com.tjg_project.candy.domain.order.entity.Order;
+import com.tjg_project.candy.domain.order.entity.OrderDetail;
+import com.tjg_project.candy.domain.product.entity.Product;
+import com.tjg_project.candy.domain.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 장바구니 / 주문 내역 프로젝션 (CartItemDto, OrderSummaryDto) 의 값과 쿼리 수
+ * - 실제 PostgreSQL 이 필요해서 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ * - 테스트마다 데이터를 직접 넣고 롤백한다
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@Transactional
+class OrderReadModelTest {
+
+	private static final String PASSWORD_HASH = "$2a$10$readModelTestPasswordHash";
+
+	@Autowired
+	private CartService cartService;
+	@Autowired
+	private OrderService orderService;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Statistics statistics;
+	private Users user;
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		user = new Users();
+		String key = UUID.randomUUID().toString().substring(0, 8);
+		user.setUserId("rm-" + key);
+		user.setName("읽기모델");
+		user.setEmail("rm-" + key + "@test.local");
+		user.setPassword(PASSWORD_HASH);
+		user.setRole("USER");
+		entityManager.persist(user);
+
+		product = new Product();
+		product.setUser(user);
+		product.setProductName("테스트 초코파이");
+		product.setBrandName("오리온");
+		product.setPrice(4800);
+		product.setDc(10);
+		product.setCount(30);
+		entityManager.persist(product);
+	}
+
+	@Test
+	void cartListIsOneQueryWithProductColumns() throws Exception {
+		for (int qty = 1; qty <= 3; qty++) {
+			entityManager.persist(Cart.builder().user(user).product(product).qty(qty).addedAt(LocalDateTime.now()).build());
+		}
+		flushAndClear();
+
+		List<CartItemDto> items = withinQueries(() -> cartService.cartList(user.getId()), 1);
+
+		assertEquals(3, items.size());
+		assertEquals(6, items.stream().mapToInt(CartItemDto::getQty).sum());
+		CartItemDto.ProductInfo info = items.get(0).getProduct();
+		assertEquals(product.getId(), info.getId());
+		assertEquals("테스트 초코파이", info.getProductName());
+		assertEquals("오리온", info.getBrandName());
+		assertEquals(4800, info.getPrice());
+		assertEquals(10, info.getDc());
+		assertEquals(30, info.getCount());
+		// 유저 엔티티(비밀번호)는 응답에 없어야 함
+		assertFalse(objectMapper.writeValueAsString(items).contains(PASSWORD_HASH));
+	}
+
+	@Test
+	void myOrdersAreTwoQueriesRegardlessOfOrderCount() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			Order order = Order.builder()
+					.orderCode("rm-" + UUID.randomUUID())
+					.upk(user.getId())
+					.totalAmount(9600)
+					.receiverName("받는사람" + i)
+					.deliveryStatus(DeliveryStatus.READY)
+					.tid("T-rm-" + UUID.randomUUID().toString().substring(0, 20))
+					.build();
+			order.addOrderDetail(OrderDetail.builder().ppk(product.getId()).productName("주문 당시 이름").qty(2).price(4800).build());
+			order.addOrderDetail(OrderDetail.builder().ppk(null).productName("삭제된 상품").qty(1).price(1000).build());
+			entityManager.persist(order);
+		}
+		flushAndClear();
+
+		List<OrderSummaryDto> orders = withinQueries(() -> orderService.getOrdersByUser(user.getId()), 2);
+
+		assertEquals(3, orders.size());
+		for (OrderSummaryDto order : orders) {
+			assertEquals(user.getId(), order.getUpk());
+			assertEquals(9600, order.getTotalAmount());
+			assertEquals(DeliveryStatus.READY, order.getDeliveryStatus());
+			assertEquals(2, order.getOrderDetails().size());
+
+			OrderDetailDto kept = detailNamed(order, "주문 당시 이름");
+			assertEquals(2, kept.getQty());
+			assertEquals("테스트 초코파이", kept.getProduct().getProductName());
+			assertEquals(4800, kept.getProduct().getPrice());
+			assertNull(detailNamed(order, "삭제된 상품").getProduct());
+		}
+		// 결제 TID 는 응답에 없어야 함
+		assertFalse(objectMapper.writeValueAsString(orders).contains("T-rm-"));
+	}
+
+	private static OrderDetailDto detailNamed(OrderSummaryDto order, String name) {
+		return order.getOrderDetails().stream()
+				.filter(d -> name.equals(d.getProductName()))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	// 넣은 데이터가 영속성 컨텍스트에서 읽히지 않도록 비움
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	// 조회 + 직렬화까지 실행된 SQL 수가 기대값 이하인지
+	private <T> T withinQueries(Supplier<T> call, long maxQueries) throws Exception {
+		statistics.clear();
+		T result = call.get();
+		objectMapper.writeValueAsString(result);
+		long queries = statistics.getPrepareStatementCount();
+		assertTrue(queries <= maxQueries, "쿼리 " + queries + "회 (기대 ≤ " + maxQueries + ")");
+		return result;
+	}
+}
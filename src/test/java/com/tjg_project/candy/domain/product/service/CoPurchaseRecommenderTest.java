@@ -0,0 +1,65 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.order.repository.OrderDetailRepository;
+import com.tjg_project.candy.domain.user.repository.UserViewLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 유저의 조회 세션이 묶음 경계 / 갱신 주기를 넘어도 이어지는지
+ */
+class CoPurchaseRecommenderTest {
+
+	private static final int VIEW_BATCH_SIZE = 2;
+
+	private UserViewLogRepository views;
+	private CoPurchaseRecommender recommender;
+
+	@BeforeEach
+	void setUp() {
+		views = mock(UserViewLogRepository.class);
+		recommender = new CoPurchaseRecommender(mock(OrderDetailRepository.class), views,
+				20, 500, 4, 1, 30, 60, 2000, VIEW_BATCH_SIZE);
+	}
+
+	@Test
+	void sessionSpanningPageBoundaryIsPaired() {
+		LocalDateTime t = LocalDateTime.now().minusHours(3);
+		when(views.findViewsAfter(0L, VIEW_BATCH_SIZE)).thenReturn(List.of(
+				view(1, 1, 10, t),
+				view(2, 2, 99, t)));
+		when(views.findViewsAfter(2L, VIEW_BATCH_SIZE)).thenReturn(List.<Object[]>of(
+				view(3, 1, 20, t.plusMinutes(5))));
+
+		recommender.refresh();
+
+		assertEquals(List.of(20L), recommender.alsoBought(10L, 10));
+		assertEquals(List.of(), recommender.alsoBought(99L, 10));
+	}
+
+	@Test
+	void sessionSpanningRefreshesIsPaired() {
+		LocalDateTime now = LocalDateTime.now();
+		when(views.findViewsAfter(0L, VIEW_BATCH_SIZE)).thenReturn(List.<Object[]>of(
+				view(1, 1, 10, now.minusMinutes(10))));
+		recommender.refresh();
+
+		when(views.findViewsAfter(1L, VIEW_BATCH_SIZE)).thenReturn(List.<Object[]>of(
+				view(2, 1, 20, now.minusMinutes(5))));
+		recommender.refresh();
+		assertEquals(List.of(20L), recommender.alsoBought(10L, 10));
+	}
+
+	// (id, upk, ppk, first_viewed_at)
+	private static Object[] view(long id, long upk, long ppk, LocalDateTime firstViewedAt) {
+		return new Object[]{id, upk, ppk, Timestamp.valueOf(firstViewedAt)};
+	}
+}
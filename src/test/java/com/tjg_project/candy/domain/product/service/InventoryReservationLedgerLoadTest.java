@@ -0,0 +1,174 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.order.entity.KakaoPay;
+import com.tjg_project.candy.domain.product.entity.Product;
+import com.tjg_project.candy.domain.product.repository.ProductRepository;
+import com.tjg_project.candy.domain.product.repository.ProductStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 핫딜 상품 1개에 예약이 몰릴 때 (서버 2대가 같은 DB 재고를 나눠 팔 때) 초과 판매 없이 처리되는지 확인
+ */
+class InventoryReservationLedgerLoadTest {
+
+	private static final long HOT_PRODUCT_ID = 1L;
+	private static final int STOCK = 200_000;
+	private static final int THREADS = 16;
+	private static final int ATTEMPTS_PER_THREAD = 20_000;
+	private static final int CLAIM_SIZE = 20;
+
+	private FakeStockRepository stock;
+	private InventoryReservationLedger nodeA;
+	private InventoryReservationLedger nodeB;
+
+	@BeforeEach
+	void setUp() {
+		Product hotDeal = new Product();
+		hotDeal.setId(HOT_PRODUCT_ID);
+		hotDeal.setHotDeal(true);
+		hotDeal.setCount(STOCK);
+
+		ProductRepository productRepository = mock(ProductRepository.class);
+		when(productRepository.findById(HOT_PRODUCT_ID)).thenReturn(Optional.of(hotDeal));
+		stock = new FakeStockRepository(STOCK);
+
+		nodeA = new InventoryReservationLedger(productRepository, stock, mock(ApplicationEventPublisher.class),
+				900, CLAIM_SIZE, 0, 10, 300);
+		nodeB = new InventoryReservationLedger(productRepository, stock, mock(ApplicationEventPublisher.class),
+				900, CLAIM_SIZE, 0, 10, 300);
+	}
+
+	@Test
+	void sustainedReservationsOnSingleHotSkuAcrossTwoNodes() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicLong succeeded = new AtomicLong();
+
+		for (int t = 0; t < THREADS; t++) {
+			int thread = t;
+			InventoryReservationLedger ledger = t % 2 == 0 ? nodeA : nodeB;
+			pool.submit(() -> {
+				start.await();
+				for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+					String orderId = thread + "-" + i;
+					if (ledger.reserve(orderId, List.of(item(HOT_PRODUCT_ID, 1)))) {
+						// 결제 성공 3건당 1건은 취소
+						if (i % 4 == 3) {
+							ledger.release(orderId);
+						} else {
+							ledger.commit(orderId);
+							succeeded.incrementAndGet();
+						}
+					}
+				}
+				return null;
+			});
+		}
+
+		start.countDown();
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+		// 확정 시도(240,000)가 재고(200,000)보다 많지만 초과 판매는 없어야 함
+		// (끝무렵 다른 서버가 가져가 두고 아직 못 판 묶음 + 스레드별 마지막 취소분만큼은 남을 수 있음)
+		long sold = succeeded.get();
+		assertTrue(sold <= STOCK, "초과 판매 " + sold);
+		assertTrue(sold >= STOCK - 2 * CLAIM_SIZE - THREADS, "판매 가능한 재고가 남음 " + sold);
+		assertEquals(0, nodeA.stats().get("activeReservations"));
+		assertEquals(0, nodeB.stats().get("activeReservations"));
+		assertEquals(sold, (long) nodeA.stats().get("committed") + (long) nodeB.stats().get("committed"));
+		assertTrue(stock.minCount >= 0);
+
+		// 팔지 않은 수량을 되돌리면 DB 재고 = 초기 재고 - 판매 수량
+		nodeA.returnAll();
+		nodeB.returnAll();
+		assertEquals(STOCK - sold, stock.count);
+		// 주문마다가 아니라 묶음마다 DB 갱신
+		assertTrue(stock.claims <= sold / CLAIM_SIZE + 2 * THREADS, "claims " + stock.claims);
+	}
+
+	@Test
+	void shutdownReturnsUnreservedStockOfCellsWithOpenReservations() {
+		assertTrue(nodeA.reserve("open", List.of(item(HOT_PRODUCT_ID, 1))));
+
+		nodeA.returnAll();
+
+		// 결제 중인 1개만 빠지고 묶음의 나머지는 DB 로 (결제 중인 수량은 기록에 남아 커밋 / 회수로 정리)
+		assertEquals(STOCK - 1, stock.count);
+	}
+
+	private static KakaoPay.ProductInfo item(Long pid, long qty) {
+		KakaoPay.ProductInfo info = new KakaoPay.ProductInfo();
+		info.setPid(pid);
+		info.setQty(qty);
+		return info;
+	}
+
+	/**
+	 * product 테이블 대신 재고 하나를 조건부 차감 / 반환
+	 */
+	private static final class FakeStockRepository extends ProductStockRepository {
+		private long count;
+		private long minCount;
+		private long claims;
+
+		private FakeStockRepository(long count) {
+			super(mock(DataSource.class));
+			this.count = count;
+			this.minCount = count;
+		}
+
+		@Override
+		public synchronized StockClaim claim(String nodeId, Long productId, long need, long max) {
+			if (count < need) {
+				return null;
+			}
+			long qty = Math.min(count, max);
+			count -= qty;
+			minCount = Math.min(minCount, count);
+			claims++;
+			return new StockClaim(qty, count);
+		}
+
+		@Override
+		public synchronized Map<Long, Long> restore(String nodeId, Map<Long, Long> qtyByProductId) {
+			Map<Long, Long> counts = new HashMap<>();
+			qtyByProductId.forEach((id, qty) -> {
+				count += qty;
+				counts.put(id, count);
+			});
+			return counts;
+		}
+
+		@Override
+		public void consumeClaims(String nodeId, Map<Long, Long> qtyByProductId) {
+		}
+
+		@Override
+		public void heartbeat(String nodeId) {
+		}
+
+		@Override
+		public List<StockReturn> reclaimStale(long leaseSeconds) {
+			return List.of();
+		}
+	}
+}
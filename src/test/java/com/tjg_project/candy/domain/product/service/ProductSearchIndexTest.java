@@ -0,0 +1,127 @@
+package com.tjg_project.candy.domain.product.service;
+
+import com.tjg_project.candy.domain.product.dto.ProductSearchDocument;
+import com.tjg_project.candy.domain.product.dto.ProductSearchFilter;
+import com.tjg_project.candy.domain.product.dto.ProductSearchResponse;
+import com.tjg_project.candy.domain.product.dto.ProductSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 상품 검색 색인 (부분 일치 / 초성 / 오타 / 필터 / 변경 반영)
+ */
+class ProductSearchIndexTest {
+
+	private ProductSearchIndex index;
+
+	private static ProductSearchDocument doc(long id, String name, String brand, String description, String category,
+	                                         int price, int dc) {
+		return new ProductSearchDocument(id, "P" + id, null, brand, name, price, dc, 10, dc > 0, false,
+				LocalDate.of(2025, 1, 1), 1L, description, category);
+	}
+
+	private List<Long> ids(String query) {
+		return ids(index.search(query, null, 0, 20));
+	}
+
+	private static List<Long> ids(ProductSearchResponse res) {
+		return res.getItems().stream().map(ProductSummaryDto::getId).toList();
+	}
+
+	@BeforeEach
+	void setUp() {
+		index = new ProductSearchIndex(300);
+		index.upsertAll(List.of(
+				doc(1, "초코파이 정", "오리온", "부드러운 마시멜로와 초콜릿", "파이", 4800, 0),
+				doc(2, "빼빼로 아몬드", "롯데", "초코 코팅 과자", "스낵", 1700, 10),
+				doc(3, "새우깡", "농심", "고소한 새우 스낵", "스낵", 1500, 0),
+				doc(4, "허니버터칩", "해태", "달콤한 허니버터 감자칩", "스낵", 2000, 20),
+				doc(5, "몽쉘 크림케이크", "롯데", "초코파이 같은 케이크", "파이", 5200, 0)));
+	}
+
+	@Test
+	void partialWordMatchesAndNameOutranksDescription() {
+		List<Long> ids = ids("초코파이");
+
+		assertEquals(1L, ids.get(0)); // 상품명 일치가 설명 일치(5)보다 위
+		assertTrue(ids.contains(5L));
+		assertEquals(List.of(4L), ids("버터"));
+	}
+
+	@Test
+	void chosungQuery() {
+		assertEquals(1L, ids("ㅊㅋㅍㅇ").get(0));
+		assertEquals(List.of(3L), ids("ㅅㅇㄲ"));
+	}
+
+	@Test
+	void typoTolerant() {
+		assertEquals(1L, ids("쵸코파이").get(0));
+		assertEquals(2L, ids("빼빼루").get(0));
+	}
+
+	@Test
+	void brandAndCategoryAreSearchable() {
+		assertEquals(List.of(2L, 5L), ids("롯데").stream().sorted().toList());
+		assertTrue(ids("스낵").containsAll(List.of(2L, 3L, 4L)));
+	}
+
+	@Test
+	void filtersAndPaging() {
+		ProductSearchFilter hotDeal = new ProductSearchFilter(null, null, null, true, null, null);
+		assertEquals(List.of(2L, 4L), ids(index.search("스낵", hotDeal, 0, 20)).stream().sorted().toList());
+
+		ProductSearchFilter cheap = new ProductSearchFilter(null, 1800, null, null, null, null);
+		assertEquals(List.of(2L, 3L), ids(index.search("스낵", cheap, 0, 20)).stream().sorted().toList());
+
+		ProductSearchResponse first = index.search("스낵", null, 0, 2);
+		ProductSearchResponse second = index.search("스낵", null, 1, 2);
+		assertEquals(3, first.getTotal());
+		assertTrue(first.isHasNext());
+		assertFalse(second.isHasNext());
+		assertEquals(1, second.getItems().size());
+		assertFalse(ids(first).contains(ids(second).get(0)));
+	}
+
+	@Test
+	void blankQueryReturnsFilteredProducts() {
+		ProductSearchResponse res = index.search(" ", new ProductSearchFilter(null, null, 10, null, null, null), 0, 20);
+
+		assertEquals(List.of(2L, 4L), ids(res).stream().sorted().toList());
+	}
+
+	@Test
+	void updateAndRemoveAreReflected() {
+		index.upsert(doc(3, "새우탕면", "농심", "얼큰한 컵라면", "라면", 1300, 0));
+		assertTrue(ids("우깡").isEmpty()); // 이전 상품명 토큰은 빠짐
+		assertEquals(List.of(3L), ids("새우탕"));
+
+		// 글자가 그대로면 가격만 바뀐다
+		index.upsert(doc(3, "새우탕면", "농심", "얼큰한 컵라면", "라면", 900, 0));
+		assertEquals(900, index.search("새우탕", null, 0, 20).getItems().get(0).getPrice());
+
+		index.remove(3L);
+		assertTrue(ids("새우탕").isEmpty());
+		assertEquals(4, index.size());
+	}
+
+	@Test
+	void pagesBeyondResultWindowAreEmpty() {
+		ProductSearchResponse res = index.search("스낵", null, Integer.MAX_VALUE, 100);
+
+		assertTrue(res.getItems().isEmpty());
+		assertEquals(index.search("스낵", null, 0, 100).getTotal(), res.getTotal());
+		assertFalse(res.isHasNext());
+
+		ProductSearchResponse deep = index.search(null, null, ProductSearchIndex.MAX_RESULT_WINDOW / 20, 20);
+		assertTrue(deep.getItems().isEmpty());
+		assertFalse(deep.isHasNext());
+	}
+}
@@ -0,0 +1,87 @@
+package com.tjg_project.candy.domain.recipe.service;
+
+import com.tjg_project.candy.domain.category.entity.CategoryMain;
+import com.tjg_project.candy.domain.category.entity.CategorySub;
+import com.tjg_project.candy.domain.recipe.dto.RecipeDetailResponseDto;
+import com.tjg_project.candy.domain.recipe.dto.ReviewResponseDto;
+import com.tjg_project.candy.domain.recipe.entity.Recipe;
+import com.tjg_project.candy.domain.recipe.entity.RecipeReview;
+import com.tjg_project.candy.domain.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 레시피 상세 프로젝션 (후기 작성자 이름 join) 의 값과 쿼리 수
+ * - 실제 PostgreSQL 이 필요해서 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ * - 데이터를 직접 넣고 롤백한다
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+@Transactional
+class RecipeReadModelTest {
+
+	private static final int REVIEWS = 5;
+
+	@Autowired
+	private RecipeService recipeService;
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void recipeDetailIsTwoQueriesRegardlessOfReviewCount() {
+		CategoryMain main = new CategoryMain();
+		main.setName("레시피 대분류");
+		entityManager.persist(main);
+		CategorySub sub = new CategorySub();
+		sub.setName("레시피 중분류");
+		sub.setMainCategory(main);
+		entityManager.persist(sub);
+
+		Recipe recipe = Recipe.builder()
+				.title("초코 쿠키")
+				.subCategory(sub)
+				.cookTime(30)
+				.ingredients("[\"초콜릿\",\"버터\"]")
+				.steps("[\"녹인다\",\"굽는다\"]")
+				.build();
+		entityManager.persist(recipe);
+
+		// 후기마다 다른 작성자 (작성자를 따로 로딩하면 후기 수만큼 쿼리가 늘어남)
+		for (int i = 0; i < REVIEWS; i++) {
+			Users user = new Users();
+			String key = UUID.randomUUID().toString().substring(0, 8);
+			user.setUserId("rm-" + key);
+			user.setName("작성자" + i);
+			user.setEmail("rm-" + key + "@test.local");
+			user.setPassword("x");
+			entityManager.persist(user);
+			entityManager.persist(RecipeReview.builder().recipe(recipe).user(user).rating(4.5).content("맛있어요" + i).build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		RecipeDetailResponseDto detail = recipeService.getRecipeDetail(recipe.getId());
+		assertTrue(statistics.getPrepareStatementCount() <= 2, "쿼리 " + statistics.getPrepareStatementCount() + "회");
+
+		assertEquals("초코 쿠키", detail.getRecipe().getTitle());
+		assertEquals(List.of("초콜릿", "버터"), detail.getRecipe().getIngredients());
+		assertEquals(REVIEWS, detail.getReviews().size());
+		List<String> authors = detail.getReviews().stream().map(ReviewResponseDto::getUsername).sorted().toList();
+		assertEquals(List.of("작성자0", "작성자1", "작성자2", "작성자3", "작성자4"), authors);
+		assertTrue(detail.getReviews().stream().allMatch(r -> r.getRating() == 4.5 && r.getContent().startsWith("맛있어요")));
+	}
+}
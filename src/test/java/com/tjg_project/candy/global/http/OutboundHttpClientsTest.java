@@ -0,0 +1,204 @@
+package com.tjg_project.candy.global.http;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tjg_project.candy.global.metrics.DownstreamMetrics;
+import com.tjg_project.candy.global.metrics.LatencySnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로컬 스텁 서버(com.sun.net.httpserver)에 붙여서 재시도 / 서킷 / 타임아웃 / 지연시간 기록 확인
+ */
+class OutboundHttpClientsTest {
+
+	private HttpServer server;
+	private String baseUrl;
+
+	// 앞의 N 번은 503, 이후 200
+	private final AtomicInteger failFirst = new AtomicInteger();
+	private final AtomicInteger flakyHits = new AtomicInteger();
+	private final AtomicInteger postHits = new AtomicInteger();
+
+	private DownstreamMetrics metrics;
+	private OutboundHttpClients clients;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/flaky", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			int hit = flakyHits.incrementAndGet();
+			respond(exchange, hit <= failFirst.get() ? 503 : 200, "ok");
+		});
+		server.createContext("/v1/payment/ready", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			postHits.incrementAndGet();
+			respond(exchange, 503, "down");
+		});
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(1_000);
+			} catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "late");
+		});
+		server.setExecutor(Executors.newFixedThreadPool(4));
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+		metrics = new DownstreamMetrics();
+		clients = new OutboundHttpClients(metrics);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private DownstreamSettings.DownstreamSettingsBuilder settings(String name) {
+		return DownstreamSettings.builder()
+				.name(name)
+				.connectTimeout(Duration.ofMillis(500))
+				.readTimeout(Duration.ofMillis(300))
+				.backoff(Duration.ofMillis(5))
+				.maxBackoff(Duration.ofMillis(20));
+	}
+
+	@Test
+	void idempotentRequestIsRetriedUntilSuccess() {
+		failFirst.set(2);
+		RestTemplate rest = clients.create(settings("stub").maxRetries(2).build(), OutboundHttpClients::lastPathSegment);
+
+		String body = rest.exchange(baseUrl + "/flaky", HttpMethod.PUT, new HttpEntity<>("file"), String.class).getBody();
+
+		assertEquals("ok", body);
+		assertEquals(3, flakyHits.get());
+
+		DownstreamStats stats = clients.stats().get(0);
+		assertEquals(1, stats.getRequests());
+		assertEquals(2, stats.getRetries());
+
+		LatencySnapshot latency = metrics.snapshot().get(0);
+		assertEquals("stub.flaky", latency.getName());
+		assertEquals(3, latency.getCount());
+		assertEquals(2, latency.getErrors());
+	}
+
+	@Test
+	void postIsNotRetriedByDefault() {
+		RestTemplate rest = clients.create(settings("kakao").maxRetries(3).build(), OutboundHttpClients::lastPathSegment);
+
+		assertThrows(HttpServerErrorException.class,
+				() -> rest.postForObject(baseUrl + "/v1/payment/ready", "x", String.class));
+		assertEquals(1, postHits.get());
+		assertEquals("kakao.ready", metrics.snapshot().get(0).getName());
+	}
+
+	@Test
+	void circuitOpensAfterConsecutiveFailures() {
+		failFirst.set(Integer.MAX_VALUE);
+		RestTemplate rest = clients.create(
+				settings("stub").maxRetries(0).failureThreshold(3).openDuration(Duration.ofMinutes(1)).build(),
+				request -> "get");
+
+		for (int i = 0; i < 3; i++) {
+			assertThrows(HttpServerErrorException.class, () -> rest.getForObject(baseUrl + "/flaky", String.class));
+		}
+		assertThrows(CircuitOpenException.class, () -> rest.getForObject(baseUrl + "/flaky", String.class));
+
+		// 열린 뒤에는 서버까지 가지 않는다
+		assertEquals(3, flakyHits.get());
+		DownstreamStats stats = clients.stats().get(0);
+		assertEquals("OPEN", stats.getCircuit());
+		assertEquals(1, stats.getShortCircuited());
+	}
+
+	@Test
+	void halfOpenProbeEndingInRuntimeExceptionReopensCircuit() throws InterruptedException {
+		failFirst.set(1);
+		RestTemplate rest = clients.create(
+				settings("stub").maxRetries(0).failureThreshold(1).openDuration(Duration.ofMillis(50)).build(),
+				request -> "get");
+		// 시험 호출 중 IOException 이 아닌 예외 (뒤쪽 인터셉터 / 변환 오류 등)
+		AtomicInteger explode = new AtomicInteger();
+		rest.getInterceptors().add((request, body, execution) -> {
+			if (explode.getAndDecrement() > 0) {
+				throw new IllegalStateException("boom");
+			}
+			return execution.execute(request, body);
+		});
+
+		assertThrows(HttpServerErrorException.class, () -> rest.getForObject(baseUrl + "/flaky", String.class));
+		assertEquals("OPEN", clients.stats().get(0).getCircuit());
+
+		Thread.sleep(70);
+		explode.set(1);
+		assertThrows(IllegalStateException.class, () -> rest.getForObject(baseUrl + "/flaky", String.class));
+		// 시험 호출 실패로 다시 열림 (probing 이 남아 영원히 막히면 안 됨)
+		assertEquals("OPEN", clients.stats().get(0).getCircuit());
+
+		Thread.sleep(70);
+		assertEquals("ok", rest.getForObject(baseUrl + "/flaky", String.class));
+		assertEquals("CLOSED", clients.stats().get(0).getCircuit());
+		assertEquals(2, flakyHits.get());
+		assertEquals(2, metrics.snapshot().get(0).getErrors());
+	}
+
+	@Test
+	void readTimeoutFailsFast() {
+		RestTemplate rest = clients.create(settings("stub").maxRetries(0).build(), request -> "slow");
+
+		long start = System.nanoTime();
+		assertThrows(ResourceAccessException.class, () -> rest.getForObject(baseUrl + "/slow", String.class));
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+		assertTrue(elapsedMs < 900, "read 타임아웃(300ms) 안에 끊겨야 함: " + elapsedMs + "ms");
+		assertEquals(1, metrics.snapshot().get(0).getErrors());
+	}
+
+	@Test
+	void retryBudgetLimitsRetriesUnderSustainedFailure() {
+		failFirst.set(Integer.MAX_VALUE);
+		RestTemplate rest = clients.create(
+				settings("stub").maxRetries(2).retryBudgetRatio(0.1).failureThreshold(1_000).build(),
+				request -> "get");
+
+		int calls = 50;
+		for (int i = 0; i < calls; i++) {
+			assertThrows(HttpServerErrorException.class, () -> rest.getForObject(baseUrl + "/flaky", String.class));
+		}
+
+		DownstreamStats stats = clients.stats().get(0);
+		// 초기 적립분(10) + 요청당 0.1 → 재시도는 요청 수보다 훨씬 적어야 한다
+		assertTrue(stats.getRetries() <= 10 + calls * 0.1 + 1, "retries=" + stats.getRetries());
+		assertTrue(stats.getBudgetExhausted() > 0);
+		assertEquals(calls + stats.getRetries(), flakyHits.get());
+	}
+}